@@ -0,0 +1,52 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import server.controller.contract.BinaryCodec;
+import server.controller.contract.ProtocolTokenizer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes the game information of a turn (BGI) as text line and as binary frame. Decoding ends with the
+ * fields of the line in a reused tokenizer, the way a handler receives them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryCodecBenchmark {
+    private static final String BGI = "BGI|RED 7|RED 7;BLUE SKIP;WILD PICK;GREEN DRAW_2;YELLOW 0;BLUE 4;RED REVERSE;"
+            + "|alice:7:0;bot1:7:120;bot2:3:0;|true";
+    private byte[] text;
+    private byte[] frame;
+    private final ProtocolTokenizer tokens = new ProtocolTokenizer();
+
+    @Setup
+    public void setUp() {
+        text = (BGI + "\n").getBytes(StandardCharsets.UTF_8);
+        frame = BinaryCodec.encode(BGI);
+    }
+
+    @Benchmark
+    public byte[] encodeText() {
+        return (BGI + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return BinaryCodec.encode(BGI);
+    }
+
+    @Benchmark
+    public ProtocolTokenizer decodeText() {
+        return tokens.reset(new String(text, 0, text.length - 1, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public ProtocolTokenizer decodeBinary() {
+        return BinaryCodec.decode(frame, 2, frame.length - 2, tokens);
+    }
+}
@@ -0,0 +1,32 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import server.model.player.ComputerPlayer;
+import server.model.table.Table;
+import server.model.table.gameModes.Normal;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lets the current computer player pick its move for a fixed table, the table is not changed by picking.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComputerPlayerBenchmark {
+    private ComputerPlayer bot;
+
+    @Setup
+    public void setUp() {
+        Table table = Fixtures.table(new Normal(), Fixtures.bots(3));
+        bot = (ComputerPlayer) table.getCurrentPlayer();
+    }
+
+    @Benchmark
+    public String translator() {
+        return bot.translator();
+    }
+}
@@ -0,0 +1,44 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import server.model.deck.Deck;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds and shuffles a new deck, and reshuffles a discard pile that holds the whole deck.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+    private SplittableRandom random;
+    private Deck deck;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(Fixtures.SEED);
+        deck = new Deck(new SplittableRandom(Fixtures.SEED));
+    }
+
+    @Benchmark
+    public Deck construct() {
+        return new Deck(random);
+    }
+
+    /**
+     * Moves every card to the discard pile and reshuffles it back.
+     */
+    @Benchmark
+    public Deck discardAllAndReShuffle() {
+        while (!deck.getPlayingCards().isEmpty()) {
+            deck.getUsedCards().add(deck.draw());
+        }
+        deck.reShuffle();
+        return deck;
+    }
+}
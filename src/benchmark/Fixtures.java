@@ -0,0 +1,118 @@
+package benchmark;
+
+import server.controller.Server;
+import server.controller.ServerHandler;
+import server.controller.UNO;
+import server.model.card.Card;
+import server.model.player.ComputerPlayer;
+import server.model.player.NetworkPlayer;
+import server.model.player.factory.Player;
+import server.model.table.Table;
+import server.model.table.gameModes.factory.PlayingMode;
+import server.view.SilentTUI;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+/**
+ * Shared set up of the benchmarks: seeded silent tables and a handler that keeps its messages instead of sending them.
+ */
+final class Fixtures {
+    static final long SEED = 42;
+    private static final PrintStream CONSOLE = System.out;
+
+    private Fixtures() {
+    }
+
+    /**
+     * Creates a seeded table with a silent game, the players are dealt their hands and the first card is on the table.
+     *
+     * @param mode    the playing mode
+     * @param players the players at the table
+     * @return the table
+     */
+    static Table table(PlayingMode mode, ArrayList<Player> players) {
+        UNO uno = new UNO(new SplittableRandom(SEED), new SilentTUI());
+        Table table = new Table(players, mode, uno);
+        uno.setPlayers(players);
+        uno.setTable(table);
+        for (Player player : players) {
+            player.setTable(table);
+            player.setUNO(uno);
+        }
+        return table;
+    }
+
+    /**
+     * Creates a list of computer players.
+     *
+     * @param amount the number of players
+     * @return the players
+     */
+    static ArrayList<Player> bots(int amount) {
+        ArrayList<Player> players = new ArrayList<>();
+        for (int i = 0; i < amount; i++) {
+            players.add(new ComputerPlayer("bot" + (i + 1)));
+        }
+        return players;
+    }
+
+    /**
+     * Returns one card of every face, wild cards included.
+     */
+    static Card[] allFaces() {
+        ArrayList<Card> faces = new ArrayList<>();
+        for (Card.Color color : Card.Color.values()) {
+            for (Card.Value value : Card.Value.values()) {
+                boolean wild = value == Card.Value.DRAW_FOUR || value == Card.Value.PICK_COLOR;
+                if (wild == (color == Card.Color.WILD)) {
+                    faces.add(Card.of(color, value));
+                }
+            }
+        }
+        return faces.toArray(new Card[0]);
+    }
+
+    /**
+     * Discards everything written to System.out, the engine still prints on some paths.
+     */
+    static void silenceConsole() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    /**
+     * Writes to the console again after {@link #silenceConsole()}.
+     */
+    static void restoreConsole() {
+        System.setOut(CONSOLE);
+    }
+
+    /**
+     * A network player whose handler keeps the last message instead of writing it to a connection.
+     */
+    static final class CapturingHandler extends ServerHandler {
+        String last;
+
+        CapturingHandler(Server server) {
+            super(null, server);
+        }
+
+        @Override
+        public void sendMessage(String message) {
+            this.last = message;
+        }
+    }
+
+    /**
+     * Creates a network player that talks to a capturing handler.
+     *
+     * @param nickname the nickname
+     * @param handler  the handler
+     * @return the player
+     */
+    static NetworkPlayer networkPlayer(String nickname, CapturingHandler handler) {
+        return new NetworkPlayer(nickname, handler);
+    }
+}
@@ -0,0 +1,54 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import server.model.card.Card;
+import server.model.player.factory.Player;
+import server.model.table.Table;
+import server.model.table.gameModes.Normal;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draws cards from the deck and plays them. Cards only move between the deck, the hands and the discard pile, so the
+ * state stays bounded; it is rebuilt before every iteration so all iterations start alike.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+    private Table table;
+    private Player player;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        table = Fixtures.table(new Normal(), Fixtures.bots(3));
+        player = table.getCurrentPlayer();
+    }
+
+    /**
+     * Draws one card and puts it back under the deck.
+     */
+    @Benchmark
+    public Card draw() {
+        player.draw(1);
+        ArrayList<Card> hand = player.getHand();
+        Card card = hand.remove(hand.size() - 1);
+        table.getDeck().getPlayingCards().add(card);
+        return card;
+    }
+
+    /**
+     * Draws one card and plays it, including the action of the card.
+     */
+    @Benchmark
+    public Card drawAndPlay() {
+        player.draw(1);
+        Card card = player.getHand().get(player.getHand().size() - 1);
+        player.playCard(card);
+        return card;
+    }
+}
@@ -0,0 +1,69 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import server.controller.Simulator;
+import server.model.card.Card;
+import server.model.table.Table;
+import server.model.table.gameModes.factory.PlayingMode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks every card face against the table with {@code PlayingMode.validMove}, and with one lookup of the playable
+ * faces followed by a bit test per card, for each mode.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayingModeBenchmark {
+    @Param({"normal", "progressive", "sevenZero"})
+    public String mode;
+
+    private Table table;
+    private Card[] faces;
+
+    @Setup
+    public void setUp() {
+        table = Fixtures.table(Simulator.modeFor(mode).get(), Fixtures.bots(3));
+        faces = Fixtures.allFaces();
+    }
+
+    @Benchmark
+    public void validMove(Blackhole bh) {
+        for (Card card : faces) {
+            bh.consume(table.getPlayingMode().validMove(card, table));
+        }
+    }
+
+    @Benchmark
+    public void playableFaces(Blackhole bh) {
+        PlayingMode playingMode = table.getPlayingMode();
+        long playable = playingMode.playableFaces(table);
+        for (Card card : faces) {
+            bh.consume(playingMode.validMove(card, playable, table));
+        }
+    }
+
+    /**
+     * Counts the playable faces once with validMove per card and once with the AND of the playable faces.
+     */
+    @Benchmark
+    public int countValidMove() {
+        int count = 0;
+        for (Card card : faces) {
+            if (table.getPlayingMode().validMove(card, table)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int countPlayableFaces() {
+        return Long.bitCount(table.getPlayingMode().playableFaces(table));
+    }
+}
@@ -0,0 +1,40 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import server.model.player.strategy.Playout;
+import server.model.table.Table;
+import server.model.table.gameModes.Normal;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deals a position and plays it to the end with random moves, the inner loop of the Monte Carlo bot engine.
+ * Run it with {@code -prof gc} to check that a playout allocates nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayoutBenchmark {
+    @Param({"2", "4"})
+    public int seats;
+
+    private Playout.Position position;
+    private final Playout PLAYOUT = new Playout();
+    private final SplittableRandom RANDOM = new SplittableRandom(Fixtures.SEED);
+
+    @Setup
+    public void setUp() {
+        Table table = Fixtures.table(new Normal(), Fixtures.bots(seats));
+        position = new Playout.Position(table.getCurrentPlayer(), table);
+    }
+
+    @Benchmark
+    public int playout() {
+        PLAYOUT.deal(position, RANDOM);
+        return PLAYOUT.finish();
+    }
+}
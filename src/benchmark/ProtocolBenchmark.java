@@ -0,0 +1,77 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import server.controller.Server;
+import server.model.player.NetworkPlayer;
+import server.model.player.factory.Player;
+import server.model.table.gameModes.Normal;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes the game information of a turn (BGI) and parses received protocol lines in the server handler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtocolBenchmark {
+    private Fixtures.CapturingHandler handler;
+    private NetworkPlayer player;
+
+    @Setup
+    public void setUp() {
+        Fixtures.silenceConsole();
+        handler = new Fixtures.CapturingHandler(new Server());
+        player = Fixtures.networkPlayer("human", handler);
+        ArrayList<Player> players = Fixtures.bots(2);
+        players.add(0, player);
+        Fixtures.table(new Normal(), players);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Fixtures.restoreConsole();
+    }
+
+    /**
+     * A handler after a successful handshake and the line it receives.
+     */
+    @State(Scope.Thread)
+    public static class Received {
+        /**
+         * A play move that is rejected because the player is in no game, the lobby list and an unknown command.
+         */
+        @Param({"PC|RED 7", "LOL", "XX|a|b"})
+        public String line;
+
+        private Fixtures.CapturingHandler handler;
+
+        @Setup
+        public void setUp() {
+            Fixtures.silenceConsole();
+            handler = new Fixtures.CapturingHandler(new Server());
+            handler.receiveMessage("MH|bench|human_player");
+        }
+
+        @TearDown
+        public void tearDown() {
+            Fixtures.restoreConsole();
+        }
+    }
+
+    @Benchmark
+    public String broadcastTurn() {
+        player.broadcastTurn();
+        return handler.last;
+    }
+
+    @Benchmark
+    public String seperateAndCall(Received received) {
+        received.handler.receiveMessage(received.line);
+        return received.handler.last;
+    }
+}
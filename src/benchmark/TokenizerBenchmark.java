@@ -0,0 +1,50 @@
+package benchmark;
+
+import client.controller.contract.ClientProtocol.ClientCommand;
+import org.openjdk.jmh.annotations.*;
+import server.controller.contract.ProtocolTokenizer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the regular expression split the handlers used with the protocol tokenizer. Both find the command of a
+ * received line and copy its first argument, which is all a handler needs for most commands.
+ * Run with {@code -prof gc} to compare the allocation per line.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenizerBenchmark {
+    private static final ClientCommand[] COMMANDS = ClientCommand.values();
+    private final ProtocolTokenizer TOKENS = new ProtocolTokenizer();
+
+    /**
+     * A play move, a move without arguments and a handshake with a feature list.
+     */
+    @Param({"PC|RED 7", "DC", "MH|alice|human_player|delta"})
+    public String line;
+
+    @Benchmark
+    public String split() {
+        String[] splitted = line.split("[|]");
+        ClientCommand command = ClientCommand.valueOf(splitted[0]);
+        return splitted.length > 1 ? splitted[1] : command.name();
+    }
+
+    @Benchmark
+    public String tokenizer() {
+        ClientCommand command = TOKENS.reset(line).match(COMMANDS);
+        return TOKENS.size() > 1 ? TOKENS.get(1) : command.name();
+    }
+
+    /**
+     * Only matches the command, the work of the tokenizer for commands without arguments.
+     */
+    @Benchmark
+    public ClientCommand tokenizerCommandOnly() {
+        return TOKENS.reset(line).match(COMMANDS);
+    }
+}
@@ -2,122 +2,163 @@ package client.controller;
 
 import client.controller.contract.ClientProtocol;
 import client.view.ClientTUI;
+import server.controller.contract.BinaryCodec;
+import server.controller.contract.ProtocolTokenizer;
 import server.controller.contract.ServerProtocol;
+import server.controller.contract.ServerProtocol.ServerCommands;
 
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.net.Socket;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Scanner;
 
 public class ClientHandler implements ClientProtocol, Runnable {
     private boolean isAdmin;
     private boolean gameStarted;
     private final Socket CONNECTION;
-    private final BufferedReader IN;
+    private final BufferedInputStream IN;
+    private final OutputStream RAW_OUT;
     private final PrintWriter OUT;
     private boolean flag;
+    private volatile boolean binaryFrames;
     private final ClientTUI CT;
+    private String topCard = "";
+    private final ArrayList<String> HAND = new ArrayList<>();
+    private final LinkedHashMap<String, String> PLAYERS = new LinkedHashMap<>();
+    private final ProtocolTokenizer TOKENS = new ProtocolTokenizer();
+    private static final ServerCommands[] COMMANDS = ServerCommands.values();
 
     public ClientHandler(Socket connection) throws IOException {
         this.CONNECTION = connection;
         this.isAdmin = false;
-        IN = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-        OUT = new PrintWriter(connection.getOutputStream());
+        IN = new BufferedInputStream(connection.getInputStream());
+        RAW_OUT = connection.getOutputStream();
+        OUT = new PrintWriter(RAW_OUT);
         this.flag = true;
         this.CT = new ClientTUI(this);
     }
 
-    private synchronized void seperateAndCall(String input) {
-        String[] splitted = input.split("[|]");
+    private synchronized void seperateAndCall(ProtocolTokenizer tokens) {
         try {
-            switch (splitted[0]) {
-                case "AH":
+            ServerCommands command = tokens.match(COMMANDS);
+            if (command == null) {
+                CT.printCustomMessage(ServerProtocol.Errors.E001.getMessage());
+                return;
+            }
+            switch (command) {
+                case AH:
+                    this.binaryFrames = tokens.contains(1, ',', BinaryCodec.FEATURE);
                     handleAcceptHandshake();
                     break;
-                case "IAD":
+                case IAD:
                     handleInformAdmin();
                     break;
-                case "BPJ":
-                    handleBroadcastPlayerJoined(splitted[1]);
+                case BPJ:
+                    handleBroadcastPlayerJoined(tokens.get(1));
                     break;
-                case "GST":
-                    handleGameStarted(splitted[1]);
+                case GST:
+                    handleGameStarted(tokens.get(1));
                     break;
-                case "RST":
+                case RST:
                     handleRoundStarted();
                     break;
-                case "BGI":
-                    handleBroadcastGameInformation(splitted[1], splitted[2], splitted[3], splitted[4]);
+                case BGI:
+                    rememberGameInformation(tokens.get(1), tokens.get(2), tokens.get(3));
+                    handleBroadcastGameInformation(tokens.get(1), tokens.get(2), tokens.get(3), tokens.get(4));
+                    break;
+                case BGD:
+                    handleBroadcastGameDelta(tokens.get(1), tokens.get(2), tokens.get(3), tokens.get(4), tokens.get(5));
                     break;
-                case "BCP":
-                    handleBroadcastCardPlayed(splitted[1], splitted[2]);
+                case BCP:
+                    handleBroadcastCardPlayed(tokens.get(1), tokens.get(2));
                     break;
-                case "BDC":
-                    handleBroadcastDrewCard(splitted[1]);
+                case BDC:
+                    handleBroadcastDrewCard(tokens.get(1));
                     break;
-                case "BTS":
-                    handleBroadcastTurnSkipped(splitted[1]);
+                case BTS:
+                    handleBroadcastTurnSkipped(tokens.get(1));
                     break;
-                case "BRS":
-                    handleBroadcastReverse(splitted[1]);
+                case BRS:
+                    handleBroadcastReverse(tokens.get(1));
                     break;
-                case "BLG":
-                    handleBroadcastLeftGame(splitted[1]);
+                case BLG:
+                    handleBroadcastLeftGame(tokens.get(1));
                     break;
-                case "RP":
-                    handleRemindPlay(splitted[1]);
+                case RP:
+                    handleRemindPlay(tokens.get(1));
                     break;
-                case "RE":
-                    handleRoundEnded(splitted[1]);
+                case RE:
+                    handleRoundEnded(tokens.get(1));
                     break;
-                case "GE":
-                    handleGameEnded(splitted[1]);
+                case GE:
+                    handleGameEnded(tokens.get(1));
                     break;
-                case "ERR":
-                    handleSendErrorCode(splitted[1]);
+                case ERR:
+                    handleSendErrorCode(tokens.get(1));
                     break;
-                case "LOL":
-                    handleBroadcastListOfLobbies(splitted[1]);
+                case LOL:
+                    handleBroadcastListOfLobbies(tokens.get(1));
                     break;
-                case "BCL":
-                    handleBroadcastCreatedLobby(splitted[1]);
+                case BCL:
+                    handleBroadcastCreatedLobby(tokens.get(1));
                     break;
-                case "BJL":
-                    handleBroadcastPlayerJoinedLobby(splitted[1]);
+                case BJL:
+                    handleBroadcastPlayerJoinedLobby(tokens.get(1));
                     break;
-                case "AC":
+                case AC:
                     handleAskColor();
                     break;
-                case "DPC":
-                    handleDrewPlayableCard(splitted[1]);
+                case DPC:
+                    handleDrewPlayableCard(tokens.get(1));
                     break;
-                case "BCC":
-                    handleBroadcastColorChange(splitted[1]);
+                case BCC:
+                    handleBroadcastColorChange(tokens.get(1));
                     break;
-                case "BUNO":
+                case BUNO:
                     handleBroadcastSayUNO();
                     break;
-                case "BGM":
-                    handleBroadcastGameMessage(splitted[1]);
+                case BGM:
+                    handleBroadcastGameMessage(tokens.get(1));
                     break;
-                case "AC7":
+                case AC7:
                     handleAskChoiceSeven();
                     break;
-                case "BM":
-                    handleBroadcastMessage(splitted[1]);
+                case BM:
+                    handleBroadcastMessage(tokens.get(1));
                     break;
                 default:
                     CT.printCustomMessage(ServerProtocol.Errors.E001.getMessage());
+                    break;
             }
         } catch (IndexOutOfBoundsException e) {
             CT.printCustomMessage("Command not recognized");
         }
     }
 
+    /**
+     * Sends a message, as binary frame once the server accepted the binary feature and as text line otherwise.
+     *
+     * @param messageOut the message without line terminator
+     */
     public void sendMessage(String messageOut) {
+        if (binaryFrames) {
+            try {
+                byte[] frame = BinaryCodec.frameOrLine(messageOut);
+                synchronized (RAW_OUT) {
+                    RAW_OUT.write(frame);
+                    RAW_OUT.flush();
+                }
+            } catch (IOException e) {
+                CT.printCustomMessage("An error occured during transmission.");
+            }
+            return;
+        }
         OUT.println(messageOut);
         OUT.flush();
         if (OUT.checkError()) {
@@ -126,16 +167,18 @@ public class ClientHandler implements ClientProtocol, Runnable {
     }
 
     public void receiveMessage() throws IOException {
-        String messageIn = "";
+        ProtocolTokenizer tokens;
         try {
-            messageIn = IN.readLine();
-            if (messageIn == null) {
+            tokens = BinaryCodec.read(IN, TOKENS);
+            if (tokens == null) {
                 closeConnection();
+                return;
             }
         } catch (IOException e) {
             sendMessage(ServerProtocol.Errors.E001.getMessage());
+            tokens = TOKENS.reset("");
         }
-        seperateAndCall(messageIn);
+        seperateAndCall(tokens);
     }
 
     public void closeConnection() throws IOException {
@@ -255,6 +298,63 @@ public class ClientHandler implements ClientProtocol, Runnable {
         }
     }
 
+    /**
+     * Keeps the game information of a BGI, later BGD messages are applied to it.
+     */
+    private void rememberGameInformation(String topCard, String playerHand, String playersList) {
+        this.topCard = topCard;
+        HAND.clear();
+        for (String card : playerHand.split(";")) {
+            if (!card.isEmpty()) {
+                HAND.add(card);
+            }
+        }
+        PLAYERS.clear();
+        putPlayers(playersList);
+    }
+
+    private void putPlayers(String playersList) {
+        for (String entry : playersList.split(";")) {
+            if (!entry.isEmpty()) {
+                PLAYERS.put(entry.substring(0, entry.indexOf(':')), entry);
+            }
+        }
+    }
+
+    /**
+     * This method handles the message being sent by the broadcast game information delta method (BGD).
+     *
+     * @param topCard        of type {@code String} representing the new top card, empty if it did not change
+     * @param addedCards     of type {@code String} representing the cards added to the hand
+     * @param removedCards   of type {@code String} representing the cards removed from the hand
+     * @param changedPlayers of type {@code String} representing the players whose number of cards or score changed
+     * @param isYourTurn     of type {@code String} indicates if it is the player’s turn
+     */
+    @Override
+    public void handleBroadcastGameDelta(String topCard, String addedCards, String removedCards, String changedPlayers, String isYourTurn) {
+        if (!topCard.isEmpty()) {
+            this.topCard = topCard;
+        }
+        for (String card : removedCards.split(";")) {
+            HAND.remove(card);
+        }
+        for (String card : addedCards.split(";")) {
+            if (!card.isEmpty()) {
+                HAND.add(card);
+            }
+        }
+        putPlayers(changedPlayers);
+        StringBuilder playerHand = new StringBuilder();
+        for (String card : HAND) {
+            playerHand.append(card).append(';');
+        }
+        StringBuilder playersList = new StringBuilder();
+        for (Map.Entry<String, String> entry : PLAYERS.entrySet()) {
+            playersList.append(entry.getValue()).append(';');
+        }
+        handleBroadcastGameInformation(this.topCard, playerHand.toString(), playersList.toString(), isYourTurn);
+    }
+
     /**
      * This method handles the message being sent by the broadcast card played (BCP).
      *
@@ -495,7 +595,7 @@ public class ClientHandler implements ClientProtocol, Runnable {
      */
     @Override
     public void doMakeHandshake(String playerName, String playerType) {
-        String hs = "MH|" + playerName + "|" + playerType;
+        String hs = "MH|" + playerName + "|" + playerType + "|" + ServerProtocol.FEATURE_DELTA + "," + BinaryCodec.FEATURE;
         sendMessage(hs);
     }
 
@@ -510,7 +610,7 @@ public class ClientHandler implements ClientProtocol, Runnable {
     @Override
     public void doAddComputerPlayer(String playerName, String strategy) {
         if (isAdmin) {
-            String result = "ACP|" + playerName;
+            String result = strategy == null || strategy.isEmpty() ? "ACP|" + playerName : "ACP|" + playerName + "|" + strategy;
             sendMessage(result);
         }
     }
@@ -37,7 +37,8 @@ public class InputListener implements Runnable {
      * If it is "cl", a lobby is created by calling `doCreateLobby` with the second element as an argument.
      * If it is "jl", a player joins a lobby by calling `doJoinLobby` with the second element as an argument.
      * If the type of query is not recognized, an error message is printed.
-     * If the length of the array is not 1 or 2, an error message is printed.
+     * If the length of the array is 3 and the query is "acp", a computer player is added with the third element as its strategy.
+     * Otherwise an error message is printed.
      *
      * @param input The input provided by the user
      */
@@ -66,6 +67,8 @@ public class InputListener implements Runnable {
                 default:
                     System.out.println("Query not recognized. Please try one of the listed methods: start, lol, cl|[lobbyname], jl|[lobbyname]");
             }
+        } else if (spl.length == 3 && spl[0].equals("acp")) {
+            CH.doAddComputerPlayer(spl[1], spl[2]);
         } else {
             System.out.println("Invalid command. Try again!");
         }
@@ -81,6 +81,18 @@ public interface ClientProtocol {
      */
     void handleBroadcastGameInformation(String topCard, String playerHand, String playersList, String isYourTurn);
 
+    /**
+     * This method handles the message being sent by the broadcast game information delta method (BGD).
+     * The changes are applied to the game information of the last BGI and the result is handled like a BGI.
+     *
+     * @param topCard        of type {@code String} representing the new top card, empty if it did not change
+     * @param addedCards     of type {@code String} representing the cards added to the hand
+     * @param removedCards   of type {@code String} representing the cards removed from the hand
+     * @param changedPlayers of type {@code String} representing the players whose number of cards or score changed
+     * @param isYourTurn     of type {@code String} indicates if it is the player’s turn
+     */
+    void handleBroadcastGameDelta(String topCard, String addedCards, String removedCards, String changedPlayers, String isYourTurn);
+
     /**
      * This method handles the message being sent by the broadcast card played (BCP).
      *
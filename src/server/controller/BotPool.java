@@ -0,0 +1,247 @@
+package server.controller;
+
+import server.view.Log;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The threads that think for the computer players of all games on a server.
+ * <p>
+ * A decision (the card or the color a computer player chooses) runs on a work-stealing pool with a fixed number of
+ * threads, so bots never use more cores than the pool has, however many bot games are running. Searching strategies
+ * hand their helper workers to the same pool, see {@link #getExecutor()}.
+ * Every decision has a deadline: the time budget of its strategy plus a grace period. A decision that is not done by
+ * then is answered by the fallback, the greedy move, and a decision that had not started yet is dropped. At most a
+ * bounded number of decisions wait for a thread, further decisions get the fallback right away.
+ * A decision reads nothing of its game: its strategy prepared it on the thread of the game, see
+ * {@link server.model.player.contract.Strategy#prepareMove}, so the game may go on while it runs, e.g. when a player
+ * leaves. A decision that overruns its deadline keeps running until its strategy stops and its result is ignored,
+ * until then further decisions of the same strategy get the fallback. Searching strategies count their time budget
+ * from the moment they were prepared, so a decision that starts late stops in time as well.
+ */
+public class BotPool {
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int FINISHED = 2;
+
+    private final ForkJoinPool POOL;
+    private final int CAPACITY;
+    private final long GRACE_NANOS;
+    private final AtomicInteger PENDING = new AtomicInteger();
+    private final AtomicLong DECISIONS = new AtomicLong();
+    private final AtomicLong FALLBACKS = new AtomicLong();
+
+    //--------------------------CONSTRUCTOR--------------------------
+
+    /**
+     * Creates a pool.
+     *
+     * @param threads     the number of threads that think for bots
+     * @param capacity    the most decisions that wait for a thread
+     * @param graceMillis the time a decision may take beyond the budget of its strategy
+     */
+    public BotPool(int threads, int capacity, long graceMillis) {
+        AtomicInteger count = new AtomicInteger();
+        this.POOL = new ForkJoinPool(Math.max(1, threads), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("bot-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, true);
+        this.CAPACITY = capacity;
+        this.GRACE_NANOS = TimeUnit.MILLISECONDS.toNanos(graceMillis);
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Makes a decision on the pool and waits for it, used by games that have a thread of their own.
+     *
+     * @param thinking    set while a decision of the same strategy runs, a strategy that is still busy gets the fallback
+     * @param decision    the decision
+     * @param fallback    answers on the calling thread if the decision misses its deadline or fails
+     * @param budgetNanos the time budget of the strategy
+     * @return the result of the decision, or of the fallback
+     */
+    public <T> T decide(AtomicBoolean thinking, Supplier<T> decision, Supplier<T> fallback, long budgetNanos) {
+        Decision<T> task = submit(thinking, decision);
+        T result = null;
+        if (task != null) {
+            try {
+                result = task.RESULT.get(deadline(budgetNanos), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                task.abandon();
+            } catch (ExecutionException e) {
+                Log.warn("A bot decision failed: " + e.getCause());
+            } catch (InterruptedException e) {
+                task.abandon();
+                Thread.currentThread().interrupt();
+            }
+        }
+        return result != null ? result : fallback(fallback);
+    }
+
+    /**
+     * Makes a decision on the pool without waiting for it, used by event driven games.
+     *
+     * @param thinking    set while a decision of the same strategy runs, a strategy that is still busy gets the fallback
+     * @param decision    the decision
+     * @param budgetNanos the time budget of the strategy
+     * @param game        runs the answer on the thread of the game
+     * @param answer      gets the result, or null if the decision missed its deadline or failed, the caller then
+     *                    applies its fallback
+     */
+    public <T> void decide(AtomicBoolean thinking, Supplier<T> decision, long budgetNanos, Executor game, Consumer<T> answer) {
+        Decision<T> task = submit(thinking, decision);
+        if (task == null) {
+            fallback();
+            game.execute(() -> answer.accept(null));
+            return;
+        }
+        task.RESULT.completeOnTimeout(null, deadline(budgetNanos), TimeUnit.NANOSECONDS)
+                .exceptionally(e -> {
+                    Log.warn("A bot decision failed: " + e);
+                    return null;
+                })
+                .thenAccept(result -> {
+                    if (result == null) {
+                        task.abandon();
+                        fallback();
+                    }
+                    game.execute(() -> answer.accept(result));
+                });
+    }
+
+    /**
+     * Queues a decision unless the queue is full or the strategy is still busy with an overrun decision.
+     *
+     * @return the queued decision, or null if it was refused
+     */
+    private <T> Decision<T> submit(AtomicBoolean thinking, Supplier<T> decision) {
+        DECISIONS.incrementAndGet();
+        if (!thinking.compareAndSet(false, true)) {
+            Log.debug("Bot still thinking, falling back to the greedy move");
+            return null;
+        }
+        if (PENDING.incrementAndGet() > CAPACITY) {
+            PENDING.decrementAndGet();
+            thinking.set(false);
+            Log.debug("Bot pool full, falling back to the greedy move");
+            return null;
+        }
+        Decision<T> task = new Decision<>(thinking, decision);
+        POOL.execute(task);
+        return task;
+    }
+
+    /**
+     * @return the time a decision with the given budget may take
+     */
+    private long deadline(long budgetNanos) {
+        return budgetNanos > Long.MAX_VALUE - GRACE_NANOS ? Long.MAX_VALUE : budgetNanos + GRACE_NANOS;
+    }
+
+    private <T> T fallback(Supplier<T> fallback) {
+        fallback();
+        return fallback.get();
+    }
+
+    private void fallback() {
+        FALLBACKS.incrementAndGet();
+    }
+
+    /**
+     * Stops the threads of the pool, decisions still waiting are dropped.
+     */
+    public void shutdown() {
+        POOL.shutdownNow();
+    }
+
+    //--------------------------GETTERS--------------------------
+
+    /**
+     * @return runs the helper workers of searching strategies on the threads of this pool
+     */
+    public Executor getExecutor() {
+        return POOL;
+    }
+
+    public int getThreads() {
+        return POOL.getParallelism();
+    }
+
+    /**
+     * @return the number of decisions that were asked for
+     */
+    public long getDecisions() {
+        return DECISIONS.get();
+    }
+
+    /**
+     * @return the number of decisions that were answered by the fallback
+     */
+    public long getFallbacks() {
+        return FALLBACKS.get();
+    }
+
+    /**
+     * A decision waiting for or running on a thread of the pool.
+     */
+    private final class Decision<T> implements Runnable {
+        private final AtomicBoolean THINKING;
+        private final Supplier<T> DECISION;
+        private final CompletableFuture<T> RESULT = new CompletableFuture<>();
+        private final AtomicInteger STATE = new AtomicInteger(QUEUED);
+
+        Decision(AtomicBoolean thinking, Supplier<T> decision) {
+            this.THINKING = thinking;
+            this.DECISION = decision;
+        }
+
+        /**
+         * Drops the decision if it has not started yet.
+         */
+        void abandon() {
+            if (STATE.compareAndSet(QUEUED, FINISHED)) {
+                PENDING.decrementAndGet();
+                THINKING.set(false);
+            }
+        }
+
+        /**
+         * Makes the decision, the strategy is free again before the game sees the result.
+         */
+        @Override
+        public void run() {
+            if (!STATE.compareAndSet(QUEUED, RUNNING)) {
+                return;
+            }
+            T result = null;
+            RuntimeException failure = null;
+            try {
+                result = DECISION.get();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            STATE.set(FINISHED);
+            PENDING.decrementAndGet();
+            THINKING.set(false);
+            if (failure != null) {
+                RESULT.completeExceptionally(failure);
+            } else {
+                RESULT.complete(result);
+            }
+        }
+    }
+}
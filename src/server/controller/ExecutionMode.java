@@ -0,0 +1,77 @@
+package server.controller;
+
+import server.view.Log;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The kind of threads the server uses for its handlers and game loops.
+ * <p>
+ * PLATFORM uses a cached pool of ordinary threads. VIRTUAL starts one virtual thread per task, so a game loop that is
+ * parked waiting for a move (up to 45 seconds) only keeps a small heap object alive instead of a whole thread stack.
+ * Virtual threads need Java 21 or newer; the executor is looked up reflectively so the project still builds on Java 11.
+ */
+public enum ExecutionMode {
+    PLATFORM, VIRTUAL;
+
+    /**
+     * Parses the startup argument of the server, defaulting to PLATFORM.
+     *
+     * @param arg the argument, either "platform" or "virtual", may be null
+     * @return the matching mode
+     */
+    public static ExecutionMode fromArgument(String arg) {
+        if (arg != null && arg.equalsIgnoreCase("virtual")) {
+            return VIRTUAL;
+        }
+        return PLATFORM;
+    }
+
+    /**
+     * Determines if this mode can be used by the running JVM.
+     *
+     * @return true if the executor for this mode can be created
+     */
+    public boolean isSupported() {
+        return this == PLATFORM || virtualExecutorFactory() != null;
+    }
+
+    /**
+     * Creates the executor that runs handlers and game loops in this mode.
+     * If virtual threads are not available, it falls back to platform threads.
+     *
+     * @param name prefix for the names of platform threads
+     * @return a new executor service
+     */
+    public ExecutorService createExecutor(String name) {
+        if (this == VIRTUAL) {
+            Method factory = virtualExecutorFactory();
+            if (factory != null) {
+                try {
+                    return (ExecutorService) factory.invoke(null);
+                } catch (ReflectiveOperationException e) {
+                    Log.warn("Virtual threads couldn't be started, using platform threads.");
+                }
+            } else {
+                Log.warn("Virtual threads need Java 21 or newer, using platform threads.");
+            }
+        }
+        AtomicInteger threads = new AtomicInteger();
+        return Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, name + "-" + threads.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private static Method virtualExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package server.controller;
+
+/**
+ * The states of an event driven game of UNO.
+ * <p>
+ * A game waits in exactly one of these states for the next protocol event of one player, every other event for that
+ * game is rejected.
+ */
+public enum GameState {
+    AWAITING_MOVE, AWAITING_COLOR, AWAITING_SEVEN_SWAP, AWAITING_RETAIN_DECISION, GAME_OVER
+}
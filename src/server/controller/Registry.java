@@ -0,0 +1,163 @@
+package server.controller;
+
+import server.model.Lobby;
+import server.model.player.ComputerPlayer;
+import server.model.player.factory.Player;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe registry of the lobbies, players and handlers of a server, keyed by name.
+ * <p>
+ * Every lookup is a single hash map read that takes no lock, so finding the lobby of a player costs the same with one
+ * lobby or thousands. Handlers of many threads can register and look things up concurrently.
+ * The player list of a lobby is only changed while holding that lobby's monitor, so checking its capacity and joining
+ * it cannot interleave with another join.
+ */
+public class Registry {
+    private final ConcurrentHashMap<String, Lobby> LOBBIES = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Player> PLAYERS = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Lobby> PLAYER_LOBBIES = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ServerHandler> HANDLERS_BY_NAME = new ConcurrentHashMap<>();
+    private final Set<ServerHandler> HANDLERS = ConcurrentHashMap.newKeySet();
+
+    //--------------------------LOBBIES--------------------------
+
+    /**
+     * Adds a lobby unless a lobby with the same name exists.
+     *
+     * @param lobby the lobby to add
+     * @return true if the lobby was added
+     */
+    public boolean addLobby(Lobby lobby) {
+        return LOBBIES.putIfAbsent(lobby.getName(), lobby) == null;
+    }
+
+    public Lobby getLobby(String lobbyName) {
+        return LOBBIES.get(lobbyName);
+    }
+
+    public Collection<Lobby> getLobbies() {
+        return LOBBIES.values();
+    }
+
+    //--------------------------PLAYERS--------------------------
+
+    /**
+     * Reserves a nickname for a player, nicknames are unique on the whole server.
+     *
+     * @param player the player that wants to use its nickname
+     * @return true if the nickname was still free
+     */
+    public boolean claimName(Player player) {
+        return PLAYERS.putIfAbsent(player.getNickname(), player) == null;
+    }
+
+    /**
+     * Determines if a nickname is in use by a human or computer player.
+     *
+     * @param nickname the nickname
+     * @return true if the nickname is taken
+     */
+    public boolean isNameTaken(String nickname) {
+        return PLAYERS.containsKey(nickname);
+    }
+
+    /**
+     * Adds a player to a lobby and remembers the lobby for the player.
+     *
+     * @param player the player that joins
+     * @param lobby  the lobby to join
+     */
+    public void join(Player player, Lobby lobby) {
+        join(player, lobby, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Adds a player to a lobby unless the lobby is full, checking the capacity and joining in one step.
+     *
+     * @param player   the player that joins
+     * @param lobby    the lobby to join
+     * @param capacity the most players the lobby may hold
+     * @return true if the player joined
+     */
+    public boolean join(Player player, Lobby lobby, int capacity) {
+        synchronized (lobby) {
+            if (lobby.getPlayers().size() >= capacity) {
+                return false;
+            }
+            lobby.addPlayer(player);
+        }
+        PLAYER_LOBBIES.put(player.getNickname(), lobby);
+        return true;
+    }
+
+    /**
+     * Removes a player from its lobby, if it is in one. A computer player only exists in its lobby, so its nickname
+     * is freed as well.
+     *
+     * @param player the player that leaves
+     */
+    public void leave(Player player) {
+        Lobby lobby = PLAYER_LOBBIES.remove(player.getNickname());
+        if (lobby != null) {
+            synchronized (lobby) {
+                lobby.getPlayers().remove(player);
+            }
+        }
+        if (player instanceof ComputerPlayer) {
+            PLAYERS.remove(player.getNickname(), player);
+        }
+    }
+
+    /**
+     * Removes a player from its lobby and frees its nickname.
+     *
+     * @param player the player that is gone
+     */
+    public void forget(Player player) {
+        leave(player);
+        PLAYERS.remove(player.getNickname(), player);
+        HANDLERS_BY_NAME.remove(player.getNickname());
+    }
+
+    /**
+     * Looks up the lobby of a player.
+     *
+     * @param player the player
+     * @return the lobby, or null if the player did not join one
+     */
+    public Lobby lobbyOf(Player player) {
+        return PLAYER_LOBBIES.get(player.getNickname());
+    }
+
+    //--------------------------HANDLERS--------------------------
+
+    public void addHandler(ServerHandler handler) {
+        HANDLERS.add(handler);
+    }
+
+    /**
+     * Makes a handler findable by the nickname of its player, once the handshake succeeded.
+     *
+     * @param nickname the nickname of the player of the handler
+     * @param handler  the handler
+     */
+    public void nameHandler(String nickname, ServerHandler handler) {
+        HANDLERS_BY_NAME.put(nickname, handler);
+    }
+
+    public void removeHandler(ServerHandler handler) {
+        HANDLERS.remove(handler);
+    }
+
+    public ServerHandler getHandler(String nickname) {
+        return HANDLERS_BY_NAME.get(nickname);
+    }
+
+    public Collection<ServerHandler> getHandlers() {
+        return HANDLERS;
+    }
+}
@@ -1,118 +1,244 @@
 package server.controller;
 
+import server.controller.events.EventLog;
+import server.controller.network.NetworkEngine;
 import server.model.player.factory.Player;
+import server.model.player.strategy.StrategyRegistry;
 import server.model.Lobby;
+import server.view.Log;
 
 import java.io.IOException;
-import java.net.ServerSocket;
-import java.net.Socket;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
 public class Server implements Runnable {
     public Server() {
-        LOBBIES = new ArrayList<>();
-        Lobby l = new Lobby("main");
-        LOBBIES.add(l);
-        CURRENT_GAMES = new ArrayList<>();
+        this(ExecutionMode.PLATFORM);
+    }
+
+    public Server(ExecutionMode mode) {
+        this(mode, true);
+    }
+
+    public Server(ExecutionMode mode, boolean eventDriven) {
+        REGISTRY = new Registry();
+        REGISTRY.addLobby(new Lobby(MAIN_LOBBY));
+        CURRENT_GAMES = ConcurrentHashMap.newKeySet();
+        this.MODE = mode;
+        this.EXECUTOR = mode.createExecutor("handler");
+        this.SCHEDULER = new TableScheduler();
+        this.EVENT_DRIVEN = eventDriven;
+        this.BOTS = new BotPool(BOT_THREADS, Integer.getInteger("uno.bot.queue", 64 * BOT_THREADS),
+                Long.getLong("uno.bot.graceMillis", 50L));
+        this.STRATEGIES = new StrategyRegistry(BOTS.getExecutor());
     }
 
     static final int DEFAULT_PORT = 5050;
-    private final static ArrayList<ServerHandler> HANDLERS = new ArrayList<>();
-    private final ArrayList<Lobby> LOBBIES;
-    private final ArrayList<UNO> CURRENT_GAMES;
+    static final int IO_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    static final int BOT_THREADS = Integer.getInteger("uno.bot.threads", Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    static final String MAIN_LOBBY = "main";
+    private final Registry REGISTRY;
+    private final Set<UNO> CURRENT_GAMES;
+    private final ExecutionMode MODE;
+    private final ExecutorService EXECUTOR;
+    private final TableScheduler SCHEDULER;
+    private final boolean EVENT_DRIVEN;
+    private final BotPool BOTS;
+    private final StrategyRegistry STRATEGIES;
+    private volatile long promptTimeout = Long.getLong("uno.promptTimeout", 30_000L);
+    private volatile long turnTimeout = Long.getLong("uno.turnTimeout", 45_000L);
+    private final TimerWheel TIMERS = new TimerWheel();
+    private volatile EventLog events;
 
+    /**
+     * Starts the server. The arguments select the execution mode ("platform" or "virtual") and, with "threaded",
+     * run every game in its own blocking game loop instead of on the event driven table scheduler. The turns of threaded
+     * games are not timed, a player of such a game can take as long as they like.
+     * A log level ("trace", "debug", "info", "warn", "error" or "off") sets the level of the server log.
+     *
+     * @param args command line arguments
+     */
     public static void main(String[] args) {
-        Server server = new Server();
+        ExecutionMode mode = ExecutionMode.PLATFORM;
+        boolean eventDriven = true;
+        for (String arg : args) {
+            if (arg.equalsIgnoreCase("threaded")) {
+                eventDriven = false;
+            } else if (Log.parse(arg, null) != null) {
+                Log.setLevel(Log.parse(arg, null));
+            } else {
+                mode = ExecutionMode.fromArgument(arg);
+            }
+        }
+        Server server = new Server(mode, eventDriven);
         Thread myServer = new Thread(server);
         myServer.start();
     }
 
+    /**
+     * Looks up the lobby of a player in constant time.
+     *
+     * @param p the player
+     * @return the lobby, or null if the player did not join a lobby
+     */
     public Lobby getLobby(Player p) {
-        return this.LOBBIES.get(getLobbyIndex(p));
-    }
-
-    public int getLobbyIndex(Player p) {
-        for (int i = 0; i < LOBBIES.size(); i++) {
-            for (Player player : LOBBIES.get(i).getPlayers()) {
-                if (p.getNickname().equals(player.getNickname())) {
-                    return i;
-                }
-            }
-        }
-        return -1;
+        return this.REGISTRY.lobbyOf(p);
     }
 
     public ArrayList<Player> getPlayersInLobby(Player p) {
-        return this.LOBBIES.get(getLobbyIndex(p)).getPlayers();
+        return new ArrayList<>(getLobby(p).getPlayers());
     }
 
     public Lobby getMainLobby() {
-        return this.LOBBIES.get(0);
+        return this.REGISTRY.getLobby(MAIN_LOBBY);
     }
 
     /**
-     * When an object implementing interface <code>Runnable</code> is used
-     * to create a thread, starting the thread causes the object's
-     * <code>run</code> method to be called in that separately executing
-     * thread.
-     * <p>
-     * The general contract of the method <code>run</code> is that it may
-     * take any action whatsoever.
+     * Runs the non-blocking network engine on the listening port.
+     * A small, fixed number of I/O threads serve all connections; received messages are processed on the executor,
+     * which only holds a thread while a handler is actually busy with a message.
      *
-     * @see Thread#run()
+     * @see NetworkEngine
      */
     @Override
     public void run() {
-        int port = DEFAULT_PORT;
-        ServerSocket listen;
-        Socket connection;
+        SCHEDULER.start();
+        TIMERS.start();
+        openEventLog();
+        Log.info("Running handlers on " + MODE.toString().toLowerCase() + " threads, games "
+                + (EVENT_DRIVEN ? "on the table scheduler." : "in their own game loops."));
+        new NetworkEngine(DEFAULT_PORT, this, EXECUTOR, IO_THREADS).run();
+    }
 
+    /**
+     * Opens the event log the games of this server are recorded in, in the directory {@code uno.events} ("events" by
+     * default, "off" records nothing). The size of a segment file, the capacity of the queue and the flush interval
+     * are set with {@code uno.events.segmentBytes}, {@code uno.events.queue} and {@code uno.events.flushMillis}.
+     */
+    private void openEventLog() {
+        String directory = System.getProperty("uno.events", "events");
+        if (directory.equalsIgnoreCase("off")) {
+            return;
+        }
         try {
-            while (true) {
-                listen = new ServerSocket(port);
-                System.out.println("Listening on port " + port);
-                connection = listen.accept();
-                listen.close();
-                ServerHandler sh = new ServerHandler(connection, this);
-                HANDLERS.add(sh);
-                Thread sHThread = new Thread(sh, "Gracjan");
-                sHThread.start();
-            }
+            EventLog log = new EventLog(Paths.get(directory), Integer.getInteger("uno.events.segmentBytes", 64 << 20),
+                    Integer.getInteger("uno.events.queue", 65536), Long.getLong("uno.events.flushMillis", 1000L));
+            Runtime.getRuntime().addShutdownHook(new Thread(log::close, "event-log-close"));
+            Log.info("Recording games in " + log.getSegments().get(0));
+            this.events = log;
         } catch (IOException e) {
-            System.out.println("Connection couldn't be established.");
+            Log.warn("Could not open the event log, games are not recorded: " + e);
         }
-
     }
 
     //-----------------------------GETTERS & SETTERS-----------------------------
-    public void addLobby(Lobby lobby) {
-        this.LOBBIES.add(lobby);
+    public boolean addLobby(Lobby lobby) {
+        return this.REGISTRY.addLobby(lobby);
     }
 
     public Lobby getLobby(String lobbyName) {
-        for (Lobby l : LOBBIES) {
-            if (l.getName().equals(lobbyName)) {
-                return l;
-            }
-        }
-        return null;
+        return this.REGISTRY.getLobby(lobbyName);
     }
 
-    public ArrayList<Lobby> getLobbies() {
-        return LOBBIES;
+    public Collection<Lobby> getLobbies() {
+        return this.REGISTRY.getLobbies();
     }
 
-    public ArrayList<UNO> getCurrentGames() {
+    public Set<UNO> getCurrentGames() {
         return CURRENT_GAMES;
     }
 
     public UNO getUno(Player p) {
-        Lobby l = this.LOBBIES.get(getLobbyIndex(p));
-        return l.getGame();
+        return getLobby(p).getGame();
+    }
+
+    public Collection<ServerHandler> getHandlers() {
+        return this.REGISTRY.getHandlers();
+    }
+
+    public Registry getRegistry() {
+        return REGISTRY;
+    }
+
+    public ExecutorService getExecutor() {
+        return EXECUTOR;
+    }
+
+    public ExecutionMode getMode() {
+        return MODE;
+    }
+
+    public TableScheduler getScheduler() {
+        return SCHEDULER;
+    }
+
+    public TimerWheel getTimers() {
+        return TIMERS;
+    }
+
+    /**
+     * @return the threads all computer players of this server think on, {@code uno.bot.threads} of them, by default
+     * half of the cores
+     */
+    public BotPool getBots() {
+        return BOTS;
+    }
+
+    /**
+     * @return the bot engines computer players can be added with, and their budgets
+     */
+    public StrategyRegistry getStrategies() {
+        return STRATEGIES;
+    }
+
+    public boolean isEventDriven() {
+        return EVENT_DRIVEN;
+    }
+
+    /**
+     * @return the log the games of this server are recorded in, or null if they are not recorded
+     */
+    public EventLog getEvents() {
+        return events;
     }
 
-    public ArrayList<ServerHandler> getHandlers() {
-        return HANDLERS;
+    /**
+     * @return how many milliseconds a player gets to answer a color or seven swap prompt before the default is applied
+     */
+    public long getPromptTimeout() {
+        return promptTimeout;
+    }
+
+    /**
+     * Sets the time a player gets to answer a prompt, the default is 30 seconds or the system property
+     * {@code uno.promptTimeout} in milliseconds.
+     *
+     * @param promptTimeout the timeout in milliseconds
+     */
+    public void setPromptTimeout(long promptTimeout) {
+        this.promptTimeout = promptTimeout;
+    }
+
+    /**
+     * @return how many milliseconds a network player gets for a turn of an event driven game, threaded games are not
+     * timed
+     */
+    public long getTurnTimeout() {
+        return turnTimeout;
+    }
+
+    /**
+     * Sets the length of a turn, the default is 45 seconds or the system property {@code uno.turnTimeout} in
+     * milliseconds.
+     *
+     * @param turnTimeout the length of a turn in milliseconds
+     */
+    public void setTurnTimeout(long turnTimeout) {
+        this.turnTimeout = turnTimeout;
     }
 
 }
@@ -3,90 +3,104 @@ package server.controller;
 import server.model.card.Card;
 import server.model.player.ComputerPlayer;
 import server.model.player.NetworkPlayer;
+import server.model.player.contract.Strategy;
 import server.model.player.factory.Player;
 import server.model.table.gameModes.Normal;
 import server.model.table.gameModes.Progressive;
 import server.model.table.gameModes.SevenZero;
 import server.model.table.gameModes.factory.PlayingMode;
 import server.model.Lobby;
+import client.controller.contract.ClientProtocol.ClientCommand;
+import server.controller.contract.BinaryCodec;
+import server.controller.contract.ProtocolTokenizer;
 import server.controller.contract.ServerProtocol;
+import server.controller.network.Connection;
+import server.view.Log;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
-import java.net.Socket;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-
-public class ServerHandler implements ServerProtocol, Runnable{
-    private final Socket CONNECTION;
-    private final BufferedReader IN;
-    private final PrintWriter OUT;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public class ServerHandler implements ServerProtocol {
+    private final Connection CONNECTION;
     private final Server SERVER;
     private final int LOBBY_CAPACITY = 10;
     private Player correspondingPlayer;
     private Lobby lobby;
-    private boolean flag;
+    private boolean deltaUpdates;
+    private boolean binaryFrames;
+    private final AtomicReference<Prompt> PROMPT = new AtomicReference<>();
+    private final ProtocolTokenizer TOKENS = new ProtocolTokenizer();
+    private static final ClientCommand[] COMMANDS = ClientCommand.values();
 
-    public ServerHandler(Socket connection, Server server) throws IOException {
+    public ServerHandler(Connection connection, Server server) {
         this.CONNECTION = connection;
-        IN = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-        OUT = new PrintWriter(connection.getOutputStream());
         this.SERVER = server;
-        this.flag = true;
     }
 
-    private void seperateAndCall(String input) {
-        String[] splitted = input.split("[|]");
-        System.out.println(Arrays.toString(splitted));
+    /**
+     * Dispatches a received line to its handler. The line is tokenized without regular expressions and the command is
+     * matched without creating strings, only the arguments a handler needs are copied.
+     *
+     * @param tokens the fields of the received line
+     */
+    private void seperateAndCall(ProtocolTokenizer tokens) {
         try {
-        switch (splitted[0]) {
-            case "MH":
-                handleHandshake(splitted[1], splitted[2]);
+        ClientCommand command = tokens.match(COMMANDS);
+        if (command == null) {
+            if (tokens.is(0, ServerCommands.LOL.name())) {
+                doBroadcastListOfLobbies("");
+            } else {
+                sendMessage(Errors.E001.getMessage() + tokens);
+                Log.debug("Unknown command: " + tokens.getLine());
+            }
+            return;
+        }
+        switch (command) {
+            case MH:
+                this.deltaUpdates = tokens.contains(3, ',', FEATURE_DELTA);
+                this.binaryFrames = tokens.contains(3, ',', BinaryCodec.FEATURE);
+                handleHandshake(tokens.get(1), tokens.get(2));
                 break;
-            case "ACP":
-                handleAddComputerPlayer(splitted[1], " ");
+            case ACP:
+                handleAddComputerPlayer(tokens.get(1), tokens.size() > 2 ? tokens.get(2) : "");
                 break;
-            case "SG":
-                handleStartGame(splitted[1]);
+            case SG:
+                handleStartGame(tokens.get(1));
                 break;
-            case "PC":
-                handlePlayCard(splitted[1]);
+            case PC:
+                handlePlayCard(tokens.get(1));
                 break;
-            case "DC":
+            case DC:
                 handleDrawCard();
                 break;
-            case "LG":
+            case LG:
                 handleLeaveGame();
                 break;
-            case "CL":
-                handleCreateLobby(splitted[1]);
+            case CL:
+                handleCreateLobby(tokens.get(1));
                 break;
-            case "JL":
-                handleJoinLobby(splitted[1]);
+            case JL:
+                handleJoinLobby(tokens.get(1));
                 break;
-            case "CC":
-                handleColorChoice(splitted[1]);
+            case CC:
+                handleColorChoice(tokens.get(1));
                 break;
-            case "RC":
-                handleRetainCard(splitted[1]);
+            case RC:
+                handleRetainCard(tokens.get(1));
                 break;
-            case "UNO":
+            case UNO:
                 handleSayUno();
                 break;
-            case "LOL":
-                doBroadcastListOfLobbies("");
-                break;
-            case "MC7":
-                handleMakeChoiceSeven(splitted[1], "");
-                break;
-            case "SM":
-                handleSendMessage(splitted[1]);
+            case MC7:
+                handleMakeChoiceSeven(tokens.get(1), "");
                 break;
-            default:
-                sendMessage(Errors.E001.getMessage()+Arrays.toString(splitted));
-                System.out.println(input);
+            case SM:
+                handleSendMessage(tokens.get(1));
                 break;
         }
         }catch (IndexOutOfBoundsException e) {
@@ -97,12 +111,14 @@ public class ServerHandler implements ServerProtocol, Runnable{
 
 
     public void sendMessage(String message) {
-        System.out.println("SEND to "+ this.correspondingPlayer.getNickname() + ": " + message);
-        OUT.println(message);
-        OUT.flush();
-        if(OUT.checkError()) {
-            System.out.println("An error occured during transmission.");
+        if (Log.isEnabled(Log.Level.TRACE)) {
+            Log.trace("SEND to "+ (this.correspondingPlayer == null ? "unknown" : this.correspondingPlayer.getNickname()) + ": " + message);
+        }
+        if (!CONNECTION.isOpen()) {
+            Log.warn("An error occured during transmission.");
+            return;
         }
+        CONNECTION.send(message);
     }
     public void sendMessageToAll(String message) {
         for (ServerHandler s: SERVER.getHandlers()) {
@@ -116,22 +132,44 @@ public class ServerHandler implements ServerProtocol, Runnable{
             }
         }
     }
-    public void receiveMessage()  {
-        System.out.println("WAITING...");
-        String messageIn = "";
-        try {
-            messageIn = IN.readLine();
-            if (messageIn==null) {
+
+    /**
+     * Processes one line received by the network engine, {@code null} means that the client is gone.
+     *
+     * @param messageIn the received line without line terminator
+     */
+    public void receiveMessage(String messageIn) {
+        if (messageIn == null) {
+            if (correspondingPlayer != null) {
                 handleLeaveGame();
-                doHandleClientDisconnected();
-                return;
             }
+            doHandleClientDisconnected();
+            return;
+        }
+        if (Log.isEnabled(Log.Level.TRACE)) {
+            Log.trace("RECEIVED: " + messageIn);
+        }
+        seperateAndCall(TOKENS.reset(messageIn));
+    }
 
-        } catch (IOException e) {
-            sendMessage(Errors.E001.getMessage());
+    /**
+     * Processes the payload of one binary frame received by the network engine, it is decoded straight into the
+     * tokenizer of this handler. A frame that cannot be decoded is a protocol violation.
+     *
+     * @param payload the payload of the frame
+     */
+    public void receiveFrame(byte[] payload) {
+        ProtocolTokenizer tokens;
+        try {
+            tokens = BinaryCodec.decode(payload, 0, payload.length, TOKENS);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            sendMessage("ERR|E001");
+            return;
+        }
+        if (Log.isEnabled(Log.Level.TRACE)) {
+            Log.trace("RECEIVED: " + tokens.getLine());
         }
-        System.out.println("RECEIVED: " + messageIn);
-        seperateAndCall(messageIn);
+        seperateAndCall(tokens);
     }
 
     /**
@@ -149,63 +187,77 @@ public class ServerHandler implements ServerProtocol, Runnable{
      */
     @Override
     public void handleHandshake(String playerName, String playerType) {
-        for (Lobby l: SERVER.getLobbies()) {
-            for (Player p : l.getPlayers()) {
-                if (p.getNickname().equals(playerName)) {
-                    sendMessage("ERR|E002");
-                    break;
-                }
-            }
-        }
-
-        if (playerType.equals("human_player")) {
-            this.correspondingPlayer = new NetworkPlayer(playerName, this);
-        }else {
+        if (!playerType.equals("human_player")) {
             sendMessage("ERR|E003");
-            System.out.println(Errors.E003.getMessage());
+            Log.warn(Errors.E003.getMessage());
+            return;
+        }
+        NetworkPlayer player = new NetworkPlayer(playerName, this);
+        if (!SERVER.getRegistry().claimName(player)) {
+            sendMessage("ERR|E002");
+            return;
         }
-        OUT.println("AH");
-        OUT.flush();
-        System.out.println(playerName + " connected successfully.");
+        this.correspondingPlayer = player;
+        SERVER.getRegistry().nameHandler(playerName, this);
+        sendMessage(acceptedFeatures());
+        if (binaryFrames && CONNECTION != null) {
+            CONNECTION.setBinary(true);
+        }
+        Log.info(playerName + " connected successfully.");
 
         }
 
 
+    /**
+     * Builds the AH answer to the handshake, listing the optional features the client asked for, e.g. AH|delta,binary.
+     *
+     * @return the answer to the handshake
+     */
+    private String acceptedFeatures() {
+        StringBuilder sb = new StringBuilder("AH");
+        char separator = DELIMITER;
+        if (deltaUpdates) {
+            sb.append(separator).append(FEATURE_DELTA);
+            separator = ',';
+        }
+        if (binaryFrames) {
+            sb.append(separator).append(BinaryCodec.FEATURE);
+        }
+        return sb.toString();
+    }
+
     /**
      * This method handles the creation of a computerPlayer as requested by the networking.client (admin) (ACP).
      * It relates heavily with the game-logic.
      *
      * @param playerName of type {@code String} representing the name of the computer player
-     * @param strategy   of type {@code String} representing the strategy for the computer player
+     * @param strategy   of type {@code String} representing the strategy for the computer player, one of the engines
+     *                   of the strategy registry of the server or empty for the default engine
      */
 
     @Override
     public void handleAddComputerPlayer(String playerName, String strategy) {
-        for (Player p: this.lobby.getPlayers()){
-            if (p.getNickname().equals(playerName)){
-                doSendErrorCode(Errors.E002);
-                return;
-            }
+        Lobby target = this.lobby != null ? this.lobby : SERVER.getMainLobby();
+        Strategy engine = SERVER.getStrategies().create(strategy);
+        if (engine == null) {
+            doSendErrorCode(Errors.E003);
+            return;
         }
-        Player c = new ComputerPlayer(playerName);
-        if (this.lobby!=null) {
-            if (this.SERVER.getLobby(this.lobby.getName()).getPlayers().size() == LOBBY_CAPACITY){
-                doSendErrorCode(Errors.E005);
-                return;
-            }
-            this.lobby.addPlayer(c);
-        } else {
-            if (this.SERVER.getMainLobby().getPlayers().size() == LOBBY_CAPACITY){
-                doSendErrorCode(Errors.E005);
-                return;
-            }
-            SERVER.getMainLobby().addPlayer(c);
+        Player c = new ComputerPlayer(playerName, engine);
+        if (!SERVER.getRegistry().claimName(c)) {
+            doSendErrorCode(Errors.E002);
+            return;
+        }
+        if (!SERVER.getRegistry().join(c, target, LOBBY_CAPACITY)) {
+            SERVER.getRegistry().forget(c);
+            doSendErrorCode(Errors.E005);
         }
     }
 
     /**
      * This method handles the command from the networking.client (admin) to start the game (SG).
-     * It relates heavily with the game-logic.
+     * It relates heavily with the game-logic. Of two commands that arrive at the same time only one starts the game,
+     * the other is answered with E004.
      *
      * @param gameMode of type {@code String} representing the type/mode of the game
      */
@@ -226,11 +278,31 @@ public class ServerHandler implements ServerProtocol, Runnable{
                 doSendErrorCode(Errors.E006);
                 return;
         }
+        Lobby gameLobby = SERVER.getLobby(correspondingPlayer);
+        if (gameLobby == null) {
+            doSendErrorCode(Errors.E006);
+            return;
+        }
+        if (!gameLobby.startGame()) {
+            doSendErrorCode(Errors.E004);
+            return;
+        }
         doGameStarted(gameMode);
-        SERVER.getUno(correspondingPlayer).setup(this.SERVER.getPlayersInLobby(correspondingPlayer), playingMode);
-        SERVER.getCurrentGames().add(SERVER.getUno(correspondingPlayer));
-        Thread myUno = new Thread(SERVER.getUno(correspondingPlayer));
-        myUno.start();
+        UNO uno = SERVER.getUno(correspondingPlayer);
+        ArrayList<Player> players = this.SERVER.getPlayersInLobby(correspondingPlayer);
+        SERVER.getCurrentGames().add(uno);
+        uno.enableEventLog(SERVER.getEvents());
+        if (SERVER.isEventDriven()) {
+            uno.enableTurnTimer(SERVER.getTimers(), SERVER.getScheduler()::submit, SERVER.getTurnTimeout());
+            uno.enableBotPool(SERVER.getBots(), SERVER.getScheduler()::submit);
+            SERVER.getScheduler().submit(() -> uno.startEventDriven(players, playingMode));
+        } else {
+            uno.enableBotPool(SERVER.getBots(), null);
+            SERVER.getExecutor().execute(() -> {
+                uno.setup(players, playingMode);
+                uno.play();
+            });
+        }
     }
 
     /**
@@ -241,7 +313,17 @@ public class ServerHandler implements ServerProtocol, Runnable{
      */
     @Override
     public void handlePlayCard(String card) {
-        ((NetworkPlayer)correspondingPlayer).translate(card);
+        NetworkPlayer np = (NetworkPlayer) correspondingPlayer;
+        if (isEventDriven()) {
+            submitToGame(uno -> {
+                String move = np.resolveMove(card);
+                if (move == null || !uno.onMove(np, move)) {
+                    doSendErrorCode(Errors.E010);
+                }
+            });
+            return;
+        }
+        np.translate(card);
     }
 
     /**
@@ -250,6 +332,16 @@ public class ServerHandler implements ServerProtocol, Runnable{
      */
     @Override
     public void handleDrawCard() {
+        if (isEventDriven()) {
+            submitToGame(uno -> {
+                if (uno.onMove(correspondingPlayer, "draw")) {
+                    doBroadcastDrewCard(correspondingPlayer.getNickname());
+                } else {
+                    doSendErrorCode(Errors.E006);
+                }
+            });
+            return;
+        }
         ((NetworkPlayer)correspondingPlayer).translate("draw");
         doBroadcastDrewCard(correspondingPlayer.getNickname());
     }
@@ -259,35 +351,86 @@ public class ServerHandler implements ServerProtocol, Runnable{
      */
     @Override
     public void handleLeaveGame() {
-        if (this.SERVER.getLobbyIndex(correspondingPlayer)==-1) {
-            System.out.println("The player has not yet joined a lobby.");
+        if (this.SERVER.getLobby(correspondingPlayer) == null) {
+            Log.debug("The player has not yet joined a lobby.");
         }
 
+        else if (this.lobby.isGameInProgress() && isEventDriven()) {
+            submitToGame(this::leaveRunningGame);
+            return;
+        }
         else if (this.lobby.isGameInProgress()) {
             for (Card c : this.correspondingPlayer.getHand()) {
                 this.SERVER.getUno(correspondingPlayer).getTable().getDeck().getPlayingCards().add(c);
             }
-            Collections.shuffle(this.SERVER.getUno(correspondingPlayer).getTable().getDeck().getPlayingCards());
+            this.SERVER.getUno(correspondingPlayer).getTable().getDeck().getPlayingCards().shuffle(this.SERVER.getUno(correspondingPlayer).getTable().getRandom());
             if (this.lobby.getPlayers().size() >= 2) {
                 doBroadcastLeftGame(correspondingPlayer.getNickname());
                 if (correspondingPlayer.getNickname().equals(this.lobby.getGame().getTable().getCurrentPlayer().getNickname())) {
                     ((NetworkPlayer) correspondingPlayer).translate("skip");
                 }
                 removePlayer(correspondingPlayer);
-                this.SERVER.getHandlers().remove(this);
+                this.SERVER.getRegistry().removeHandler(this);
+                this.lobby.getGame().markPlayerLeft();
             }
         } else {
-            this.SERVER.getLobby(correspondingPlayer).getPlayers().remove(correspondingPlayer);
+            this.SERVER.getRegistry().leave(correspondingPlayer);
 
         }
         doBroadcastLeftGame(correspondingPlayer.getNickname());
     }
 
+    /**
+     * Removes the player from an event driven game on the scheduler thread, passing the turn on if it was theirs.
+     *
+     * @param uno the game the player leaves
+     */
+    private void leaveRunningGame(UNO uno) {
+        if (this.lobby.getPlayers().size() >= 2) {
+            uno.onPlayerLeft(correspondingPlayer);
+            this.SERVER.getRegistry().leave(correspondingPlayer);
+            this.SERVER.getRegistry().removeHandler(this);
+        }
+        doBroadcastLeftGame(correspondingPlayer.getNickname());
+    }
+
+    /**
+     * Determines if games on this server are advanced by the table scheduler instead of a game thread.
+     *
+     * @return true if game events have to be submitted to the scheduler
+     */
+    private boolean isEventDriven() {
+        return SERVER.isEventDriven();
+    }
+
+    /**
+     * Determines if the client negotiated the delta feature in its handshake.
+     *
+     * @return true if game information is sent as BGD deltas after the first BGI
+     */
+    public boolean isDeltaUpdates() {
+        return deltaUpdates;
+    }
+
+    /**
+     * Submits a game event for the game of this handler's lobby to the table scheduler.
+     *
+     * @param event the event, applied on the scheduler thread
+     */
+    private void submitToGame(Consumer<UNO> event) {
+        if (this.lobby == null) {
+            doSendErrorCode(Errors.E006);
+            return;
+        }
+        UNO uno = this.lobby.getGame();
+        SERVER.getScheduler().submit(() -> event.accept(uno));
+    }
+
     public void removePlayer(Player p) {
         UNO u = this.lobby.getGame();
-        u.getTable().getPlayers().remove(p);
+        u.getTable().removePlayer(p);
         u.getPlayers().remove(p);
-        lobby.getPlayers().remove(p);
+        SERVER.getRegistry().leave(p);
     }
 
     /**
@@ -301,15 +444,12 @@ public class ServerHandler implements ServerProtocol, Runnable{
             doSendErrorCode(Errors.E003);
             return;
         }
-        for (Lobby lob: this.SERVER.getLobbies()){
-            if (lobbyName.equals(lob.getName())){
-                doSendErrorCode(Errors.E006);
-                return;
-            }
-        }
         Lobby lobby = new Lobby(lobbyName);
-        lobby.addPlayer(correspondingPlayer);
-        this.SERVER.addLobby(lobby);
+        if (!this.SERVER.addLobby(lobby)){
+            doSendErrorCode(Errors.E006);
+            return;
+        }
+        this.SERVER.getRegistry().join(correspondingPlayer, lobby);
         this.lobby = lobby;
         doInformAdmin();
         doBroadcastCreatedLobby(lobbyName);
@@ -322,27 +462,27 @@ public class ServerHandler implements ServerProtocol, Runnable{
      */
     @Override
     public void handleJoinLobby(String lobbyName) {
-        if (this.SERVER.getLobby(lobbyName) == null){
+        Lobby target = this.SERVER.getLobby(lobbyName);
+        if (target == null){
             doSendErrorCode(Errors.E003);
             return;
         }
-        if (this.SERVER.getLobby(lobbyName).isGameInProgress()){
+        if (target.isGameInProgress()){
             doSendErrorCode(Errors.E004);
             return;
         }
-        if (this.SERVER.getLobby(lobbyName).getPlayers().size() == LOBBY_CAPACITY){
-            doSendErrorCode(Errors.E005);
-            return;
-        }
         if (this.lobby != null){
             doSendErrorCode(Errors.E003);
             return;
         }
-        if (lobbyName.equals("main")&&this.SERVER.getMainLobby().getPlayers().isEmpty()) {
+        if (!this.SERVER.getRegistry().join(correspondingPlayer, target, LOBBY_CAPACITY)) {
+            doSendErrorCode(Errors.E005);
+            return;
+        }
+        if (target == this.SERVER.getMainLobby() && target.getPlayers().size() == 1) {
             doInformAdmin();
         }
-        this.SERVER.getLobby(lobbyName).addPlayer(correspondingPlayer);
-        this.lobby = this.SERVER.getLobby(lobbyName);
+        this.lobby = target;
         doBroadcastPlayerJoinedLobby(correspondingPlayer.getNickname());
     }
 
@@ -374,6 +514,10 @@ public class ServerHandler implements ServerProtocol, Runnable{
      */
     @Override
     public void handleRetainCard(String choice) {
+        if (isEventDriven()) {
+            submitToGame(uno -> uno.onRetainDecision(correspondingPlayer, choice.equals("true")));
+            return;
+        }
         if (choice.equals("true")){
             if (correspondingPlayer instanceof NetworkPlayer){
                 ((NetworkPlayer) correspondingPlayer).translate("proceed");
@@ -393,12 +537,7 @@ public class ServerHandler implements ServerProtocol, Runnable{
      */
     @Override
     public void handleColorChoice(String color) {
-        NetworkPlayer p = (NetworkPlayer) correspondingPlayer;
-        p.pickColor(color);
-        doBroadcastColourChange(color);
-        synchronized (this) {
-            notifyAll();
-        }
+        answerPrompt(GameState.AWAITING_COLOR, color);
     }
 
     /**
@@ -409,20 +548,39 @@ public class ServerHandler implements ServerProtocol, Runnable{
      */
     @Override
     public void handleMakeChoiceSeven(String playerName, String card) {
-        boolean flag = false;
-        for (Player p: SERVER.getPlayersInLobby(correspondingPlayer)) {
-            if (p.getNickname().equals(playerName)) {
-                correspondingPlayer.swapHands(p);
-                flag = true;
-                break;
-            }
-        }
-        if (!flag) {
-            doSendErrorCode(Errors.E006);
-            doAskChoiceSeven();
+        answerPrompt(GameState.AWAITING_SEVEN_SWAP, playerName);
+    }
+
+    /**
+     * Opens a prompt for the player of this handler. The prompt is completed by the answer of the client or, once the
+     * prompt timeout of the server has passed, by the default answer, so a player that never answers cannot stall the
+     * game. A prompt that is still open is replaced.
+     *
+     * @param kind          the state the game waits in, AWAITING_COLOR or AWAITING_SEVEN_SWAP
+     * @param defaultAnswer the answer used when the timeout passes
+     * @return the future answer
+     */
+    private CompletableFuture<String> openPrompt(GameState kind, String defaultAnswer) {
+        Prompt opened = new Prompt(kind);
+        Prompt previous = PROMPT.getAndSet(opened);
+        if (previous != null) {
+            previous.ANSWER.cancel(false);
         }
-        synchronized (this) {
-            notifyAll();
+        opened.ANSWER.completeOnTimeout(defaultAnswer, SERVER.getPromptTimeout(), TimeUnit.MILLISECONDS);
+        opened.ANSWER.whenComplete((answer, e) -> PROMPT.compareAndSet(opened, null));
+        return opened.ANSWER;
+    }
+
+    /**
+     * Completes the open prompt with the answer of the client, answers that nobody asked for are ignored.
+     *
+     * @param kind   the kind of prompt the answer belongs to
+     * @param answer the answer of the client
+     */
+    private void answerPrompt(GameState kind, String answer) {
+        Prompt open = PROMPT.get();
+        if (open != null && open.KIND == kind) {
+            open.ANSWER.complete(answer);
         }
     }
 
@@ -482,12 +640,12 @@ public class ServerHandler implements ServerProtocol, Runnable{
      */
     @Override
     public void doBroadcastGameInformation(String topCard, String playerHand, String playersList, String isYourTurn) {
-        String msg = "BGI|";
-        msg += topCard + "|";
-        msg += playerHand + "|";
-        msg += playersList + "|";
-        msg += isYourTurn;
-        sendMessage(msg);
+        sendMessage("BGI|" + topCard + "|" + playerHand + "|" + playersList + "|" + isYourTurn);
+    }
+
+    @Override
+    public void doBroadcastGameDelta(String topCard, String addedCards, String removedCards, String changedPlayers, String isYourTurn) {
+        sendMessage("BGD|" + topCard + "|" + addedCards + "|" + removedCards + "|" + changedPlayers + "|" + isYourTurn);
     }
 
     /**
@@ -583,10 +741,16 @@ public class ServerHandler implements ServerProtocol, Runnable{
      */
     @Override
     public void doGameEnded(String winnerName) {
-        this.SERVER.getLobby(correspondingPlayer).setGameInProgress(false);
+        Lobby gameLobby = this.SERVER.getLobby(correspondingPlayer);
+        gameLobby.setGameInProgress(false);
+        for (Player p : gameLobby.getPlayers()) {
+            if (p instanceof ComputerPlayer) {
+                this.SERVER.getRegistry().leave(p);
+            }
+        }
         String result = "GE|" + winnerName;
         sendMessage(result);
-        this.SERVER.getCurrentGames().remove(this.SERVER.getLobbies().get(this.SERVER.getLobbyIndex(correspondingPlayer)).getGame());
+        this.SERVER.getCurrentGames().remove(this.SERVER.getUno(correspondingPlayer));
     }
 
     /**
@@ -615,18 +779,43 @@ public class ServerHandler implements ServerProtocol, Runnable{
 
     /**
      * This method creates the appropriate tag and message corresponding to a player playing a wild card (AC).
-     * Once the data packet is produced, it is sent.
+     * Once the data packet is produced, it is sent. If the player does not answer within the prompt timeout, the color
+     * they hold most cards of is picked.
      */
     @Override
     public void doAskColour() {
+        NetworkPlayer player = (NetworkPlayer) correspondingPlayer;
+        CompletableFuture<String> answer = openPrompt(GameState.AWAITING_COLOR, player.cardColors().toString());
         String msg = "AC";
         sendMessage(msg);
-        synchronized (this) {
-            try {
-                wait();
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
+        if (isEventDriven()) {
+            UNO uno = this.lobby.getGame();
+            uno.awaitPrompt(GameState.AWAITING_COLOR, player);
+            answer.thenAccept(color -> SERVER.getScheduler().submit(() -> {
+                if (uno.onColorChosen(player, color)) {
+                    doBroadcastColourChange(color);
+                }
+            }));
+            return;
+        }
+        String color = awaitAnswer(answer);
+        if (color != null && player.pickColor(color)) {
+            doBroadcastColourChange(color);
+        }
+    }
+
+    /**
+     * Waits for the answer of a prompt on the game thread of a threaded game, the wait always ends because the prompt
+     * times out.
+     *
+     * @param answer the future answer
+     * @return the answer, or null if the prompt was replaced
+     */
+    private String awaitAnswer(CompletableFuture<String> answer) {
+        try {
+            return answer.join();
+        } catch (CancellationException e) {
+            return null;
         }
     }
 
@@ -656,10 +845,21 @@ public class ServerHandler implements ServerProtocol, Runnable{
 
     /**
      * This method exists so that the networking.server can implement a mechanism to handle an inactive player (RP can be used).
+     * It is called by the turn timer of an event driven game when the turn of the player ran out, the game then makes
+     * the move for the player and passes the turn on. The lobby is informed with a game message (BGM).
+     *
+     * @param action of type String, "draw" if a card is drawn for the player, "skip" if they take the stacked cards.
      */
     @Override
-    public void doHandleInactivePlayer() {
-        // the client automatically sends a leave game message to the server, if he is inactive for more than 45s and it is his turn.
+    public void doHandleInactivePlayer(String action) {
+        String msg = "BGM|" + correspondingPlayer.getNickname() + (action.equals("skip")
+                ? " was inactive, they took the stacked cards and their turn was skipped."
+                : " was inactive, a card was drawn for them.");
+        if (this.lobby == null) {
+            sendMessage(msg);
+        } else {
+            sendMessageToLobby(msg);
+        }
     }
 
     /**
@@ -667,11 +867,10 @@ public class ServerHandler implements ServerProtocol, Runnable{
      */
     @Override
     public void doHandleClientDisconnected() {
-        try {
-            this.CONNECTION.close();
-            this.flag = false;
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        this.CONNECTION.close();
+        this.SERVER.getRegistry().removeHandler(this);
+        if (this.correspondingPlayer != null) {
+            this.SERVER.getRegistry().forget(this.correspondingPlayer);
         }
     }
 
@@ -683,11 +882,11 @@ public class ServerHandler implements ServerProtocol, Runnable{
      */
     @Override
     public void doBroadcastListOfLobbies(String lobbiesList) {
-        String msg = "LOL|";
+        StringBuilder msg = new StringBuilder("LOL|");
         for (Lobby l: this.SERVER.getLobbies()) {
-            msg += l.getName()+":"+l.getPlayers().size()+";";
+            msg.append(l.getName()).append(':').append(l.getPlayers().size()).append(';');
         }
-        sendMessage(msg);
+        sendMessage(msg.toString());
     }
     /**
      * This method creates the appropriate tag and message corresponding to a user creating a lobby (BCL).
@@ -726,34 +925,47 @@ public class ServerHandler implements ServerProtocol, Runnable{
         sendMessage("BM|" + message);
     }
 
+    /**
+     * This method creates the appropriate tag and message corresponding to a player playing a seven (AC7).
+     * Once the data packet is produced, it is sent. If the player does not answer within the prompt timeout, they swap
+     * hands with the next player.
+     */
     public void doAskChoiceSeven() {
+        Player next = correspondingPlayer.getTable().getNextPlayer();
+        CompletableFuture<String> answer = openPrompt(GameState.AWAITING_SEVEN_SWAP, next.getNickname());
         String msg = "AC7";
         sendMessage(msg);
-        synchronized (this) {
-            try {
-                wait();
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+        if (isEventDriven()) {
+            UNO uno = this.lobby.getGame();
+            Player player = correspondingPlayer;
+            uno.awaitPrompt(GameState.AWAITING_SEVEN_SWAP, player);
+            answer.thenAccept(playerName -> SERVER.getScheduler().submit(() -> uno.onSevenChoice(player, playerName)));
+            return;
+        }
+        String playerName = awaitAnswer(answer);
+        if (playerName == null) {
+            return;
+        }
+        for (Player p: correspondingPlayer.getTable().getPlayers()) {
+            if (p.getNickname().equals(playerName)) {
+                correspondingPlayer.swapHands(p);
+                return;
             }
         }
+        doSendErrorCode(Errors.E006);
+        doAskChoiceSeven();
     }
 
     /**
-     * When an object implementing interface <code>Runnable</code> is used
-     * to create a thread, starting the thread causes the object's
-     * <code>run</code> method to be called in that separately executing
-     * thread.
-     * <p>
-     * The general contract of the method <code>run</code> is that it may
-     * take any action whatsoever.
-     *
-     * @see Thread#run()
+     * A question the game asked the player of this handler, answered by the client or by the timeout.
      */
-    @Override
-    public void run() {
-        System.out.println("Connected.");
-        while(flag) {
-            this.receiveMessage();
+    private static final class Prompt {
+        private final GameState KIND;
+        private final CompletableFuture<String> ANSWER = new CompletableFuture<>();
+
+        Prompt(GameState kind) {
+            this.KIND = kind;
         }
-}
+    }
+
 }
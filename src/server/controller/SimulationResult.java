@@ -0,0 +1,131 @@
+package server.controller;
+
+/**
+ * Statistics of a batch of simulated games: wins per seat and the distribution of game lengths in turns.
+ * Results of batches played in parallel are combined with {@link #merge(SimulationResult)}.
+ */
+public class SimulationResult {
+    /**
+     * Width of one bucket of the game length histogram, in turns. The last bucket holds every longer game.
+     */
+    public static final int BUCKET_WIDTH = 25;
+    private static final int BUCKETS = 40;
+
+    private final long[] WINS;
+    private final long[] LENGTHS = new long[BUCKETS];
+    private long games;
+    private long unfinished;
+    private long totalTurns;
+    private int maxTurns;
+
+    //--------------------------CONSTRUCTOR--------------------------
+
+    public SimulationResult(int seats) {
+        this.WINS = new long[seats];
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Records the outcome of one game.
+     *
+     * @param winnerSeat the seat of the winner, -1 if the game hit the turn limit without a winner
+     * @param turns      the number of turns the game took
+     */
+    public void record(int winnerSeat, int turns) {
+        games++;
+        if (winnerSeat < 0) {
+            unfinished++;
+        } else {
+            WINS[winnerSeat]++;
+        }
+        totalTurns += turns;
+        maxTurns = Math.max(maxTurns, turns);
+        LENGTHS[Math.min(turns / BUCKET_WIDTH, BUCKETS - 1)]++;
+    }
+
+    /**
+     * Adds the statistics of another batch with the same number of seats to this one.
+     *
+     * @param other the other result
+     * @return this result
+     */
+    public SimulationResult merge(SimulationResult other) {
+        for (int i = 0; i < WINS.length; i++) {
+            WINS[i] += other.WINS[i];
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            LENGTHS[i] += other.LENGTHS[i];
+        }
+        games += other.games;
+        unfinished += other.unfinished;
+        totalTurns += other.totalTurns;
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        return this;
+    }
+
+    /**
+     * Calculates the share of all games that a seat won.
+     *
+     * @param seat the seat
+     * @return the win rate between 0 and 1
+     */
+    public double getWinRate(int seat) {
+        return games == 0 ? 0 : (double) WINS[seat] / games;
+    }
+
+    public double getMeanTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    //--------------------------GETTERS--------------------------
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getUnfinished() {
+        return unfinished;
+    }
+
+    public long getWins(int seat) {
+        return WINS[seat];
+    }
+
+    public int getSeats() {
+        return WINS.length;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Returns the game length histogram, bucket i counts the games of i * BUCKET_WIDTH up to (i + 1) * BUCKET_WIDTH
+     * turns.
+     *
+     * @return a copy of the histogram
+     */
+    public long[] getLengthHistogram() {
+        return LENGTHS.clone();
+    }
+
+    //--------------------------toString--------------------------
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Games: ").append(games).append(", without winner: ").append(unfinished).append('\n');
+        for (int i = 0; i < WINS.length; i++) {
+            sb.append(String.format("Seat %d: %d wins (%.2f%%)%n", i + 1, WINS[i], getWinRate(i) * 100));
+        }
+        sb.append(String.format("Turns per game: mean %.1f, max %d%n", getMeanTurns(), maxTurns));
+        for (int i = 0; i < BUCKETS; i++) {
+            if (LENGTHS[i] > 0) {
+                String range = i == BUCKETS - 1 ? (i * BUCKET_WIDTH) + "+" : (i * BUCKET_WIDTH) + "-" + ((i + 1) * BUCKET_WIDTH - 1);
+                sb.append(String.format("%9s: %d%n", range, LENGTHS[i]));
+            }
+        }
+        return sb.toString();
+    }
+}
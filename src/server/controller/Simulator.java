@@ -0,0 +1,183 @@
+package server.controller;
+
+import server.model.player.ComputerPlayer;
+import server.model.player.factory.Player;
+import server.model.table.gameModes.Normal;
+import server.model.table.gameModes.Progressive;
+import server.model.table.gameModes.SevenZero;
+import server.model.table.gameModes.factory.PlayingMode;
+import server.view.SilentTUI;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Plays games between computer players without any output, as fast as the machine allows.
+ * <p>
+ * Games are split over a fork/join pool. Every game runs on the event driven path of {@link UNO} with a
+ * {@link SilentTUI}, so it needs no game thread and prints nothing. Game i of a run with seed s always gets the same
+ * random source, so a run is reproducible no matter how the pool splits the work.
+ */
+public class Simulator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int GAMES_PER_TASK = 64;
+
+    private final int SEATS;
+    private final Supplier<PlayingMode> MODE;
+    private final IntFunction<Player> BOTS;
+    private final int TURN_LIMIT;
+
+    //--------------------------CONSTRUCTORS--------------------------
+
+    /**
+     * Creates a simulator for games between default computer players.
+     *
+     * @param seats the number of players per game
+     * @param mode  creates a fresh playing mode for every game
+     */
+    public Simulator(int seats, Supplier<PlayingMode> mode) {
+        this(seats, mode, seat -> new ComputerPlayer("bot" + (seat + 1)), 5000);
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param seats     the number of players per game
+     * @param mode      creates a fresh playing mode for every game
+     * @param bots      creates the player for a seat, called once per seat and game; nicknames must differ per seat
+     * @param turnLimit games that take more turns are stopped and counted as unfinished
+     */
+    public Simulator(int seats, Supplier<PlayingMode> mode, IntFunction<Player> bots, int turnLimit) {
+        this.SEATS = seats;
+        this.MODE = mode;
+        this.BOTS = bots;
+        this.TURN_LIMIT = turnLimit;
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Plays a number of games on the common fork/join pool.
+     *
+     * @param games the number of games
+     * @param seed  the seed of the run
+     * @return the combined statistics
+     */
+    public SimulationResult run(long games, long seed) {
+        return run(games, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays a number of games on the given pool.
+     *
+     * @param games the number of games
+     * @param seed  the seed of the run
+     * @param pool  the pool that plays the games
+     * @return the combined statistics
+     */
+    public SimulationResult run(long games, long seed, ForkJoinPool pool) {
+        return pool.invoke(new Batch(0, games, seed));
+    }
+
+    /**
+     * Plays a single game and records its outcome.
+     *
+     * @param index  the number of the game within the run
+     * @param seed   the seed of the run
+     * @param result the statistics to add the outcome to
+     */
+    private void playGame(long index, long seed, SimulationResult result) {
+        ArrayList<Player> players = new ArrayList<>(SEATS);
+        for (int seat = 0; seat < SEATS; seat++) {
+            players.add(BOTS.apply(seat));
+        }
+        ArrayList<Player> seats = new ArrayList<>(players);
+        UNO uno = new UNO(new SplittableRandom(seed + index * GOLDEN_GAMMA), new SilentTUI());
+        uno.setTurnLimit(TURN_LIMIT);
+        uno.startEventDriven(players, MODE.get());
+        Player winner = uno.gameOver();
+        int winnerSeat = -1;
+        for (int seat = 0; seat < SEATS; seat++) {
+            if (seats.get(seat) == winner) {
+                winnerSeat = seat;
+            }
+        }
+        result.record(winnerSeat, uno.getTurnCount());
+    }
+
+    /**
+     * Creates the playing mode for the name used in the protocol.
+     *
+     * @param name "normal", "progressive" or "sevenZero"
+     * @return a supplier of fresh playing modes
+     * @throws IllegalArgumentException if the mode does not exist
+     */
+    public static Supplier<PlayingMode> modeFor(String name) {
+        switch (name) {
+            case "normal":
+                return Normal::new;
+            case "progressive":
+                return Progressive::new;
+            case "sevenZero":
+                return SevenZero::new;
+            default:
+                throw new IllegalArgumentException("Unknown mode: " + name);
+        }
+    }
+
+    /**
+     * Plays a batch of games and prints the statistics, e.g.
+     * {@code java server.controller.Simulator 1000000 normal 42 3}.
+     *
+     * @param args the number of games, optionally followed by the mode, the seed and the number of players
+     */
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 10_000;
+        String mode = args.length > 1 ? args[1] : "normal";
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+        int seats = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+        Simulator simulator = new Simulator(seats, modeFor(mode));
+        long start = System.nanoTime();
+        SimulationResult result = simulator.run(games, seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.print(result);
+        System.out.printf("%d games in %.2f s (%.0f games/s) on %d threads%n", games, seconds, games / seconds, ForkJoinPool.commonPool().getParallelism());
+    }
+
+    /**
+     * A range of games that is split in halves until it is small enough to play on one thread.
+     */
+    private class Batch extends RecursiveTask<SimulationResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final long FROM;
+        private final long TO;
+        private final long SEED;
+
+        Batch(long from, long to, long seed) {
+            this.FROM = from;
+            this.TO = to;
+            this.SEED = seed;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (TO - FROM <= GAMES_PER_TASK) {
+                SimulationResult result = new SimulationResult(SEATS);
+                for (long i = FROM; i < TO; i++) {
+                    playGame(i, SEED, result);
+                }
+                return result;
+            }
+            long middle = (FROM + TO) >>> 1;
+            Batch left = new Batch(FROM, middle, SEED);
+            left.fork();
+            SimulationResult right = new Batch(middle, TO, SEED).compute();
+            return left.join().merge(right);
+        }
+    }
+}
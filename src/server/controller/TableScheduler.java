@@ -0,0 +1,59 @@
+package server.controller;
+
+import server.controller.network.Connection;
+import server.view.Log;
+
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * A single thread that advances every event driven game on the server.
+ * <p>
+ * Handlers do not touch a running game themselves, they submit the protocol event (a move, a color, a seven swap or
+ * a retain decision) and the scheduler applies the events one after another. Because a game never blocks while it
+ * waits for a player, one thread can keep thousands of tables going, and game state needs no locking.
+ * Every event runs in a batch of {@link Connection}, so all messages of one game step reach a client in one write.
+ */
+public class TableScheduler implements Runnable {
+    private final LinkedBlockingQueue<Runnable> EVENTS = new LinkedBlockingQueue<>();
+    private Thread thread;
+
+    /**
+     * Starts the scheduler thread, calling it again has no effect.
+     */
+    public synchronized void start() {
+        if (thread == null) {
+            thread = new Thread(this, "table-scheduler");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Queues an event, it is applied after all events that were submitted before it.
+     *
+     * @param event the event to apply on the scheduler thread
+     */
+    public void submit(Runnable event) {
+        EVENTS.add(event);
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            Runnable event;
+            try {
+                event = EVENTS.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            Connection.beginBatch();
+            try {
+                event.run();
+            } catch (RuntimeException e) {
+                Log.error("A game event failed: " + e);
+            } finally {
+                Connection.endBatch();
+            }
+        }
+    }
+}
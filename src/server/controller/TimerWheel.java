@@ -0,0 +1,233 @@
+package server.controller;
+
+import server.view.Log;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A hashed timer wheel that runs the timers of all tables on one thread.
+ * <p>
+ * Time is cut into ticks and every timer lives in the bucket of the tick it expires in, a timer that is more than one
+ * revolution of the wheel away counts down the revolutions it still has to wait. Scheduling and cancelling a timer are
+ * O(1) and never block: other threads only put the timer in a queue, the wheel thread moves it into its bucket at the
+ * next tick. A timer fires at most one tick late, which is plenty for turn deadlines of many seconds and keeps tens of
+ * thousands of running games cheap to time.
+ * Tasks run on the wheel thread and must be short, game logic is handed over to the {@link TableScheduler}.
+ */
+public class TimerWheel implements Runnable {
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long TICK_NANOS;
+    private final Bucket[] WHEEL;
+    private final int MASK;
+    private final ConcurrentLinkedQueue<Timeout> ADDED = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Timeout> CANCELLED = new ConcurrentLinkedQueue<>();
+    private final long START = System.nanoTime();
+    private long tick;
+    private Thread thread;
+
+    //--------------------------CONSTRUCTOR--------------------------
+
+    /**
+     * Creates a wheel with ticks of 100 milliseconds and 512 buckets, one revolution takes 51.2 seconds.
+     */
+    public TimerWheel() {
+        this(100, TimeUnit.MILLISECONDS, 512);
+    }
+
+    /**
+     * Creates a wheel.
+     *
+     * @param tick    the duration of a tick
+     * @param unit    the unit of the tick duration
+     * @param buckets the amount of buckets, rounded up to a power of two
+     */
+    public TimerWheel(long tick, TimeUnit unit, int buckets) {
+        this.TICK_NANOS = unit.toNanos(tick);
+        int size = Integer.highestOneBit(Math.max(1, buckets - 1)) << 1;
+        this.WHEEL = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            WHEEL[i] = new Bucket();
+        }
+        this.MASK = size - 1;
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Starts the wheel thread, calling it again has no effect.
+     */
+    public synchronized void start() {
+        if (thread == null) {
+            thread = new Thread(this, "timer-wheel");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Schedules a task, can be called from any thread.
+     *
+     * @param delay the delay after which the task runs
+     * @param unit  the unit of the delay
+     * @param task  the task, it runs on the wheel thread
+     * @return the timer, which can be cancelled
+     */
+    public Timeout schedule(long delay, TimeUnit unit, Runnable task) {
+        Timeout timeout = new Timeout(this, task, System.nanoTime() + unit.toNanos(Math.max(0, delay)));
+        ADDED.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            long deadline = START + (tick + 1) * TICK_NANOS;
+            long sleep = deadline - System.nanoTime();
+            while (sleep > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                sleep = deadline - System.nanoTime();
+            }
+            removeCancelled();
+            transferAdded();
+            expire(WHEEL[(int) (tick & MASK)]);
+            tick++;
+        }
+    }
+
+    /**
+     * Moves newly scheduled timers into the bucket of the tick they expire in.
+     */
+    private void transferAdded() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = ADDED.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.STATE.get() != Timeout.PENDING) {
+                continue;
+            }
+            long expiresAt = (timeout.DEADLINE - START) / TICK_NANOS;
+            timeout.rounds = (expiresAt - tick) / WHEEL.length;
+            WHEEL[(int) (Math.max(expiresAt, tick) & MASK)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = CANCELLED.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Runs the timers of a bucket that are due in this revolution, the others wait one revolution less.
+     */
+    private void expire(Bucket bucket) {
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.rounds <= 0) {
+                bucket.remove(timeout);
+                if (timeout.STATE.compareAndSet(Timeout.PENDING, Timeout.EXPIRED)) {
+                    try {
+                        timeout.TASK.run();
+                    } catch (RuntimeException e) {
+                        Log.error("A timer failed: " + e);
+                    }
+                }
+            } else {
+                timeout.rounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * A scheduled task, linked into the bucket of the tick it expires in.
+     */
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final TimerWheel WHEEL;
+        private final Runnable TASK;
+        private final long DEADLINE;
+        private final AtomicInteger STATE = new AtomicInteger(PENDING);
+        private long rounds;
+        private Bucket bucket;
+        private Timeout previous;
+        private Timeout next;
+
+        Timeout(TimerWheel wheel, Runnable task, long deadline) {
+            this.WHEEL = wheel;
+            this.TASK = task;
+            this.DEADLINE = deadline;
+        }
+
+        /**
+         * Cancels the timer, the task does not run unless it already started.
+         *
+         * @return true if the timer was still pending
+         */
+        public boolean cancel() {
+            if (!STATE.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            WHEEL.CANCELLED.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return STATE.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return STATE.get() == EXPIRED;
+        }
+    }
+
+    /**
+     * A doubly linked list of timers, only touched by the wheel thread.
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            } else {
+                tail = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package server.controller;
 
+import server.controller.contract.ServerProtocol;
+import server.controller.events.EventLog;
+import server.controller.events.GameRecorder;
 import server.model.card.Card;
+import server.model.deck.CardPile;
 import server.model.deck.Deck;
 import server.model.player.ComputerPlayer;
 import server.model.player.HumanPlayer;
@@ -14,13 +18,59 @@ import server.model.table.gameModes.factory.PlayingMode;
 import server.view.TUI;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 public class UNO implements Runnable {
-    private final TUI TUI = new TUI();
+    private final TUI TUI;
     private ArrayList<Player> players;
     private Table table;
     private boolean roundOver = false;
     private PlayingMode gameMode;
+    private boolean eventDriven = false;
+    private GameState state = GameState.AWAITING_MOVE;
+    private Player awaitedPlayer;
+    private boolean turnInProgress = false;
+    private final SplittableRandom RANDOM;
+    private int turnCount;
+    private int turnLimit = Integer.MAX_VALUE;
+    private TimerWheel timers;
+    private Executor timerExecutor;
+    private long turnMillis;
+    private TimerWheel.Timeout turnTimeout;
+    private int turnSerial;
+    private BotPool botPool;
+    private Executor botExecutor;
+    private boolean botPrompt;
+    private EventLog eventLog;
+    private volatile boolean playerLeft;
+
+    //____________________CONSTRUCTOR_______________________
+
+    public UNO() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a game that takes all of its randomness from one source, so a game with a seeded source can be replayed
+     * exactly.
+     *
+     * @param random the random source of this game
+     */
+    public UNO(SplittableRandom random) {
+        this(random, new TUI());
+    }
+
+    /**
+     * Creates a game with its own view, a {@link server.view.SilentTUI} makes it run without any console output.
+     *
+     * @param random the random source of this game
+     * @param tui    the view the game prints to
+     */
+    public UNO(SplittableRandom random, TUI tui) {
+        this.RANDOM = random;
+        this.TUI = tui;
+    }
 
     /**
      * The main method that starts the game by creating a UNO object and calling its start() and play() methods.
@@ -98,14 +148,20 @@ public class UNO implements Runnable {
     }
 
     /**
-     * Broadcasts BGI for every player
+     * Broadcasts BGI for every player, or BGD for players that negotiated deltas.
+     * The players list is built once per turn and shared by all players that get a full BGI.
      *
      * @ensures that every network player is informed
      */
     public void informAll() {
+        String playersList = null;
         for (Player player : this.players) {
             if (player instanceof NetworkPlayer) {
-                ((NetworkPlayer) player).broadcastTurn();
+                NetworkPlayer np = (NetworkPlayer) player;
+                if (playersList == null && !np.getSh().isDeltaUpdates()) {
+                    playersList = NetworkPlayer.playersList(table);
+                }
+                np.broadcastTurn(playersList);
             }
         }
     }
@@ -117,6 +173,10 @@ public class UNO implements Runnable {
         while (gameOver() == null) {
             this.roundOver = false;
             while (!this.roundOver) {
+                if (playerLeft) {
+                    playerLeft = false;
+                    table.getRecorder().snapshot();
+                }
                 tablePrinter();
                 informAll();
                 String input1 = createInput();
@@ -133,6 +193,7 @@ public class UNO implements Runnable {
                 table.nextTurn();
 
                 if (gameOver() != null) {
+                    table.getRecorder().gameOver(gameOver());
                     TUI.announceWinner(gameOver().getNickname());
                     for (Player p : players) {
                         if (p instanceof NetworkPlayer) {
@@ -159,15 +220,50 @@ public class UNO implements Runnable {
         } else if (table.getCurrentPlayer() instanceof ComputerPlayer) {
             TUI.printMove(table.getCurrentPlayer().getNickname());
             ComputerPlayer cp = (ComputerPlayer) table.getCurrentPlayer();
-            input1 = cp.translator();
+            input1 = botPool == null ? cp.translator() : decideBotMove(cp);
         } else {
             NetworkPlayer np = (NetworkPlayer) table.getCurrentPlayer();
             input1 = np.getTranslation();
-            np.resetTranslation();
         }
         return input1;
     }
 
+    /**
+     * Lets the bot pool choose the move of a computer player while the game thread waits, the greedy move is played if
+     * the strategy misses its deadline. A single valid move is chosen on the game thread.
+     *
+     * @param cp the computer player whose turn it is
+     * @return the move of the computer player
+     */
+    private String decideBotMove(ComputerPlayer cp) {
+        ArrayList<Integer> moves = cp.validMoves();
+        if (moves.size() < 2) {
+            return cp.translate(moves, moves.isEmpty() ? -1 : cp.getStrategy().chooseMove(cp, moves));
+        }
+        int move = botPool.decide(cp.getThinking(), cp.getStrategy().prepareMove(cp, moves),
+                () -> cp.fallbackMove(moves), cp.getStrategy().getBudgetNanos());
+        return cp.translate(moves, move);
+    }
+
+    /**
+     * Lets a computer player pick the color after its wild card. Without a bot pool the strategy picks right away,
+     * a threaded game waits for the bot pool, and an event driven game waits for the color like for the color of a
+     * network player: the decision is handed to the bot pool once the current event is handled.
+     *
+     * @param cp the computer player that played the wild card
+     */
+    public void pickBotColor(ComputerPlayer cp) {
+        if (botPool == null) {
+            cp.applyColor(cp.getStrategy().chooseColor(cp));
+        } else if (eventDriven) {
+            awaitPrompt(GameState.AWAITING_COLOR, cp);
+            botPrompt = true;
+        } else {
+            cp.applyColor(botPool.decide(cp.getThinking(), cp.getStrategy().prepareColor(cp), cp::fallbackColor,
+                    cp.getStrategy().getBudgetNanos()));
+        }
+    }
+
     /**
      * Sets up a game of UNO.
      *
@@ -176,12 +272,26 @@ public class UNO implements Runnable {
      */
     public void setup(ArrayList<Player> players, PlayingMode gameMode) {
         this.players = players;
-        ArrayList<Card> d = new Deck().getPlayingCards();
-        Collections.shuffle(d);
+        CardPile d = new Deck(RANDOM).getPlayingCards();
         int mpi = findDealer(d);
         createTable(gameMode);
         setPlayingOrder(mpi);
+        GameRecorder recorder = eventLog == null ? GameRecorder.NONE : new GameRecorder(eventLog, table);
+        recorder.start(gameMode);
+        turnFirstCard(recorder);
+    }
+
+    /**
+     * Applies the first card of a round and records the dealt table. The recorder is off while the first card is
+     * applied, the dealt table already shows its effects.
+     *
+     * @param recorder the recorder of the game
+     */
+    private void turnFirstCard(GameRecorder recorder) {
+        table.setRecorder(GameRecorder.NONE);
         table.getPlayingMode().adjustToFirstCard(table);
+        table.setRecorder(recorder);
+        recorder.deal();
     }
 
     /**
@@ -195,7 +305,7 @@ public class UNO implements Runnable {
      * @requires d not to be null
      * @ensures maxplayers is set, if it returns -1 we know that dealer was not found
      */
-    public int findDealer(ArrayList<Card> d) {
+    public int findDealer(List<Card> d) {
         assert d != null;
         int maxValue = -1;
         int maxPlayerIndex = 0;
@@ -269,18 +379,16 @@ public class UNO implements Runnable {
     public void inputDrawNetworkPlayer() {
         NetworkPlayer np = (NetworkPlayer) table.getCurrentPlayer();
         Card c = np.getHand().get(np.getHand().size() - 1);
-        String card = c.getColor() + " " + c.getValue().toString();
+        String card = c.toString();
         np.getSh().doDrewPlayableCard(card);
+        if (eventDriven) {
+            awaitPrompt(GameState.AWAITING_RETAIN_DECISION, np);
+            return;
+        }
         String choice = np.getTranslation();
-        if (choice.equals("skip")) {
-            np.resetTranslation();
-
-        } else if (choice.equals("proceed")) {
+        if (choice.equals("proceed")) {
             np.playCard(np.getHand().get(np.getHand().size() - 1));
-            np.resetTranslation();
-
         }
-        np.resetTranslation();
     }
 
     /**
@@ -300,10 +408,12 @@ public class UNO implements Runnable {
 
     /**
      * inputDraw is a method that handles the draw action in the game.
-     * It calls the draw method for the current player, sets the drawFourPlayable flag and based on the type of the current player,
+     * It records that the current player did not follow the color on the table, calls the draw method for the current player, sets the drawFourPlayable flag and based on the type of the current player,
      * calls the inputDrawNetworkPlayer or inputDrawHumanPlayer method for further actions.
      */
     public void inputDraw() {
+        Card.Color follow = table.getIndicatedColor() != null ? table.getIndicatedColor() : table.getCurrentCard().getColor();
+        table.getCurrentPlayer().getHand().failedToFollow(follow);
         table.getCurrentPlayer().draw(1);
         table.setDrawFourPlayable(true);
         if (table.getPlayingMode().validMove(table.getCurrentPlayer().getHand().get(table.getCurrentPlayer().getHand().size() - 1), this.table)) {
@@ -333,7 +443,8 @@ public class UNO implements Runnable {
             TUI.printChallenge(false);
             table.getPreviousPlayer().draw(4);
             for (int i = 0; i < 4; i++) {
-                table.getCurrentPlayer().getHand().remove(table.getCurrentPlayer().getHand().size() - 1);
+                Card removed = table.getCurrentPlayer().getHand().remove(table.getCurrentPlayer().getHand().size() - 1);
+                table.getRecorder().remove(table.getCurrentPlayer(), removed);
                 table.setDrawFourPlayable(true);
             }
             return false;
@@ -470,20 +581,412 @@ public class UNO implements Runnable {
                     ((NetworkPlayer) p).getSh().doRoundEnded(winner);
                 }
             }
-            Deck d = new Deck();
-            Collections.shuffle(d.getPlayingCards());
+            Deck d = new Deck(RANDOM);
             int mpi = findDealer(d.getPlayingCards());
             setPlayingOrder(mpi);
             table.setPlayers(players);
             table.setCurrentTurnIndex(0);
             table.setUpRound(d);
-            table.getPlayingMode().adjustToFirstCard(table);
+            turnFirstCard(table.getRecorder());
             this.roundOver = true;
             table.setHasWinner(false);
         }
     }
 
 
+    //____________________EVENT DRIVEN GAME_______________________
+
+    /**
+     * Sets up a game that is advanced by protocol events instead of a game thread.
+     * All methods of this section must be called from the same thread, the {@link TableScheduler} of the server.
+     *
+     * @param players  the players in the game
+     * @param gameMode the mode of the game
+     */
+    public void startEventDriven(ArrayList<Player> players, PlayingMode gameMode) {
+        this.eventDriven = true;
+        this.state = GameState.AWAITING_MOVE;
+        this.turnInProgress = false;
+        this.turnCount = 0;
+        setup(players, gameMode);
+        beginTurn();
+    }
+
+    /**
+     * Suspends the game until the given player answers a prompt (color, seven swap or retain decision).
+     * Called instead of blocking whenever a move needs more input in the middle of the turn.
+     *
+     * @param awaiting the state the game waits in
+     * @param player   the player that has to answer
+     */
+    public void awaitPrompt(GameState awaiting, Player player) {
+        this.state = awaiting;
+        this.awaitedPlayer = player;
+    }
+
+    /**
+     * Handles a move event (card index, "draw", "skip", ...) of a player.
+     *
+     * @param player the player that sent the move
+     * @param input  the move, in the same format handleMove expects
+     * @return true if the event was accepted in the current state
+     */
+    public boolean onMove(Player player, String input) {
+        if (!eventDriven || state != GameState.AWAITING_MOVE || player != table.getCurrentPlayer()) {
+            return false;
+        }
+        turnInProgress = true;
+        if (!handleMove(input)) {
+            turnInProgress = false;
+            if (player instanceof NetworkPlayer) {
+                ((NetworkPlayer) player).broadcastTurn();
+            }
+            return true;
+        }
+        resumeTurn();
+        return true;
+    }
+
+    /**
+     * Handles the color a player picked after playing a wild card.
+     *
+     * @param player the player that sent the color
+     * @param color  the color as sent over the network
+     * @return true if the color was accepted
+     */
+    public boolean onColorChosen(Player player, String color) {
+        if (!eventDriven || state != GameState.AWAITING_COLOR || player != awaitedPlayer) {
+            return false;
+        }
+        this.state = GameState.AWAITING_MOVE;
+        boolean accepted = ((NetworkPlayer) player).pickColor(color);
+        resumeTurn();
+        return accepted;
+    }
+
+    /**
+     * Handles the player a player picked to swap hands with after playing a seven.
+     *
+     * @param player     the player that played the seven
+     * @param playerName the nickname of the player to swap hands with
+     * @return true if the choice was accepted
+     */
+    public boolean onSevenChoice(Player player, String playerName) {
+        if (!eventDriven || state != GameState.AWAITING_SEVEN_SWAP || player != awaitedPlayer) {
+            return false;
+        }
+        for (Player p : table.getPlayers()) {
+            if (p.getNickname().equals(playerName)) {
+                this.state = GameState.AWAITING_MOVE;
+                player.swapHands(p);
+                resumeTurn();
+                return true;
+            }
+        }
+        NetworkPlayer np = (NetworkPlayer) player;
+        np.getSh().doSendErrorCode(ServerProtocol.Errors.E006);
+        np.getSh().doAskChoiceSeven();
+        return false;
+    }
+
+    /**
+     * Handles the decision of a player whether to play the playable card they just drew.
+     *
+     * @param player the player that drew the card
+     * @param play   true if the card should be played
+     * @return true if the decision was accepted
+     */
+    public boolean onRetainDecision(Player player, boolean play) {
+        if (!eventDriven || state != GameState.AWAITING_RETAIN_DECISION || player != awaitedPlayer) {
+            return false;
+        }
+        this.state = GameState.AWAITING_MOVE;
+        if (play) {
+            player.playCard(player.getHand().get(player.getHand().size() - 1));
+        }
+        resumeTurn();
+        return true;
+    }
+
+    /**
+     * Continues the game after an event, unless the event left the game waiting for another prompt.
+     */
+    private void resumeTurn() {
+        if (state != GameState.AWAITING_MOVE) {
+            dispatchBotPrompt();
+            return;
+        }
+        awaitedPlayer = null;
+        if (turnInProgress) {
+            endTurn();
+        }
+        beginTurn();
+    }
+
+    /**
+     * Informs the players about the new turn. Computer players move right away, for every other player the game stops
+     * here until their move event arrives. With a bot pool, a computer player with a choice to make also stops the game
+     * until the pool answers, so the thread of the game never thinks for a bot.
+     */
+    private void beginTurn() {
+        while (state == GameState.AWAITING_MOVE) {
+            tablePrinter();
+            informAll();
+            if (!(table.getCurrentPlayer() instanceof ComputerPlayer)) {
+                armTurnTimer();
+                return;
+            }
+            String input;
+            if (botPool == null) {
+                input = createInput();
+            } else {
+                ComputerPlayer cp = (ComputerPlayer) table.getCurrentPlayer();
+                ArrayList<Integer> moves = cp.validMoves();
+                if (moves.size() > 1) {
+                    TUI.printMove(cp.getNickname());
+                    int turn = turnCount;
+                    botPool.decide(cp.getThinking(), cp.getStrategy().prepareMove(cp, moves),
+                            cp.getStrategy().getBudgetNanos(), botExecutor, move -> onBotMove(cp, turn, moves, move));
+                    return;
+                }
+                input = cp.translate(moves, moves.isEmpty() ? -1 : cp.getStrategy().chooseMove(cp, moves));
+            }
+            turnInProgress = true;
+            while (!handleMove(input)) {
+                tablePrinter();
+                input = createInput();
+            }
+            if (state == GameState.AWAITING_MOVE) {
+                endTurn();
+            }
+        }
+        dispatchBotPrompt();
+    }
+
+    /**
+     * Plays the move the bot pool chose for a computer player, or the greedy move if the decision missed its deadline.
+     * Moves of turns that are already over are ignored.
+     *
+     * @param cp    the computer player
+     * @param turn  the turn the move was chosen for
+     * @param moves the valid moves the choice was made from
+     * @param move  the index of the chosen card, or null
+     */
+    private void onBotMove(ComputerPlayer cp, int turn, List<Integer> moves, Integer move) {
+        if (state != GameState.AWAITING_MOVE || turn != turnCount || table.getCurrentPlayer() != cp) {
+            return;
+        }
+        turnInProgress = true;
+        String input = cp.translate(moves, move != null ? move : cp.fallbackMove(moves));
+        while (!handleMove(input)) {
+            tablePrinter();
+            input = cp.translate(moves, cp.fallbackMove(moves));
+        }
+        resumeTurn();
+    }
+
+    /**
+     * Hands the color prompt of a computer player to the bot pool, after the event that raised it is handled.
+     */
+    private void dispatchBotPrompt() {
+        if (!botPrompt) {
+            return;
+        }
+        botPrompt = false;
+        ComputerPlayer cp = (ComputerPlayer) awaitedPlayer;
+        int turn = turnCount;
+        botPool.decide(cp.getThinking(), cp.getStrategy().prepareColor(cp), cp.getStrategy().getBudgetNanos(),
+                botExecutor, color -> onBotColor(cp, turn, color));
+    }
+
+    /**
+     * Applies the color the bot pool chose for a computer player, or the greedy color if the decision missed its
+     * deadline, and continues the game.
+     */
+    private void onBotColor(ComputerPlayer cp, int turn, Card.Color color) {
+        if (state != GameState.AWAITING_COLOR || awaitedPlayer != cp || turn != turnCount) {
+            return;
+        }
+        this.state = GameState.AWAITING_MOVE;
+        cp.applyColor(color != null ? color : cp.fallbackColor());
+        resumeTurn();
+    }
+
+    /**
+     * Passes the turn on and ends the round or the game if there is a winner, like one iteration of play().
+     */
+    private void endTurn() {
+        turnInProgress = false;
+        turnCount++;
+        table.nextTurn();
+        if (gameOver() == null && turnCount >= turnLimit) {
+            this.state = GameState.GAME_OVER;
+            disarmTurnTimer();
+            table.getRecorder().gameOver(null);
+            return;
+        }
+        if (gameOver() != null) {
+            finishGame();
+            return;
+        }
+        this.roundOver();
+    }
+
+    /**
+     * Ends the game and announces its winner.
+     */
+    private void finishGame() {
+        this.state = GameState.GAME_OVER;
+        disarmTurnTimer();
+        table.getRecorder().gameOver(gameOver());
+        TUI.announceWinner(gameOver().getNickname());
+        for (Player p : players) {
+            if (p instanceof NetworkPlayer) {
+                ((NetworkPlayer) p).getSh().doGameEnded(gameOver().getNickname());
+            }
+        }
+    }
+
+    /**
+     * Notes that a player left a game that runs on its own thread. The table is recorded by the game thread at the start
+     * of the next turn, the thread of the leaving player must not read it while the game changes it.
+     */
+    public void markPlayerLeft() {
+        playerLeft = true;
+    }
+
+    /**
+     * Removes a player that left the game, their cards are shuffled into the drawing pile. If it was their turn, the
+     * turn passes on to the next player without being counted, whatever the player was asked at that moment. The
+     * game is over if a single player is left.
+     *
+     * @param player the player that left
+     */
+    public void onPlayerLeft(Player player) {
+        if (!table.getPlayers().contains(player)) {
+            return;
+        }
+        boolean theirTurn = player == table.getCurrentPlayer();
+        table.getDeck().getPlayingCards().addAll(player.getHand());
+        table.getDeck().getPlayingCards().shuffle(table.getRandom());
+        table.removePlayer(player);
+        players.remove(player);
+        table.getRecorder().snapshot();
+        if (state == GameState.GAME_OVER) {
+            return;
+        }
+        if (gameOver() != null) {
+            finishGame();
+            return;
+        }
+        if (!theirTurn) {
+            informAll();
+            return;
+        }
+        this.state = GameState.AWAITING_MOVE;
+        this.awaitedPlayer = null;
+        this.botPrompt = false;
+        this.turnInProgress = false;
+        beginTurn();
+    }
+
+    /**
+     * Times the turns of network players of an event driven game. A player gets reminded (RP) when a third and two
+     * thirds of the turn are over, and when the turn is over a card is drawn for them and the turn passes on. During
+     * a progressive stack they take the stacked cards instead.
+     *
+     * @param timers     the timer wheel of the server
+     * @param executor   runs the timer events on the thread of the game, the {@link TableScheduler}
+     * @param turnMillis the length of a turn in milliseconds
+     */
+    public void enableTurnTimer(TimerWheel timers, Executor executor, long turnMillis) {
+        this.timers = timers;
+        this.timerExecutor = executor;
+        this.turnMillis = turnMillis;
+    }
+
+    /**
+     * Lets the computer players of this game think on a bot pool instead of the thread of the game.
+     *
+     * @param pool     the bot pool of the server
+     * @param executor runs the decisions of an event driven game on the thread of the game, the {@link TableScheduler}
+     */
+    public void enableBotPool(BotPool pool, Executor executor) {
+        this.botPool = pool;
+        this.botExecutor = executor;
+    }
+
+    /**
+     * Records every state transition of this game in the event log of the server, from the next setup on.
+     *
+     * @param log the event log, or null to record nothing
+     */
+    public void enableEventLog(EventLog log) {
+        this.eventLog = log;
+    }
+
+    /**
+     * Starts the timer of the turn that just began, replacing the timer of the previous turn.
+     */
+    private void armTurnTimer() {
+        disarmTurnTimer();
+        if (timers != null && table.getCurrentPlayer() instanceof NetworkPlayer) {
+            scheduleTurnStep(turnSerial, (NetworkPlayer) table.getCurrentPlayer(), 1);
+        }
+    }
+
+    private void disarmTurnTimer() {
+        turnSerial++;
+        if (turnTimeout != null) {
+            turnTimeout.cancel();
+            turnTimeout = null;
+        }
+    }
+
+    /**
+     * Schedules the next step of a turn timer: steps 1 and 2 are the reminders, step 3 ends the turn.
+     */
+    private void scheduleTurnStep(int serial, NetworkPlayer player, int step) {
+        turnTimeout = timers.schedule(turnMillis / 3, TimeUnit.MILLISECONDS,
+                () -> timerExecutor.execute(() -> onTurnTimer(serial, player, step)));
+    }
+
+    /**
+     * Handles a step of the turn timer on the game thread, timers of turns that are already over are ignored. A turn
+     * that runs out is played for the player: they draw a card, or take the stacked cards in the progressive mode, and
+     * the lobby is told so like after a move of the player itself.
+     */
+    private void onTurnTimer(int serial, NetworkPlayer player, int step) {
+        if (serial != turnSerial || state == GameState.GAME_OVER) {
+            return;
+        }
+        if (step < 3) {
+            long left = turnMillis - step * (turnMillis / 3);
+            player.getSh().doRemindPlay(String.valueOf((left + 999) / 1000));
+            scheduleTurnStep(serial, player, step + 1);
+            return;
+        }
+        turnTimeout = null;
+        if (state == GameState.AWAITING_MOVE && table.getCurrentPlayer() == player) {
+            String action = table.getPlayingMode().getForwardCount() > 0 ? "skip" : "draw";
+            player.getSh().doHandleInactivePlayer(action);
+            if (onMove(player, action)) {
+                for (Player p : table.getPlayers()) {
+                    if (p instanceof NetworkPlayer) {
+                        if (action.equals("skip")) {
+                            ((NetworkPlayer) p).getSh().doBroadcastTurnSkipped(player.getNickname());
+                        } else {
+                            ((NetworkPlayer) p).getSh().doBroadcastDrewCard(player.getNickname());
+                        }
+                    }
+                }
+            }
+        }
+        if (state == GameState.AWAITING_RETAIN_DECISION && awaitedPlayer == player) {
+            onRetainDecision(player, false);
+        }
+    }
+
     //____________________GETTERS AND SETTERS_______________________
 
     public Table getTable() {
@@ -509,6 +1012,35 @@ public class UNO implements Runnable {
     public boolean isRoundOver() {
         return roundOver;
     }
+
+    public boolean isEventDriven() {
+        return eventDriven;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public SplittableRandom getRandom() {
+        return RANDOM;
+    }
+
+    public BotPool getBotPool() {
+        return botPool;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * Limits the number of turns of an event driven game, a game that reaches the limit ends without a winner.
+     *
+     * @param turnLimit the maximum number of turns
+     */
+    public void setTurnLimit(int turnLimit) {
+        this.turnLimit = turnLimit;
+    }
     //____________________RUN METHOD_______________________
 
     @Override
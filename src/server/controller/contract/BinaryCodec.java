@@ -0,0 +1,506 @@
+package server.controller.contract;
+
+import client.controller.contract.ClientProtocol.ClientCommand;
+import server.controller.contract.ServerProtocol.ServerCommands;
+import server.model.card.Card;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact binary encoding of the protocol lines, negotiated with the handshake feature {@link #FEATURE}.
+ * <p>
+ * A frame is the byte {@link #MARKER}, the length of the payload as unsigned varint and the payload. The payload is
+ * one byte for the command (its index in the known commands) followed by the '|' delimited fields of the line, each
+ * as a type byte and its data: a card is its one-byte code, a hand is a count and one byte per card, a player list
+ * is a count and the name, hand size and score of each player, booleans have no data, and everything else is UTF-8
+ * text with a varint length. Hands and player lists of more than 127 entries are sent as text. A line whose frame
+ * would exceed {@link #MAX_PAYLOAD} is sent as a text line instead. Decoding writes exactly the text line into a
+ * {@link ProtocolTokenizer} and marks the fields on the way, so the handlers stay the same for both encodings and a
+ * frame is never tokenized a second time.
+ * <p>
+ * The marker is never the first byte of a text line, so a reader accepts text lines and binary frames mixed on the
+ * same stream. Only the sender has to know if the other side negotiated the binary encoding, and there is no moment
+ * during the handshake in which the two sides disagree about how the bytes must be read.
+ */
+public final class BinaryCodec {
+    /**
+     * Handshake feature that asks the server to send binary frames, MH|name|type|binary is answered with AH|binary.
+     */
+    public static final String FEATURE = "binary";
+    /**
+     * First byte of every frame, a UTF-8 continuation byte that cannot start a text line.
+     */
+    public static final int MARKER = 0xB1;
+    /**
+     * Maximum length of the payload of a frame.
+     */
+    public static final int MAX_PAYLOAD = 8192;
+
+    private static final int COMMAND_TEXT = 0xFF;
+    private static final int TEXT = 0;
+    private static final int CARD = 1;
+    private static final int CARDS = 2;
+    private static final int PLAYERS = 3;
+    private static final int TRUE = 4;
+    private static final int FALSE = 5;
+    private static final int HEADER = 3;
+    private static final String[] COMMANDS = commandNames();
+
+    private BinaryCodec() {
+    }
+
+    private static String[] commandNames() {
+        ServerCommands[] server = ServerCommands.values();
+        ClientCommand[] client = ClientCommand.values();
+        String[] names = new String[server.length + client.length];
+        for (int i = 0; i < server.length; i++) {
+            names[i] = server[i].name();
+        }
+        for (int i = 0; i < client.length; i++) {
+            names[server.length + i] = client[i].name();
+        }
+        return names;
+    }
+
+    //--------------------------ENCODING--------------------------
+
+    /**
+     * Encodes a text line into a complete frame, marker and length included.
+     *
+     * @param line the protocol line without line terminator
+     * @return the frame
+     * @throws IllegalArgumentException if the payload would exceed {@link #MAX_PAYLOAD}
+     */
+    public static byte[] encode(String line) {
+        byte[] frame = encodeFrame(line);
+        if (frame == null) {
+            throw new IllegalArgumentException("Frame of " + line + " is too long");
+        }
+        return frame;
+    }
+
+    /**
+     * Encodes a message for a stream on which the binary encoding was negotiated: as a frame, or as a text line with
+     * its terminator if the frame would be too long.
+     *
+     * @param line the protocol line without line terminator
+     * @return the bytes to send
+     */
+    public static byte[] frameOrLine(String line) {
+        byte[] frame = encodeFrame(line);
+        return frame != null ? frame : (line + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the frame, or null if its payload would exceed {@link #MAX_PAYLOAD}
+     */
+    private static byte[] encodeFrame(String line) {
+        Output payload = new Output(line.length());
+        payload.reset(HEADER);
+        int end = line.indexOf(ServerProtocol.DELIMITER);
+        if (end == -1) {
+            end = line.length();
+        }
+        int command = commandIndex(line, end);
+        if (command == -1) {
+            payload.write(COMMAND_TEXT);
+            payload.writeText(line, 0, end);
+        } else {
+            payload.write(command);
+        }
+        while (end < line.length()) {
+            int start = end + 1;
+            end = line.indexOf(ServerProtocol.DELIMITER, start);
+            if (end == -1) {
+                end = line.length();
+            }
+            encodeField(payload, line, start, end);
+        }
+        int length = payload.size() - HEADER;
+        if (length > MAX_PAYLOAD) {
+            return null;
+        }
+        if (length < 0x80) {
+            payload.set(1, MARKER);
+            payload.set(2, length);
+            return payload.toByteArray(1);
+        }
+        payload.set(0, MARKER);
+        payload.set(1, (length & 0x7F) | 0x80);
+        payload.set(2, length >>> 7);
+        return payload.toByteArray(0);
+    }
+
+    private static int commandIndex(String line, int end) {
+        for (int i = 0; i < COMMANDS.length; i++) {
+            if (COMMANDS[i].length() == end && line.startsWith(COMMANDS[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void encodeField(Output out, String line, int start, int end) {
+        if (line.startsWith("true", start) && end - start == 4) {
+            out.write(TRUE);
+            return;
+        }
+        if (line.startsWith("false", start) && end - start == 5) {
+            out.write(FALSE);
+            return;
+        }
+        Card card = Card.fromWire(line, start, end);
+        if (card != null) {
+            out.write(CARD);
+            out.write(card.getCode());
+            return;
+        }
+        if (end > start && line.charAt(end - 1) == ';' && (encodeCards(out, line, start, end) || encodePlayers(out, line, start, end))) {
+            return;
+        }
+        out.write(TEXT);
+        out.writeText(line, start, end);
+    }
+
+    /**
+     * Encodes a field like "RED 7;BLUE SKIP;" if every entry is a card.
+     */
+    private static boolean encodeCards(Output out, String line, int from, int to) {
+        int mark = out.size();
+        out.write(CARDS);
+        out.write(0);
+        int count = 0;
+        for (int start = from; start < to; count++) {
+            int end = line.indexOf(';', start);
+            Card card = Card.fromWire(line, start, end);
+            if (card == null || count == 0x7F) {
+                out.reset(mark);
+                return false;
+            }
+            out.write(card.getCode());
+            start = end + 1;
+        }
+        out.set(mark + 1, count);
+        return true;
+    }
+
+    /**
+     * Encodes a field like "alice:7:0;bob:3:50;" if every entry is a name and two numbers that decode to the same text.
+     */
+    private static boolean encodePlayers(Output out, String line, int from, int to) {
+        int mark = out.size();
+        out.write(PLAYERS);
+        out.write(0);
+        int count = 0;
+        for (int start = from; start < to; count++) {
+            int end = line.indexOf(';', start);
+            int first = line.indexOf(':', start);
+            int second = first == -1 ? -1 : line.indexOf(':', first + 1);
+            int size = second == -1 || second > end ? -1 : number(line, first + 1, second);
+            int score = size == -1 ? -1 : number(line, second + 1, end);
+            if (score == -1 || count == 0x7F) {
+                out.reset(mark);
+                return false;
+            }
+            out.writeText(line, start, first);
+            out.writeVarint(size);
+            out.writeVarint(score);
+            start = end + 1;
+        }
+        out.set(mark + 1, count);
+        return true;
+    }
+
+    /**
+     * Parses a number in canonical form (no sign, no leading zeros).
+     *
+     * @return the number, or -1 if the text is no canonical number
+     */
+    private static int number(String text, int start, int end) {
+        if (end <= start || end - start > 9 || (text.charAt(start) == '0' && end - start > 1)) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    //--------------------------DECODING--------------------------
+
+    /**
+     * Decodes the payload of a frame back into its text line.
+     *
+     * @param payload the bytes of the payload
+     * @param offset  the index of the first byte of the payload
+     * @param length  the length of the payload
+     * @return the text line
+     * @throws IllegalArgumentException if the payload is malformed
+     */
+    public static String decode(byte[] payload, int offset, int length) {
+        return decode(payload, offset, length, new ProtocolTokenizer()).getLine().toString();
+    }
+
+    /**
+     * Decodes the payload of a frame into a tokenizer, the fields of its previous line are forgotten.
+     *
+     * @param payload the bytes of the payload
+     * @param offset  the index of the first byte of the payload
+     * @param length  the length of the payload
+     * @param tokens  the tokenizer to decode into
+     * @return the tokenizer, holding the fields of the line
+     * @throws IllegalArgumentException  if the payload is malformed
+     * @throws IndexOutOfBoundsException if the payload ends in the middle of a field
+     */
+    public static ProtocolTokenizer decode(byte[] payload, int offset, int length, ProtocolTokenizer tokens) {
+        StringBuilder sb = tokens.begin();
+        if (length == 0) {
+            return tokens.finish();
+        }
+        Input in = new Input(payload, offset, length);
+        int command = in.read();
+        if (command == COMMAND_TEXT) {
+            in.readText(sb);
+        } else if (command < COMMANDS.length) {
+            sb.append(COMMANDS[command]);
+        } else {
+            throw new IllegalArgumentException("Unknown command " + command);
+        }
+        while (in.hasRemaining()) {
+            tokens.endField();
+            decodeField(in, sb);
+        }
+        return tokens.finish();
+    }
+
+    private static void decodeField(Input in, StringBuilder sb) {
+        int type = in.read();
+        switch (type) {
+            case TEXT:
+                in.readText(sb);
+                break;
+            case CARD:
+                sb.append(Card.decode((byte) in.read()));
+                break;
+            case CARDS:
+                for (int i = in.readVarint(); i > 0; i--) {
+                    sb.append(Card.decode((byte) in.read())).append(';');
+                }
+                break;
+            case PLAYERS:
+                for (int i = in.readVarint(); i > 0; i--) {
+                    in.readText(sb);
+                    sb.append(':').append(in.readVarint()).append(':').append(in.readVarint()).append(';');
+                }
+                break;
+            case TRUE:
+                sb.append("true");
+                break;
+            case FALSE:
+                sb.append("false");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown field type " + type);
+        }
+    }
+
+    /**
+     * Reads the next message from a stream that can hold text lines and binary frames.
+     *
+     * @param in the stream, buffered by the caller
+     * @return the text line, or null if the stream ended
+     * @throws IOException if the stream could not be read or a frame is malformed
+     */
+    public static String read(InputStream in) throws IOException {
+        ProtocolTokenizer tokens = read(in, new ProtocolTokenizer());
+        return tokens == null ? null : tokens.getLine().toString();
+    }
+
+    /**
+     * Reads the next message from a stream that can hold text lines and binary frames into a tokenizer.
+     *
+     * @param in     the stream, buffered by the caller
+     * @param tokens the tokenizer to read into
+     * @return the tokenizer, or null if the stream ended
+     * @throws IOException if the stream could not be read or a frame is malformed
+     */
+    public static ProtocolTokenizer read(InputStream in, ProtocolTokenizer tokens) throws IOException {
+        int first = in.read();
+        if (first == -1) {
+            return null;
+        }
+        if (first == MARKER) {
+            int length = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = in.read();
+                if (b == -1 || shift > 28) {
+                    throw new EOFException("Malformed frame length");
+                }
+                length |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    break;
+                }
+            }
+            if (length > MAX_PAYLOAD) {
+                throw new IOException("Frame of " + length + " bytes is too long");
+            }
+            byte[] payload = in.readNBytes(length);
+            if (payload.length < length) {
+                throw new EOFException("Frame ended early");
+            }
+            try {
+                return decode(payload, 0, length, tokens);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IOException("Malformed frame: " + e.getMessage());
+            }
+        }
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        for (int b = first; b != '\n'; b = in.read()) {
+            if (b == -1) {
+                break;
+            }
+            line.write(b);
+        }
+        byte[] bytes = line.toByteArray();
+        int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+        return tokens.reset(new String(bytes, 0, length, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A growable byte buffer with varint and text writers.
+     */
+    private static final class Output {
+        private byte[] bytes;
+        private int size;
+
+        Output(int capacity) {
+            this.bytes = new byte[Math.max(16, capacity)];
+        }
+
+        void write(int b) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, size * 2);
+            }
+            bytes[size++] = (byte) b;
+        }
+
+        void write(byte[] source, int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+            System.arraycopy(source, 0, bytes, size, length);
+            size += length;
+        }
+
+        void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        /**
+         * Writes the length and the UTF-8 bytes of a region of a text, ASCII text is copied without encoder.
+         */
+        void writeText(String text, int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (text.charAt(i) >= 0x80) {
+                    byte[] utf8 = text.substring(start, end).getBytes(StandardCharsets.UTF_8);
+                    writeVarint(utf8.length);
+                    write(utf8, utf8.length);
+                    return;
+                }
+            }
+            writeVarint(end - start);
+            for (int i = start; i < end; i++) {
+                write(text.charAt(i));
+            }
+        }
+
+        void set(int index, int b) {
+            bytes[index] = (byte) b;
+        }
+
+        void reset(int size) {
+            this.size = size;
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] toByteArray(int from) {
+            return Arrays.copyOfRange(bytes, from, size);
+        }
+    }
+
+    /**
+     * Reads a payload, reading past its end throws an IndexOutOfBoundsException.
+     */
+    private static final class Input {
+        private final byte[] BYTES;
+        private final int END;
+        private int position;
+
+        Input(byte[] bytes, int offset, int length) {
+            this.BYTES = bytes;
+            this.position = offset;
+            this.END = offset + length;
+        }
+
+        boolean hasRemaining() {
+            return position < END;
+        }
+
+        int read() {
+            if (position >= END) {
+                throw new IndexOutOfBoundsException("Payload ended early");
+            }
+            return BYTES[position++] & 0xFF;
+        }
+
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift <= 28; shift += 7) {
+                int b = read();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        /**
+         * Appends a text with its varint length, ASCII text is appended without decoder.
+         */
+        void readText(StringBuilder sb) {
+            int length = readVarint();
+            if (length > END - position) {
+                throw new IndexOutOfBoundsException("Payload ended early");
+            }
+            int end = position + length;
+            for (int i = position; i < end; i++) {
+                if (BYTES[i] < 0) {
+                    sb.append(new String(BYTES, position, length, StandardCharsets.UTF_8));
+                    position = end;
+                    return;
+                }
+            }
+            for (; position < end; position++) {
+                sb.append((char) BYTES[position]);
+            }
+        }
+    }
+}
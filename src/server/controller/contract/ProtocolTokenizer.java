@@ -0,0 +1,210 @@
+package server.controller.contract;
+
+import java.util.Arrays;
+
+/**
+ * Splits a protocol line into its '|' delimited fields without regular expressions.
+ * <p>
+ * The tokenizer is reused for every line of a connection: {@link #reset(CharSequence)} only records where the fields
+ * end in an int array that grows once and is kept, so matching the command of a line allocates nothing. Only the
+ * fields a handler actually needs are turned into strings by {@link #get(int)}.
+ * The fields are the same as the ones of {@code line.split("[|]")}, including the removal of trailing empty fields.
+ * A binary frame is decoded straight into a tokenizer by {@link BinaryCodec}, which records where the fields end while
+ * it writes them into a reused buffer, so a frame is never scanned for delimiters afterwards.
+ * A tokenizer is not thread-safe, every handler owns one.
+ */
+public final class ProtocolTokenizer {
+    private final StringBuilder DECODED = new StringBuilder(128);
+    private CharSequence line = "";
+    private int[] ends = new int[8];
+    private int size;
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Tokenizes a new line, the fields of the previous line are forgotten.
+     *
+     * @param line the received line without line terminator
+     * @return this tokenizer
+     */
+    public ProtocolTokenizer reset(CharSequence line) {
+        this.line = line;
+        this.size = 0;
+        int length = line.length();
+        for (int i = 0; i < length; i++) {
+            if (line.charAt(i) == ServerProtocol.DELIMITER) {
+                add(i);
+            }
+        }
+        end(length);
+        return this;
+    }
+
+    /**
+     * Starts a line that is written field by field, the fields of the previous line are forgotten.
+     *
+     * @return the buffer to write the first field to, fields are separated by {@link #endField()}
+     */
+    StringBuilder begin() {
+        DECODED.setLength(0);
+        this.line = DECODED;
+        this.size = 0;
+        return DECODED;
+    }
+
+    /**
+     * Ends the field that was written last and appends the delimiter, the next field follows it in the buffer.
+     */
+    void endField() {
+        add(DECODED.length());
+        DECODED.append(ServerProtocol.DELIMITER);
+    }
+
+    /**
+     * Ends the last field of a line that was written since {@link #begin()}.
+     *
+     * @return this tokenizer
+     */
+    ProtocolTokenizer finish() {
+        end(DECODED.length());
+        return this;
+    }
+
+    /**
+     * Adds the end of the last field and drops trailing empty fields, like split does.
+     */
+    private void end(int length) {
+        add(length);
+        if (size > 1) {
+            while (size > 0 && start(size - 1) == ends[size - 1]) {
+                size--;
+            }
+        }
+    }
+
+    private void add(int end) {
+        if (size == ends.length) {
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        ends[size++] = end;
+    }
+
+    private int start(int field) {
+        return field == 0 ? 0 : ends[field - 1] + 1;
+    }
+
+    private void check(int field) {
+        if (field < 0 || field >= size) {
+            throw new IndexOutOfBoundsException("Field " + field + " of " + size);
+        }
+    }
+
+    /**
+     * Determines if a field consists of exactly the given text.
+     *
+     * @param field the index of the field
+     * @param text  the text to compare with
+     * @return true if the field exists and equals the text
+     */
+    public boolean is(int field, String text) {
+        if (field < 0 || field >= size) {
+            return false;
+        }
+        return regionEquals(start(field), ends[field], text);
+    }
+
+    private boolean regionEquals(int from, int to, String text) {
+        if (to - from != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (line.charAt(from + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines if a field is a list, separated by the given character, that contains the given item.
+     *
+     * @param field     the index of the field
+     * @param separator the separator of the list, e.g. ','
+     * @param item      the item to look for
+     * @return true if the field exists and contains the item
+     */
+    public boolean contains(int field, char separator, String item) {
+        if (field < 0 || field >= size) {
+            return false;
+        }
+        int from = start(field);
+        int end = ends[field];
+        for (int i = from; i <= end; i++) {
+            if (i == end || line.charAt(i) == separator) {
+                if (regionEquals(from, i, item)) {
+                    return true;
+                }
+                from = i + 1;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Looks up the command of the line, the first field, among the given commands by comparing names.
+     * Callers pass a cached {@code values()} array, so the lookup allocates nothing.
+     *
+     * @param commands the known commands
+     * @param <E>      the enum of the commands
+     * @return the command, or null if the first field is no known command
+     */
+    public <E extends Enum<E>> E match(E[] commands) {
+        for (E command : commands) {
+            if (is(0, command.name())) {
+                return command;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a field as a string.
+     *
+     * @param field the index of the field
+     * @return the field
+     * @throws IndexOutOfBoundsException if the line has no such field, like indexing the result of split
+     */
+    public String get(int field) {
+        check(field);
+        return line.subSequence(start(field), ends[field]).toString();
+    }
+
+    /**
+     * @return the whole line, valid until the tokenizer is reset
+     */
+    public CharSequence getLine() {
+        return line;
+    }
+
+    /**
+     * @return the amount of fields of the line
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the fields in the format of {@code Arrays.toString}, used in error messages
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(line, start(i), ends[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
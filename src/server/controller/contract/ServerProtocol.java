@@ -10,6 +10,12 @@ public interface ServerProtocol {
 
     char DELIMITER = '|';
 
+    /**
+     * Optional feature a client can offer as fourth field of the handshake (MH|name|type|delta). If the server accepts
+     * it, the handshake is answered with AH|delta and the game information of later turns is sent as BGD deltas.
+     */
+    String FEATURE_DELTA = "delta";
+
     /**
      * This enum class contains all the relevant protocol error codes and associated messages that will be used.
      * They are placed on the networking.server-side for better access management, but the Client class can make use of them with the public access modifier.
@@ -69,7 +75,9 @@ public interface ServerProtocol {
         BCL("Broadcast Created Lobby"),
         BJL("Player joined lobby"),
         BM("Broadcast Chat Message"),
-        BUNO("Broadcast Say UNO");
+        BUNO("Broadcast Say UNO"),
+        BGD("Broadcast game information delta"),
+        AC7("Ask for choice seven");
 
         private final String action;
 
@@ -229,6 +237,19 @@ public interface ServerProtocol {
      */
     void doBroadcastGameInformation(String topCard, String playerHand, String playersList, String isYourTurn);
 
+    /**
+     * This method creates the appropriate tag and message corresponding to the changes of the game information since the
+     * last BGI or BGD sent to this client (BGD). Only sent to clients that negotiated the delta feature.
+     * Once the data packet is produced, it is sent.
+     *
+     * @param topCard      of type String, representing the new top card, empty if it did not change
+     * @param addedCards   of type String, representing the cards added to the hand, separated by ';'
+     * @param removedCards of type String, representing the cards removed from the hand, separated by ';'
+     * @param changedPlayers of type {@code String} representing name:cards:score of every player whose hand size or score changed
+     * @param isYourTurn   of type {@code String} indicates if it is the player’s turn
+     */
+    void doBroadcastGameDelta(String topCard, String addedCards, String removedCards, String changedPlayers, String isYourTurn);
+
     /**
      * This method creates the appropriate tag and message corresponding to a card being played in the game (BCP).
      * Once the data packet is produced, it is sent.
@@ -337,8 +358,10 @@ public interface ServerProtocol {
 
     /**
      * This method exists so that the networking.server can implement a mechanism to handle an inactive player (RP can be used).
+     *
+     * @param action of type String, the move that was made for the player, "draw" or "skip".
      */
-    void doHandleInactivePlayer();
+    void doHandleInactivePlayer(String action);
 
     /**
      * This method exists so that the networking.server can handle a networking.client that disconnected (by terminating the socket and adjusting the game).
@@ -0,0 +1,300 @@
+package server.controller.events;
+
+import server.view.Log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The append-only log of the events of all games on a server, see {@link GameEvent} for the format.
+ * <p>
+ * Games only put their events in a bounded queue, so recording costs a game no more than encoding a few bytes. A single
+ * daemon thread takes the events out in batches and copies them into a memory-mapped segment file, so a write is a
+ * memory copy and the operating system writes the pages back. The segment is forced to the disk at most once per flush
+ * interval and when the log is closed. A full segment is forced and the next one is mapped, all segments of a log share
+ * the prefix {@code events-<start time>-} and are numbered in order.
+ * If the queue is full, events are dropped rather than making a game wait; a LOST event marks where that happened.
+ * Game ids are unique within the directory: a new log continues after the highest id of the logs already in it, so
+ * the games of several runs of a server can be told apart.
+ */
+public class EventLog {
+    private static final int BATCH = 1024;
+    private static final String SUFFIX = ".seg";
+
+    private final Path DIRECTORY;
+    private final String PREFIX;
+    private final int SEGMENT_BYTES;
+    private final long FLUSH_NANOS;
+    private final BlockingQueue<GameEvent> QUEUE;
+    private final AtomicInteger GAMES;
+    private final AtomicLong APPENDED = new AtomicLong();
+    private final AtomicLong WRITTEN = new AtomicLong();
+    private final AtomicLong DROPPED = new AtomicLong();
+    private final List<Path> SEGMENTS = new ArrayList<>();
+    private final Thread WRITER;
+    private MappedByteBuffer segment;
+    private volatile boolean open = true;
+
+    //--------------------------CONSTRUCTOR--------------------------
+
+    /**
+     * Opens a new log in a directory and starts its writer thread.
+     *
+     * @param directory    the directory of the segment files, created if it does not exist
+     * @param segmentBytes the size of a segment file
+     * @param capacity     the most events that wait for the writer
+     * @param flushMillis  the most time written events may wait before they are forced to the disk
+     * @throws IOException if the first segment cannot be created
+     */
+    public EventLog(Path directory, int segmentBytes, int capacity, long flushMillis) throws IOException {
+        if (segmentBytes < 1024) {
+            throw new IllegalArgumentException("segments of " + segmentBytes + " bytes are too small");
+        }
+        this.DIRECTORY = Files.createDirectories(directory);
+        this.GAMES = new AtomicInteger(lastGame(DIRECTORY));
+        this.PREFIX = "events-" + System.currentTimeMillis() + "-";
+        this.SEGMENT_BYTES = segmentBytes;
+        this.FLUSH_NANOS = TimeUnit.MILLISECONDS.toNanos(flushMillis);
+        this.QUEUE = new ArrayBlockingQueue<>(capacity);
+        roll();
+        this.WRITER = new Thread(this::write, "event-writer");
+        WRITER.setDaemon(true);
+        WRITER.start();
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * @return a new game id, unique within the directory of this log
+     */
+    public int newGame() {
+        return GAMES.incrementAndGet();
+    }
+
+    /**
+     * Queues an event, never blocks.
+     *
+     * @param game    the id of the game
+     * @param type    the type of the event
+     * @param payload the payload of the event
+     */
+    public void append(int game, byte type, byte[] payload) {
+        if (!open || !QUEUE.offer(new GameEvent(game, type, payload))) {
+            DROPPED.incrementAndGet();
+            return;
+        }
+        APPENDED.incrementAndGet();
+    }
+
+    /**
+     * Waits until the events queued so far are in the segment, where readers of the file see them.
+     *
+     * @param timeoutMillis the most time to wait
+     * @return true if the events were written in time
+     */
+    public boolean flush(long timeoutMillis) {
+        long target = APPENDED.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (WRITTEN.get() < target) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the queued events, forces the segment to the disk and stops the writer. Events appended afterwards are
+     * dropped.
+     */
+    public void close() {
+        open = false;
+        WRITER.interrupt();
+        try {
+            WRITER.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write() {
+        ArrayList<GameEvent> batch = new ArrayList<>(BATCH);
+        long forced = System.nanoTime();
+        boolean dirty = false;
+        while (open || !QUEUE.isEmpty()) {
+            try {
+                GameEvent first = QUEUE.poll(Math.max(1, TimeUnit.NANOSECONDS.toMillis(FLUSH_NANOS)), TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    QUEUE.drainTo(batch, BATCH - 1);
+                }
+            } catch (InterruptedException e) {
+                open = false;
+            }
+            long dropped = DROPPED.getAndSet(0);
+            if (dropped > 0) {
+                Log.warn(dropped + " game events were dropped");
+                writeFrame(new GameEvent(0, GameEvent.LOST, ByteBuffer.allocate(Long.BYTES).putLong(dropped).array()));
+            }
+            for (GameEvent event : batch) {
+                writeFrame(event);
+            }
+            dirty |= !batch.isEmpty() || dropped > 0;
+            WRITTEN.addAndGet(batch.size());
+            batch.clear();
+            if (dirty && System.nanoTime() - forced >= FLUSH_NANOS) {
+                force();
+                forced = System.nanoTime();
+                dirty = false;
+            }
+        }
+        force();
+    }
+
+    private void writeFrame(GameEvent event) {
+        if (segment == null) {
+            return;
+        }
+        int length = event.frameLength();
+        if (length > SEGMENT_BYTES) {
+            Log.warn("Dropped " + event + ", it does not fit in a segment");
+            return;
+        }
+        if (segment.remaining() < length) {
+            force();
+            try {
+                roll();
+            } catch (IOException e) {
+                Log.error("Could not create the next event log segment, game events are no longer logged: " + e.getMessage());
+                segment = null;
+                return;
+            }
+        }
+        segment.putInt(event.getGame()).put(event.getType()).putShort((short) event.getPayload().length)
+                .put(event.getPayload());
+    }
+
+    private void force() {
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Maps the next segment file.
+     */
+    private void roll() throws IOException {
+        Path file = DIRECTORY.resolve(String.format("%s%05d%s", PREFIX, SEGMENTS.size(), SUFFIX));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_BYTES);
+        }
+        synchronized (SEGMENTS) {
+            SEGMENTS.add(file);
+        }
+    }
+
+    /**
+     * Reads the events of a segment file, up to the end of the written part.
+     *
+     * @param file the segment file
+     * @return the events in the order they were written
+     * @throws IOException if the file cannot be read
+     */
+    public static List<GameEvent> read(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        List<GameEvent> events = new ArrayList<>();
+        while (buffer.remaining() >= GameEvent.HEADER) {
+            int game = buffer.getInt();
+            byte type = buffer.get();
+            int length = buffer.getShort();
+            if (type == 0 || length < 0 || length > buffer.remaining()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            events.add(new GameEvent(game, type, payload));
+        }
+        return events;
+    }
+
+    /**
+     * Lists the segment files in a directory, or the file itself if it is no directory.
+     *
+     * @param path a directory of segments or a segment file
+     * @return the segment files, in the order they were written
+     * @throws IOException if the directory cannot be read
+     */
+    public static List<Path> segments(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(SUFFIX)).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Finds the highest game id in the segments of a directory. Ids only grow, so the last segment with a game in it
+     * holds the highest one.
+     *
+     * @param directory the directory of the segments
+     * @return the highest game id, 0 if there is none
+     * @throws IOException if a segment cannot be read
+     */
+    private static int lastGame(Path directory) throws IOException {
+        List<Path> segments = segments(directory);
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            int last = 0;
+            for (GameEvent event : read(segments.get(i))) {
+                last = Math.max(last, event.getGame());
+            }
+            if (last > 0) {
+                return last;
+            }
+        }
+        return 0;
+    }
+
+    //--------------------------GETTERS--------------------------
+
+    /**
+     * @return the segment files written so far
+     */
+    public List<Path> getSegments() {
+        synchronized (SEGMENTS) {
+            return new ArrayList<>(SEGMENTS);
+        }
+    }
+
+    public Path getDirectory() {
+        return DIRECTORY;
+    }
+
+    /**
+     * @return the number of events written to the segments
+     */
+    public long getWritten() {
+        return WRITTEN.get();
+    }
+}
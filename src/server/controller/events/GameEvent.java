@@ -0,0 +1,138 @@
+package server.controller.events;
+
+/**
+ * One state transition of a game as it is stored in the event log.
+ * <p>
+ * On disk an event is a frame of a seven byte header, the id of the game (int), the type (byte) and the length of the
+ * payload (short), followed by the payload. Cards are stored as their one byte code, players as their seat, the index
+ * in the players of the table. A frame of type 0 ends the written part of a segment.
+ */
+public final class GameEvent {
+    /**
+     * A game started, the payload is the start time in epoch milliseconds (long) and the name of the mode.
+     */
+    public static final byte START = 1;
+    /**
+     * A round was dealt, the payload is the whole table, see {@link GameRecorder#deal()}.
+     */
+    public static final byte DEAL = 2;
+    /**
+     * The table changed outside the rules, e.g. a player left, the payload is the whole table like that of DEAL.
+     */
+    public static final byte STATE = 3;
+    /**
+     * A player played a card: seat, card.
+     */
+    public static final byte PLAY = 4;
+    /**
+     * A player drew a card: seat, card.
+     */
+    public static final byte DRAW = 5;
+    /**
+     * The discard pile was shuffled under the drawing pile: the number of moved cards (short) and the moved cards in
+     * their new order.
+     */
+    public static final byte RESHUFFLE = 6;
+    /**
+     * A color was picked after a wild card: the ordinal of the color.
+     */
+    public static final byte COLOR = 7;
+    /**
+     * Two players swapped hands: seat, seat.
+     */
+    public static final byte SWAP = 8;
+    /**
+     * All hands were passed on in the direction of play, after a zero in the sevenZero mode.
+     */
+    public static final byte PASS = 9;
+    /**
+     * A turn ended: the seat of the next player.
+     */
+    public static final byte TURN = 10;
+    /**
+     * A player was skipped: the seat of the player after the skipped one.
+     */
+    public static final byte SKIP = 11;
+    /**
+     * The direction of play changed: the seat of the current player and 1 if play is clockwise now, 0 if not.
+     */
+    public static final byte REVERSE = 12;
+    /**
+     * A card left a hand without being played, after a failed draw four challenge: seat, card.
+     */
+    public static final byte REMOVE = 13;
+    /**
+     * A player went out: seat, the points added to their score (int).
+     */
+    public static final byte ROUND_END = 14;
+    /**
+     * The game is over: the seat of the winner, or -1 if the game ended without one.
+     */
+    public static final byte GAME_OVER = 15;
+    /**
+     * Events were dropped because the log could not keep up, written with game id 0. Games that were running at that
+     * point cannot be replayed past it.
+     */
+    public static final byte LOST = 16;
+
+    /**
+     * The length of the frame header.
+     */
+    public static final int HEADER = 7;
+
+    private static final String[] NAMES = {"END", "START", "DEAL", "STATE", "PLAY", "DRAW", "RESHUFFLE", "COLOR",
+            "SWAP", "PASS", "TURN", "SKIP", "REVERSE", "REMOVE", "ROUND_END", "GAME_OVER", "LOST"};
+
+    private final int GAME;
+    private final byte TYPE;
+    private final byte[] PAYLOAD;
+
+    //--------------------------CONSTRUCTOR--------------------------
+
+    /**
+     * @param game    the id of the game, 0 for events of the log itself
+     * @param type    the type of the event
+     * @param payload the payload, at most {@link Short#MAX_VALUE} bytes
+     */
+    public GameEvent(int game, byte type, byte[] payload) {
+        this.GAME = game;
+        this.TYPE = type;
+        this.PAYLOAD = payload;
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * @param type the type of an event
+     * @return the name of the type, as used by the replay tool
+     */
+    public static String nameOf(byte type) {
+        return type >= 0 && type < NAMES.length ? NAMES[type] : "UNKNOWN(" + type + ")";
+    }
+
+    /**
+     * @return the length of the frame of this event
+     */
+    public int frameLength() {
+        return HEADER + PAYLOAD.length;
+    }
+
+    @Override
+    public String toString() {
+        return "game " + GAME + " " + nameOf(TYPE) + " (" + PAYLOAD.length + " bytes)";
+    }
+
+    //--------------------------GETTERS--------------------------
+
+    public int getGame() {
+        return GAME;
+    }
+
+    public byte getType() {
+        return TYPE;
+    }
+
+    public byte[] getPayload() {
+        return PAYLOAD;
+    }
+}
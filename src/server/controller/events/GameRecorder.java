@@ -0,0 +1,227 @@
+package server.controller.events;
+
+import server.model.card.Card;
+import server.model.deck.CardPile;
+import server.model.player.factory.Player;
+import server.model.table.Table;
+import server.model.table.gameModes.Progressive;
+import server.model.table.gameModes.SevenZero;
+import server.model.table.gameModes.factory.PlayingMode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Turns the state transitions of one game into events of the {@link EventLog} of the server.
+ * <p>
+ * The table of a game holds its recorder and the model calls it wherever it changes the table, on the thread of the
+ * game. A recorder only encodes the event and hands it to the log, it never waits for a write. The recorder of a table
+ * that is not logged is {@link #NONE}, which ignores every call.
+ */
+public class GameRecorder {
+    /**
+     * The recorder of tables that are not logged.
+     */
+    public static final GameRecorder NONE = new GameRecorder(null, null);
+
+    private final EventLog LOG;
+    private final Table TABLE;
+    private final int GAME;
+
+    //--------------------------CONSTRUCTOR--------------------------
+
+    /**
+     * Creates the recorder of a new game.
+     *
+     * @param log   the log of the server
+     * @param table the table of the game
+     */
+    public GameRecorder(EventLog log, Table table) {
+        this.LOG = log;
+        this.TABLE = table;
+        this.GAME = log == null ? 0 : log.newGame();
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Records the start of the game, before its first deal.
+     *
+     * @param mode the mode of the game
+     */
+    public void start(PlayingMode mode) {
+        if (LOG == null) {
+            return;
+        }
+        String name = mode instanceof SevenZero ? "sevenZero" : mode instanceof Progressive ? "progressive" : "normal";
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(System.currentTimeMillis());
+            out.writeUTF(name);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        LOG.append(GAME, GameEvent.START, bytes.toByteArray());
+    }
+
+    /**
+     * Records the table after a round was dealt and its first card was turned. Everything that happened while the round
+     * was set up is part of the recorded table.
+     */
+    public void deal() {
+        if (LOG != null) {
+            LOG.append(GAME, GameEvent.DEAL, encodeTable());
+        }
+    }
+
+    /**
+     * Records the whole table after it changed outside the rules, e.g. because a player left.
+     */
+    public void snapshot() {
+        if (LOG != null) {
+            LOG.append(GAME, GameEvent.STATE, encodeTable());
+        }
+    }
+
+    public void play(Player player, Card card) {
+        record(GameEvent.PLAY, seat(player), card.getCode());
+    }
+
+    public void draw(Player player, Card card) {
+        record(GameEvent.DRAW, seat(player), card.getCode());
+    }
+
+    public void remove(Player player, Card card) {
+        record(GameEvent.REMOVE, seat(player), card.getCode());
+    }
+
+    /**
+     * Records the order of the cards a reshuffle put under the drawing pile.
+     *
+     * @param playingCards the drawing pile after the reshuffle
+     * @param from         the index of the first card that came from the discard pile
+     */
+    public void reshuffle(CardPile playingCards, int from) {
+        if (LOG == null) {
+            return;
+        }
+        int moved = playingCards.size() - from;
+        ByteBuffer payload = ByteBuffer.allocate(Short.BYTES + moved).putShort((short) moved);
+        for (int i = from; i < playingCards.size(); i++) {
+            payload.put(playingCards.get(i).getCode());
+        }
+        LOG.append(GAME, GameEvent.RESHUFFLE, payload.array());
+    }
+
+    public void color(Card.Color color) {
+        record(GameEvent.COLOR, (byte) color.ordinal());
+    }
+
+    public void swap(Player player, Player other) {
+        record(GameEvent.SWAP, seat(player), seat(other));
+    }
+
+    public void pass() {
+        record(GameEvent.PASS);
+    }
+
+    /**
+     * Records the end of a turn.
+     *
+     * @param current the index of the player whose turn it is now
+     */
+    public void turn(int current) {
+        record(GameEvent.TURN, (byte) current);
+    }
+
+    /**
+     * @param current the index of the player whose turn it is after the skip
+     */
+    public void skip(int current) {
+        record(GameEvent.SKIP, (byte) current);
+    }
+
+    /**
+     * @param current   the index of the player whose turn it is after the change
+     * @param clockWise the direction of play after the change
+     */
+    public void reverse(int current, boolean clockWise) {
+        record(GameEvent.REVERSE, (byte) current, (byte) (clockWise ? 1 : 0));
+    }
+
+    /**
+     * @param winner the player that went out
+     * @param points the points added to the score of the winner
+     */
+    public void roundEnd(Player winner, int points) {
+        if (LOG != null) {
+            LOG.append(GAME, GameEvent.ROUND_END, ByteBuffer.allocate(1 + Integer.BYTES).put(seat(winner)).putInt(points).array());
+        }
+    }
+
+    /**
+     * @param winner the winner of the game, or null if the game ended without one
+     */
+    public void gameOver(Player winner) {
+        record(GameEvent.GAME_OVER, winner == null ? -1 : seat(winner));
+    }
+
+    private void record(byte type, byte... payload) {
+        if (LOG != null) {
+            LOG.append(GAME, type, payload);
+        }
+    }
+
+    private byte seat(Player player) {
+        return LOG == null ? 0 : (byte) TABLE.getPlayers().indexOf(player);
+    }
+
+    /**
+     * Encodes the whole table: per player the nickname, score and hand, then the drawing pile, the discard pile, the
+     * current card, the indicated color (-1 if none), the index of the current player and the direction of play.
+     */
+    private byte[] encodeTable() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(TABLE.getPlayers().size());
+            for (Player player : TABLE.getPlayers()) {
+                out.writeUTF(player.getNickname());
+                out.writeInt(TABLE.getScoreBoard().getOrDefault(player, 0));
+                writeCards(out, player.getHand());
+            }
+            writeCards(out, TABLE.getDeck().getPlayingCards());
+            writeCards(out, TABLE.getDeck().getUsedCards());
+            out.writeByte(TABLE.getCurrentCard().getCode());
+            out.writeByte(TABLE.getIndicatedColor() == null ? -1 : TABLE.getIndicatedColor().ordinal());
+            out.writeByte(TABLE.getCurrentTurnIndex());
+            out.writeBoolean(TABLE.isClockWise());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeCards(DataOutputStream out, List<Card> cards) throws IOException {
+        out.writeShort(cards.size());
+        for (Card card : cards) {
+            out.writeByte(card.getCode());
+        }
+    }
+
+    //--------------------------GETTERS--------------------------
+
+    /**
+     * @return the id of the game in the log, 0 if it is not logged
+     */
+    public int getGame() {
+        return GAME;
+    }
+
+    public boolean isRecording() {
+        return LOG != null;
+    }
+}
@@ -0,0 +1,406 @@
+package server.controller.events;
+
+import server.controller.Simulator;
+import server.model.card.Card;
+import server.model.deck.CardPile;
+import server.model.player.Hand;
+import server.model.player.HumanPlayer;
+import server.model.player.factory.Player;
+import server.model.table.Table;
+import server.model.table.gameModes.SevenZero;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Rebuilds the table of a recorded game at any turn from the event log.
+ * <p>
+ * A replay starts from the table recorded at a deal and applies the events that followed to a {@link Table} of its own,
+ * whose players are stand-ins with the recorded nicknames. Turn n is the table the player of the turn after the n-th
+ * ended saw, turn 0 the table right after the first deal. The rebuilt table holds the hands, both piles, the current card, the indicated
+ * color, the current player, the direction of play and the scores. Every drawn card is checked against the drawing
+ * pile of the replay, so a log that does not match its game fails instead of showing a wrong table.
+ */
+public class Replay {
+    private final int GAME;
+    private final List<GameEvent> EVENTS;
+
+    //--------------------------CONSTRUCTOR--------------------------
+
+    /**
+     * @param game   the id of the game
+     * @param events the events of the game, in the order they were written
+     */
+    public Replay(int game, List<GameEvent> events) {
+        this.GAME = game;
+        this.EVENTS = events;
+    }
+
+    /**
+     * Prints the games in a log, or the table of one game at a turn, e.g.
+     * {@code java server.controller.events.Replay events 3 40}.
+     *
+     * @param args a directory of segments or a segment file, optionally followed by a game id and a turn
+     * @throws IOException if the log cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: Replay <directory or segment> [game [turn]]");
+            return;
+        }
+        Map<Integer, Replay> games = load(Paths.get(args[0]));
+        if (args.length == 1) {
+            for (Replay replay : games.values()) {
+                System.out.println(replay);
+            }
+            return;
+        }
+        Replay replay = games.get(Integer.parseInt(args[1]));
+        if (replay == null) {
+            System.out.println("No game " + args[1] + " in " + args[0]);
+            return;
+        }
+        int turn = args.length > 2 ? Integer.parseInt(args[2]) : replay.getTurns();
+        System.out.println(replay);
+        System.out.print(describe(replay.tableAt(turn), Math.min(turn, replay.getTurns())));
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Reads the games of a log.
+     *
+     * @param path a directory of segments or a segment file
+     * @return the replays of the games, by game id in the order the games started
+     * @throws IOException if the log cannot be read
+     */
+    public static Map<Integer, Replay> load(Path path) throws IOException {
+        Map<Integer, List<GameEvent>> games = new LinkedHashMap<>();
+        for (Path segment : EventLog.segments(path)) {
+            for (GameEvent event : EventLog.read(segment)) {
+                if (event.getType() == GameEvent.LOST) {
+                    for (List<GameEvent> events : games.values()) {
+                        if (events.get(events.size() - 1).getType() != GameEvent.GAME_OVER) {
+                            events.add(event);
+                        }
+                    }
+                } else {
+                    games.computeIfAbsent(event.getGame(), game -> new ArrayList<>()).add(event);
+                }
+            }
+        }
+        Map<Integer, Replay> replays = new LinkedHashMap<>();
+        for (Map.Entry<Integer, List<GameEvent>> game : games.entrySet()) {
+            replays.put(game.getKey(), new Replay(game.getKey(), game.getValue()));
+        }
+        return replays;
+    }
+
+    /**
+     * Rebuilds the table at a turn.
+     *
+     * @param turn the number of ended turns, the table after the last turn if the game had fewer
+     * @return the rebuilt table
+     * @throws IllegalStateException if the log does not hold the game up to that turn, or does not match it
+     */
+    public Table tableAt(int turn) {
+        return replay(turn).table;
+    }
+
+    /**
+     * @return the number of turns that ended in the recorded game
+     */
+    public int getTurns() {
+        int turns = 0;
+        for (GameEvent event : EVENTS) {
+            if (event.getType() == GameEvent.TURN) {
+                turns++;
+            }
+        }
+        return turns;
+    }
+
+    /**
+     * @return the name of the mode of the game, "normal" if the start of the game is not in the log
+     */
+    public String getMode() {
+        for (GameEvent event : EVENTS) {
+            if (event.getType() == GameEvent.START) {
+                try {
+                    DataInputStream in = new DataInputStream(new ByteArrayInputStream(event.getPayload()));
+                    in.readLong();
+                    return in.readUTF();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        return "normal";
+    }
+
+    /**
+     * @return the nickname of the winner, or null if the game is not over or ended without one
+     */
+    public String getWinner() {
+        return replay(Integer.MAX_VALUE).winner;
+    }
+
+    public int getGame() {
+        return GAME;
+    }
+
+    public List<GameEvent> getEvents() {
+        return EVENTS;
+    }
+
+    @Override
+    public String toString() {
+        String summary = "game " + GAME + ": " + getMode() + ", " + getTurns() + " turns, ";
+        try {
+            State end = replay(Integer.MAX_VALUE);
+            return summary + "players " + (end.table == null ? "[]" : end.table.getPlayers()) + ", "
+                    + (end.over ? "winner " + end.winner : "not over");
+        } catch (IllegalStateException e) {
+            return summary + e.getMessage();
+        }
+    }
+
+    /**
+     * Describes a rebuilt table, one line per player.
+     *
+     * @param table the table
+     * @param turn  the turn of the table
+     * @return the description
+     */
+    public static String describe(Table table, int turn) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("turn ").append(turn).append(": ").append(table.getCurrentCard());
+        if (table.getIndicatedColor() != null) {
+            sb.append(" (").append(table.getIndicatedColor()).append(")");
+        }
+        sb.append(", ").append(table.isClockWise() ? "clockwise" : "counterclockwise")
+                .append(", ").append(table.getCurrentPlayer()).append(" to play\n");
+        for (Player player : table.getPlayers()) {
+            sb.append("  ").append(player).append(" (").append(table.getScoreBoard().getOrDefault(player, 0))
+                    .append(" points): ").append(player.getHand()).append("\n");
+        }
+        sb.append("  drawing pile ").append(table.getDeck().getPlayingCards().size()).append(" cards, discard pile ")
+                .append(table.getDeck().getUsedCards().size()).append(" cards\n");
+        return sb.toString();
+    }
+
+    /**
+     * Applies the events up to the end of the given turn.
+     */
+    private State replay(int turn) {
+        State state = new State();
+        int turns = 0;
+        for (GameEvent event : EVENTS) {
+            if (turns == turn && isMove(event.getType())) {
+                break;
+            }
+            try {
+                apply(state, event);
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("Game " + GAME + " cannot be replayed at " + event + " after turn " + turns + ": " + e.getMessage(), e);
+            }
+            if (event.getType() == GameEvent.TURN) {
+                turns++;
+            }
+        }
+        if (state.table == null && turn != Integer.MAX_VALUE) {
+            throw new IllegalStateException("Game " + GAME + " has no deal in the log");
+        }
+        return state;
+    }
+
+    /**
+     * Determines if an event belongs to the moves of a turn. The other events between two turns, a deal or the answer
+     * to a prompt of the first card, are part of the table the turn starts with.
+     */
+    private static boolean isMove(byte type) {
+        switch (type) {
+            case GameEvent.START:
+            case GameEvent.DEAL:
+            case GameEvent.STATE:
+            case GameEvent.COLOR:
+            case GameEvent.SWAP:
+            case GameEvent.GAME_OVER:
+            case GameEvent.LOST:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private void apply(State state, GameEvent event) {
+        byte[] p = event.getPayload();
+        if (event.getType() != GameEvent.START && event.getType() != GameEvent.DEAL && event.getType() != GameEvent.STATE
+                && event.getType() != GameEvent.LOST && state.table == null) {
+            throw new IllegalStateException("the game was not dealt");
+        }
+        Table table = state.table;
+        switch (event.getType()) {
+            case GameEvent.DEAL:
+            case GameEvent.STATE:
+                state.restore(p);
+                break;
+            case GameEvent.PLAY:
+                take(state.seat(p[0]), Card.decode(p[1]));
+                table.setCurrentCard(Card.decode(p[1]));
+                table.getDeck().getUsedCards().add(Card.decode(p[1]));
+                table.resetIndicatedColor();
+                break;
+            case GameEvent.DRAW:
+                Card drawn = table.getDeck().getPlayingCards().isEmpty() ? null : table.getDeck().draw();
+                if (drawn != Card.decode(p[1])) {
+                    throw new IllegalStateException("drew " + drawn + " instead of " + Card.decode(p[1]));
+                }
+                state.seat(p[0]).getHand().add(drawn);
+                break;
+            case GameEvent.RESHUFFLE:
+                reshuffle(table, ByteBuffer.wrap(p));
+                break;
+            case GameEvent.COLOR:
+                table.setIndicatedColor(Card.Color.values()[p[0]]);
+                break;
+            case GameEvent.SWAP:
+                state.seat(p[0]).swapHands(state.seat(p[1]));
+                break;
+            case GameEvent.PASS:
+                new SevenZero().passDownHands(table);
+                break;
+            case GameEvent.TURN:
+            case GameEvent.SKIP:
+                table.setCurrentTurnIndex(p[0]);
+                break;
+            case GameEvent.REVERSE:
+                table.setCurrentTurnIndex(p[0]);
+                table.setClockWise(p[1] == 1);
+                break;
+            case GameEvent.REMOVE:
+                take(state.seat(p[0]), Card.decode(p[1]));
+                break;
+            case GameEvent.ROUND_END:
+                Player winner = state.seat(p[0]);
+                table.getScoreBoard().merge(winner, ByteBuffer.wrap(p, 1, Integer.BYTES).getInt(), Integer::sum);
+                table.setHasWinner(true);
+                break;
+            case GameEvent.GAME_OVER:
+                state.over = true;
+                state.winner = p[0] < 0 ? null : state.seat(p[0]).getNickname();
+                break;
+            case GameEvent.LOST:
+                throw new IllegalStateException("events were lost");
+            default:
+                break;
+        }
+    }
+
+    private static void take(Player player, Card card) {
+        if (!player.getHand().remove(card)) {
+            throw new IllegalStateException(player + " does not hold " + card);
+        }
+    }
+
+    /**
+     * Moves the discard pile but its top two cards under the drawing pile, in the recorded order.
+     */
+    private static void reshuffle(Table table, ByteBuffer payload) {
+        CardPile used = table.getDeck().getUsedCards();
+        int moved = payload.getShort();
+        int keep = Math.min(2, used.size());
+        if (used.size() - keep != moved) {
+            throw new IllegalStateException("reshuffled " + moved + " cards instead of " + (used.size() - keep));
+        }
+        int[] counts = new int[Card.CODES];
+        while (used.size() > keep) {
+            counts[used.draw().getCode()]++;
+        }
+        for (int i = 0; i < moved; i++) {
+            Card card = Card.decode(payload.get());
+            if (--counts[card.getCode()] < 0) {
+                throw new IllegalStateException(card + " was not on the discard pile");
+            }
+            table.getDeck().getPlayingCards().add(card);
+        }
+    }
+
+    /**
+     * The table of a replay and what is known about the end of the game.
+     */
+    private final class State {
+        private final Map<String, Player> PLAYERS = new HashMap<>();
+        private Table table;
+        private String winner;
+        private boolean over;
+
+        Player seat(byte seat) {
+            return table.getPlayers().get(seat);
+        }
+
+        /**
+         * Sets the table to a recorded one, see {@link GameRecorder} for the encoding.
+         */
+        void restore(byte[] payload) {
+            try {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+                int size = in.readUnsignedByte();
+                ArrayList<Player> players = new ArrayList<>(size);
+                ArrayList<Integer> scores = new ArrayList<>(size);
+                ArrayList<Hand> hands = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    players.add(PLAYERS.computeIfAbsent(in.readUTF(), HumanPlayer::new));
+                    scores.add(in.readInt());
+                    hands.add(new Hand(readCards(in)));
+                }
+                if (table == null) {
+                    table = new Table(players, Simulator.modeFor(getMode()).get(), null, new SplittableRandom(GAME));
+                }
+                table.setPlayers(players);
+                for (int i = 0; i < size; i++) {
+                    players.get(i).setTable(table);
+                    players.get(i).setHand(hands.get(i));
+                    table.getScoreBoard().put(players.get(i), scores.get(i));
+                }
+                refill(table.getDeck().getPlayingCards(), readCards(in));
+                refill(table.getDeck().getUsedCards(), readCards(in));
+                table.setCurrentCard(Card.decode(in.readByte()));
+                byte color = in.readByte();
+                table.setIndicatedColor(color < 0 ? null : Card.Color.values()[color]);
+                table.setCurrentTurnIndex(in.readUnsignedByte());
+                table.setClockWise(in.readBoolean());
+                table.setHasWinner(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static List<Card> readCards(DataInputStream in) throws IOException {
+        int size = in.readUnsignedShort();
+        List<Card> cards = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            cards.add(Card.decode(in.readByte()));
+        }
+        return cards;
+    }
+
+    private static void refill(CardPile pile, List<Card> cards) {
+        pile.clear();
+        for (Card card : cards) {
+            pile.add(card);
+        }
+    }
+}
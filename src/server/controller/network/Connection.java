@@ -0,0 +1,346 @@
+package server.controller.network;
+
+import server.controller.ServerHandler;
+import server.controller.contract.BinaryCodec;
+import server.view.Log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A single non-blocking client connection owned by one I/O worker of the {@link NetworkEngine}.
+ * <p>
+ * Incoming bytes are framed into the newline terminated, '|' delimited lines of the protocol and handed over to the
+ * {@link ServerHandler} one by one, in the order they were received, on the dispatch executor of the server.
+ * Outgoing messages are queued and written by the I/O worker as soon as the socket accepts them.
+ * <p>
+ * A thread can open a batch with {@link #beginBatch()}: until the matching {@link #endBatch()} the messages it sends
+ * are collected per connection and handed to the I/O worker as one buffer, so a game step that informs every player
+ * of a table costs one write per player instead of one write per message. A batch only lives as long as one game step
+ * or one received line, and a connection that collects more than {@link #MAX_BATCH_BYTES} is flushed early, which
+ * keeps the delay of a message bounded.
+ * <p>
+ * Received bytes may also hold frames of the {@link BinaryCodec}, their payload is handed to the handler as it is and
+ * decoded there straight into its tokenizer. Outgoing messages are encoded as frames once the handler switched the
+ * connection to binary, a message too long for a frame is still sent as a text line.
+ */
+public class Connection {
+    private static final int MAX_LINE_LENGTH = 8192;
+    private static final String DISCONNECTED = new String("DISCONNECTED");
+    private static final int MAX_BATCH_BYTES = 16384;
+    private static final int MAX_GATHER = 16;
+    private static final ThreadLocal<Batch> BATCH = ThreadLocal.withInitial(Batch::new);
+
+    private final SocketChannel CHANNEL;
+    private final NetworkEngine.Worker WORKER;
+    private final Executor DISPATCHER;
+    private final ByteBuffer READ_BUFFER = ByteBuffer.allocate(4096);
+    private final ConcurrentLinkedQueue<ByteBuffer> OUTBOUND = new ConcurrentLinkedQueue<>();
+    /**
+     * Received text lines (String) and payloads of binary frames (byte[]), in the order they arrived.
+     */
+    private final ConcurrentLinkedQueue<Object> INBOUND = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean SCHEDULED = new AtomicBoolean(false);
+    private final AtomicBoolean OPEN = new AtomicBoolean(true);
+    private final AtomicBoolean WRITE_REQUESTED = new AtomicBoolean(false);
+    private final ByteBuffer[] GATHER = new ByteBuffer[MAX_GATHER];
+    private volatile boolean binary;
+    private int frameLength = -1;
+    private int frameShift;
+    private byte[] pending = new byte[256];
+    private int pendingLength;
+    private byte[] line = new byte[128];
+    private int lineLength;
+    private boolean lineTooLong;
+    private SelectionKey key;
+    private ServerHandler handler;
+
+    //--------------------------CONSTRUCTOR--------------------------
+
+    public Connection(SocketChannel channel, NetworkEngine.Worker worker, Executor dispatcher) {
+        this.CHANNEL = channel;
+        this.WORKER = worker;
+        this.DISPATCHER = dispatcher;
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Queues a message for this connection, the line terminator is appended here.
+     * The actual write happens on the I/O worker that owns the channel, so this method never blocks. Inside a batch
+     * the message is only collected and handed to the worker when the batch ends.
+     *
+     * @param message the protocol message without line terminator
+     */
+    public void send(String message) {
+        if (!OPEN.get()) {
+            return;
+        }
+        byte[] bytes = binary ? BinaryCodec.frameOrLine(message) : (message + "\n").getBytes(StandardCharsets.UTF_8);
+        Batch batch = BATCH.get();
+        boolean flush;
+        synchronized (this) {
+            if (pendingLength + bytes.length > pending.length) {
+                pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingLength + bytes.length));
+            }
+            System.arraycopy(bytes, 0, pending, pendingLength, bytes.length);
+            pendingLength += bytes.length;
+            flush = batch.depth == 0 || pendingLength >= MAX_BATCH_BYTES;
+        }
+        if (flush) {
+            flushPending();
+        } else {
+            batch.TOUCHED.add(this);
+        }
+    }
+
+    /**
+     * Starts collecting the messages sent by the current thread, batches can be nested.
+     * Every call must be followed by a call of {@link #endBatch()} in a finally block.
+     */
+    public static void beginBatch() {
+        BATCH.get().depth++;
+    }
+
+    /**
+     * Ends the batch of the current thread; when the outermost batch ends, every connection that got messages in it
+     * hands them to its I/O worker in a single buffer.
+     */
+    public static void endBatch() {
+        Batch batch = BATCH.get();
+        if (--batch.depth > 0) {
+            return;
+        }
+        batch.depth = 0;
+        for (Connection connection : batch.TOUCHED) {
+            connection.flushPending();
+        }
+        batch.TOUCHED.clear();
+    }
+
+    /**
+     * Moves the collected messages to the outbound queue and asks the I/O worker to write them, unless a write is
+     * already requested and not yet started.
+     */
+    private void flushPending() {
+        synchronized (this) {
+            if (pendingLength == 0) {
+                return;
+            }
+            OUTBOUND.add(ByteBuffer.wrap(Arrays.copyOf(pending, pendingLength)));
+            pendingLength = 0;
+        }
+        if (WRITE_REQUESTED.compareAndSet(false, true)) {
+            WORKER.requestWrite(this);
+        }
+    }
+
+    /**
+     * Reads whatever is available on the channel and frames it into lines, or into binary frames if a message starts
+     * with the marker of the {@link BinaryCodec}.
+     * Called by the I/O worker only.
+     *
+     * @throws IOException if the channel could not be read
+     */
+    void onReadable() throws IOException {
+        int read = CHANNEL.read(READ_BUFFER);
+        if (read == -1) {
+            close();
+            return;
+        }
+        READ_BUFFER.flip();
+        while (READ_BUFFER.hasRemaining()) {
+            byte b = READ_BUFFER.get();
+            if (frameShift >= 0 && frameLength >= 0) {
+                frameLength |= (b & 0x7F) << frameShift;
+                frameShift = (b & 0x80) == 0 ? -1 : frameShift + 7;
+                if (frameShift > 28 || frameShift == -1 && frameLength > BinaryCodec.MAX_PAYLOAD) {
+                    close();
+                    return;
+                }
+                if (frameShift == -1 && frameLength == 0) {
+                    endOfFrame();
+                }
+            } else if (frameLength >= 0) {
+                append(b);
+                if (lineLength == frameLength) {
+                    endOfFrame();
+                }
+            } else if (b == '\n') {
+                endOfLine();
+            } else if (lineLength == 0 && !lineTooLong && (b & 0xFF) == BinaryCodec.MARKER) {
+                frameLength = 0;
+                frameShift = 0;
+            } else if (lineLength == MAX_LINE_LENGTH) {
+                lineTooLong = true;
+            } else {
+                append(b);
+            }
+        }
+        READ_BUFFER.clear();
+    }
+
+    private void append(byte b) {
+        if (lineLength == line.length) {
+            line = Arrays.copyOf(line, Math.min(line.length * 2, MAX_LINE_LENGTH));
+        }
+        line[lineLength++] = b;
+    }
+
+    /**
+     * Completes the binary frame that is currently being read.
+     */
+    private void endOfFrame() {
+        deliver(Arrays.copyOf(line, lineLength));
+        lineLength = 0;
+        frameLength = -1;
+        frameShift = 0;
+    }
+
+    /**
+     * Completes the line that is currently being framed, lines that exceeded the maximum length are dropped.
+     */
+    private void endOfLine() {
+        int length = lineLength;
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        if (lineTooLong) {
+            send("ERR|E001");
+        } else {
+            deliver(new String(line, 0, length, StandardCharsets.UTF_8));
+        }
+        lineLength = 0;
+        lineTooLong = false;
+    }
+
+    /**
+     * Writes the queued messages until the queue is empty or the socket buffer is full, up to {@link #MAX_GATHER}
+     * buffers are written with a single gathering write.
+     * Called by the I/O worker only.
+     *
+     * @return true if everything was written, false if the worker has to wait for the channel to become writable
+     * @throws IOException if the channel could not be written
+     */
+    boolean onWritable() throws IOException {
+        WRITE_REQUESTED.set(false);
+        while (true) {
+            int count = 0;
+            for (ByteBuffer buffer : OUTBOUND) {
+                GATHER[count++] = buffer;
+                if (count == MAX_GATHER) {
+                    break;
+                }
+            }
+            if (count == 0) {
+                return true;
+            }
+            CHANNEL.write(GATHER, 0, count);
+            for (int i = 0; i < count; i++) {
+                if (GATHER[i].hasRemaining()) {
+                    Arrays.fill(GATHER, null);
+                    return false;
+                }
+                OUTBOUND.poll();
+            }
+            Arrays.fill(GATHER, 0, count, null);
+        }
+    }
+
+    /**
+     * Hands a framed line or the payload of a frame over to the dispatcher.
+     * At most one dispatch task runs per connection at a time, so the handler sees the messages in order.
+     *
+     * @param message the received line or payload
+     */
+    private void deliver(Object message) {
+        INBOUND.add(message);
+        if (SCHEDULED.compareAndSet(false, true)) {
+            DISPATCHER.execute(this::drain);
+        }
+    }
+
+    /**
+     * Feeds all received lines to the handler, the disconnect marker is translated back to {@code null}.
+     */
+    private void drain() {
+        beginBatch();
+        try {
+            Object message;
+            while ((message = INBOUND.poll()) != null) {
+                if (message instanceof byte[]) {
+                    handler.receiveFrame((byte[]) message);
+                } else {
+                    handler.receiveMessage(message == DISCONNECTED ? null : (String) message);
+                }
+            }
+        } finally {
+            endBatch();
+            SCHEDULED.set(false);
+            if (!INBOUND.isEmpty() && SCHEDULED.compareAndSet(false, true)) {
+                DISPATCHER.execute(this::drain);
+            }
+        }
+    }
+
+    /**
+     * Closes the channel and informs the handler once that the client is gone.
+     */
+    public void close() {
+        if (OPEN.compareAndSet(true, false)) {
+            try {
+                CHANNEL.close();
+            } catch (IOException e) {
+                Log.warn("Connection couldn't be closed properly.");
+            }
+            deliver(DISCONNECTED);
+        }
+    }
+
+    //--------------------------GETTERS & SETTERS--------------------------
+
+    public boolean isOpen() {
+        return OPEN.get();
+    }
+
+    SocketChannel getChannel() {
+        return CHANNEL;
+    }
+
+    SelectionKey getKey() {
+        return key;
+    }
+
+    void setKey(SelectionKey key) {
+        this.key = key;
+    }
+
+    /**
+     * Switches the encoding of outgoing messages, messages that were sent before are not affected.
+     *
+     * @param binary true to send binary frames, false to send text lines
+     */
+    public void setBinary(boolean binary) {
+        this.binary = binary;
+    }
+
+    public void setHandler(ServerHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * The batch of one thread: how deep it is nested and which connections collected messages in it.
+     */
+    private static final class Batch {
+        private final LinkedHashSet<Connection> TOUCHED = new LinkedHashSet<>();
+        private int depth;
+    }
+}
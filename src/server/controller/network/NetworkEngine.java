@@ -0,0 +1,196 @@
+package server.controller.network;
+
+import server.controller.Server;
+import server.controller.ServerHandler;
+import server.view.Log;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking transport of the server.
+ * <p>
+ * One selector accepts new clients on the listening port and hands every accepted channel to one of a small, fixed
+ * number of I/O workers (round robin). Each worker multiplexes all of its connections over its own selector, so an
+ * idle or lobby-browsing client costs a few buffers instead of a thread.
+ * Received lines are processed on the dispatch executor of the {@link Server}, never on an I/O worker.
+ */
+public class NetworkEngine implements Runnable {
+    private final int PORT;
+    private final Server SERVER;
+    private final Executor DISPATCHER;
+    private final Worker[] WORKERS;
+    private int nextWorker;
+
+    //--------------------------CONSTRUCTOR--------------------------
+
+    public NetworkEngine(int port, Server server, Executor dispatcher, int ioThreads) {
+        this.PORT = port;
+        this.SERVER = server;
+        this.DISPATCHER = dispatcher;
+        this.WORKERS = new Worker[ioThreads];
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Starts the I/O workers and accepts clients until the listening channel fails.
+     */
+    @Override
+    public void run() {
+        try (ServerSocketChannel listen = ServerSocketChannel.open(); Selector acceptor = Selector.open()) {
+            for (int i = 0; i < WORKERS.length; i++) {
+                WORKERS[i] = new Worker();
+                Thread t = new Thread(WORKERS[i], "io-worker-" + i);
+                t.setDaemon(true);
+                t.start();
+            }
+            listen.bind(new InetSocketAddress(PORT), 1024);
+            listen.configureBlocking(false);
+            listen.register(acceptor, SelectionKey.OP_ACCEPT);
+            Log.info("Listening on port " + PORT);
+
+            while (listen.isOpen()) {
+                acceptor.select();
+                acceptor.selectedKeys().clear();
+                SocketChannel channel;
+                while ((channel = listen.accept()) != null) {
+                    accept(channel);
+                }
+            }
+        } catch (IOException e) {
+            Log.error("Connection couldn't be established: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the connection and its handler for a freshly accepted channel and passes it to the next worker.
+     *
+     * @param channel the accepted channel
+     */
+    private void accept(SocketChannel channel) {
+        try {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+        } catch (IOException e) {
+            Log.warn("Connection couldn't be established: " + e.getMessage());
+            return;
+        }
+        Worker worker = WORKERS[nextWorker];
+        nextWorker = (nextWorker + 1) % WORKERS.length;
+        Connection connection = new Connection(channel, worker, DISPATCHER);
+        ServerHandler sh = new ServerHandler(connection, SERVER);
+        connection.setHandler(sh);
+        SERVER.getRegistry().addHandler(sh);
+        worker.register(connection);
+        Log.debug("Connected.");
+    }
+
+    /**
+     * An I/O thread that owns a selector and all connections registered with it.
+     * Other threads only talk to a worker through its queues, followed by a selector wakeup.
+     */
+    static class Worker implements Runnable {
+        private final Selector SELECTOR;
+        private final ConcurrentLinkedQueue<Connection> REGISTRATIONS = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<Connection> WRITES = new ConcurrentLinkedQueue<>();
+
+        Worker() throws IOException {
+            this.SELECTOR = Selector.open();
+        }
+
+        void register(Connection connection) {
+            REGISTRATIONS.add(connection);
+            SELECTOR.wakeup();
+        }
+
+        void requestWrite(Connection connection) {
+            WRITES.add(connection);
+            SELECTOR.wakeup();
+        }
+
+        @Override
+        public void run() {
+            while (SELECTOR.isOpen()) {
+                try {
+                    SELECTOR.select();
+                    processRegistrations();
+                    processWrites();
+                    Iterator<SelectionKey> keys = SELECTOR.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        handle(key);
+                    }
+                } catch (IOException e) {
+                    Log.error("I/O worker failed: " + e.getMessage());
+                }
+            }
+        }
+
+        private void processRegistrations() {
+            Connection connection;
+            while ((connection = REGISTRATIONS.poll()) != null) {
+                try {
+                    SelectionKey key = connection.getChannel().register(SELECTOR, SelectionKey.OP_READ, connection);
+                    connection.setKey(key);
+                } catch (ClosedChannelException e) {
+                    connection.close();
+                }
+            }
+        }
+
+        private void processWrites() {
+            Connection connection;
+            while ((connection = WRITES.poll()) != null) {
+                SelectionKey key = connection.getKey();
+                if (key == null || !key.isValid()) {
+                    if (connection.isOpen() && key == null) {
+                        WRITES.add(connection);
+                        return;
+                    }
+                    continue;
+                }
+                flush(connection, key);
+            }
+        }
+
+        private void handle(SelectionKey key) {
+            Connection connection = (Connection) key.attachment();
+            try {
+                if (key.isValid() && key.isReadable()) {
+                    connection.onReadable();
+                }
+                if (key.isValid() && key.isWritable()) {
+                    flush(connection, key);
+                }
+            } catch (IOException | CancelledKeyException e) {
+                connection.close();
+            }
+        }
+
+        /**
+         * Writes as much as possible and only keeps write interest while data is left over.
+         */
+        private void flush(Connection connection, SelectionKey key) {
+            try {
+                if (connection.onWritable()) {
+                    key.interestOps(SelectionKey.OP_READ);
+                } else {
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                }
+            } catch (IOException | CancelledKeyException e) {
+                connection.close();
+            }
+        }
+    }
+}
@@ -2,27 +2,38 @@ package server.model;
 
 import server.controller.UNO;
 import server.model.player.factory.Player;
+import server.view.Log;
+import server.view.SilentTUI;
+import server.view.TUI;
 
-import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class Lobby {
     public Lobby(String name) {
-        this.PLAYERS = new ArrayList<>();
+        this.PLAYERS = new CopyOnWriteArrayList<>();
         this.NAME = name;
-        this.GAME = new UNO();
-        this.gameInProgress = false;
+        this.GAME = new UNO(new SplittableRandom(), Log.isEnabled(Log.Level.DEBUG) ? new TUI() : new SilentTUI());
     }
 
-    private final ArrayList<Player> PLAYERS;
+    /**
+     * Changed by the registry while it holds the monitor of the lobby, read by handlers without a lock.
+     */
+    private final List<Player> PLAYERS;
     private final String NAME;
     private final UNO GAME;
-    private boolean gameInProgress;
+    /**
+     * Set by the handler that starts the game and cleared when it ends, read by handlers of any lobby.
+     */
+    private final AtomicBoolean GAME_IN_PROGRESS = new AtomicBoolean();
 
     public void addPlayer(Player p) {
         this.PLAYERS.add(p);
     }
 
-    public ArrayList<Player> getPlayers() {
+    public List<Player> getPlayers() {
         return this.PLAYERS;
     }
 
@@ -35,10 +46,19 @@ public class Lobby {
     }
 
     public boolean isGameInProgress() {
-        return gameInProgress;
+        return GAME_IN_PROGRESS.get();
     }
 
     public void setGameInProgress(boolean gameInProgress) {
-        this.gameInProgress = gameInProgress;
+        GAME_IN_PROGRESS.set(gameInProgress);
+    }
+
+    /**
+     * Marks the game of the lobby as in progress, unless it already is.
+     *
+     * @return true if the caller may start the game, false if it was started by someone else
+     */
+    public boolean startGame() {
+        return GAME_IN_PROGRESS.compareAndSet(false, true);
     }
 }
@@ -1,8 +1,37 @@
 package server.model.card;
 
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An UNO card, identified by its color and value.
+ * <p>
+ * Each card has a compact one-byte code: the color ordinal in the high four bits and the value ordinal in the low four.
+ * Every possible card exists once in a shared flyweight table, obtained through {@link #of(Color, Value)},
+ * {@link #decode(byte)} or {@link #fromWire(String)}, so decks and hands hold shared instances and creating a game
+ * allocates no cards. The wire string of every card is computed once.
+ * The 54 faces that occur in a deck are also numbered densely from 0 to 53, so a set of faces fits in one long.
+ */
 public class Card {
+    private static final int VALUE_BITS = 4;
+    /**
+     * Number of possible codes, every code is smaller than this.
+     */
+    public static final int CODES = Color.values().length << VALUE_BITS;
+    private static final Card[] TABLE = new Card[CODES];
+    private static final Map<String, Card> WIRE_TABLE = new HashMap<>();
+    private static final Card[] WIRE_HASHES = new Card[256];
+    /**
+     * Number of distinct faces in a deck: thirteen values in four colors plus the two wild cards.
+     */
+    public static final int FACES = 54;
+    private static final Card[] FACE_TABLE = new Card[FACES];
+
     private final Color COLOR;
     private final Value VALUE;
+    private final byte CODE;
+    private final int FACE;
+    private final String WIRE;
 
     //--------------------------ENUMS--------------------------
     public enum Color {
@@ -69,10 +98,132 @@ public class Card {
         }
     }
 
+    static {
+        for (Color color : Color.values()) {
+            for (Value value : Value.values()) {
+                Card card = new Card(color, value);
+                TABLE[card.CODE] = card;
+                WIRE_TABLE.put(card.WIRE, card);
+                int slot = card.WIRE.hashCode() & (WIRE_HASHES.length - 1);
+                while (WIRE_HASHES[slot] != null) {
+                    slot = (slot + 1) & (WIRE_HASHES.length - 1);
+                }
+                WIRE_HASHES[slot] = card;
+                if (card.FACE >= 0) {
+                    FACE_TABLE[card.FACE] = card;
+                }
+            }
+        }
+    }
+
     //--------------------------CONSTRUCTOR--------------------------
     public Card(Card.Color color, Card.Value value) {
         this.COLOR = color;
         this.VALUE = value;
+        this.CODE = encode(color, value);
+        this.FACE = face(color, value);
+        this.WIRE = color.toString() + " " + value.toString();
+    }
+
+    //--------------------------FLYWEIGHTS--------------------------
+
+    /**
+     * Computes the one-byte code of a card.
+     *
+     * @param color the color of the card
+     * @param value the value of the card
+     * @return the color ordinal in the high bits, the value ordinal in the low bits
+     */
+    public static byte encode(Color color, Value value) {
+        return (byte) (color.ordinal() << VALUE_BITS | value.ordinal());
+    }
+
+    /**
+     * Computes the face number of a card: colored cards are numbered per color without the two wild values, the
+     * wild draw four and the wild pick color come last.
+     *
+     * @param color the color of the card
+     * @param value the value of the card
+     * @return the face number, or -1 if no deck holds such a card
+     */
+    private static int face(Color color, Value value) {
+        boolean wildValue = value == Value.DRAW_FOUR || value == Value.PICK_COLOR;
+        if (color == Color.WILD) {
+            return wildValue ? FACES - 2 + (value == Value.DRAW_FOUR ? 0 : 1) : -1;
+        }
+        if (wildValue) {
+            return -1;
+        }
+        int index = value.ordinal() < Value.DRAW_FOUR.ordinal() ? value.ordinal() : value.ordinal() - 2;
+        return color.ordinal() * 13 + index;
+    }
+
+    /**
+     * Returns the shared instance of the card with the given face number.
+     *
+     * @param face the face number, as returned by {@link #getFace()}
+     * @return the flyweight card
+     */
+    public static Card ofFace(int face) {
+        return FACE_TABLE[face];
+    }
+
+    /**
+     * Returns the shared instance of a card.
+     *
+     * @param color the color of the card
+     * @param value the value of the card
+     * @return the flyweight card
+     */
+    public static Card of(Color color, Value value) {
+        return TABLE[encode(color, value)];
+    }
+
+    /**
+     * Returns the shared instance of the card with the given code.
+     *
+     * @param code the code, as returned by {@link #getCode()}
+     * @return the flyweight card
+     * @throws IllegalArgumentException if the code belongs to no card
+     */
+    public static Card decode(byte code) {
+        Card card = code >= 0 && code < TABLE.length ? TABLE[code] : null;
+        if (card == null) {
+            throw new IllegalArgumentException("No card with code " + code);
+        }
+        return card;
+    }
+
+    /**
+     * Looks up a card by the text used in the protocol, e.g. "RED 7".
+     *
+     * @param wire the text of the card
+     * @return the flyweight card, or null if the text is no card
+     */
+    public static Card fromWire(String wire) {
+        return WIRE_TABLE.get(wire);
+    }
+
+    /**
+     * Looks up a card by a region of a text without copying the region, used when parsing lists of cards.
+     *
+     * @param text  the text that holds the card
+     * @param start the index of the first character of the card
+     * @param end   the index after the last character of the card
+     * @return the flyweight card, or null if the region is no card
+     */
+    public static Card fromWire(String text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        for (int slot = hash & (WIRE_HASHES.length - 1); WIRE_HASHES[slot] != null; slot = (slot + 1) & (WIRE_HASHES.length - 1)) {
+            String wire = WIRE_HASHES[slot].WIRE;
+            if (wire.length() == end - start && text.startsWith(wire, start)) {
+                return WIRE_HASHES[slot];
+            }
+        }
+        return null;
     }
 
     //--------------------------GETTERS--------------------------
@@ -84,9 +235,46 @@ public class Card {
         return VALUE;
     }
 
+    public byte getCode() {
+        return CODE;
+    }
+
+    /**
+     * @return the face number from 0 to {@link #FACES} - 1, or -1 for a color and value that no deck holds
+     */
+    public int getFace() {
+        return FACE;
+    }
+
+    /**
+     * @return how many copies of this card a deck holds: four of each wild card, one zero and two of every other card
+     * per color, none of a color and value that no deck holds
+     */
+    public int getCopies() {
+        if (FACE < 0) {
+            return 0;
+        }
+        return COLOR == Color.WILD ? 4 : VALUE == Value.ZERO ? 1 : 2;
+    }
+
+    //--------------------------equals & hashCode--------------------------
+
+    /**
+     * Cards are equal if they have the same color and value, so separately created cards match the flyweights.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Card && ((Card) o).CODE == this.CODE);
+    }
+
+    @Override
+    public int hashCode() {
+        return CODE;
+    }
+
     //--------------------------toString--------------------------
     public String toString() {
-        return this.COLOR.toString() + " " + this.VALUE.toString();
+        return WIRE;
     }
 
 }
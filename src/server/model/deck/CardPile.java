@@ -0,0 +1,196 @@
+package server.model.deck;
+
+import server.model.card.Card;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.SplittableRandom;
+
+/**
+ * A pile of cards stored in a circular array.
+ * <p>
+ * Taking the top card ({@code remove(0)}) and putting a card at the bottom ({@code add}) only move an index, so
+ * drawing, dealing and discarding cost O(1) instead of shifting the whole list like an ArrayList does.
+ * The capacity is always a power of two and only grows when more cards are added than ever before.
+ * The pile counts the copies of every card it holds, so how many of a card lie on the discard pile is known without
+ * scanning it.
+ */
+public class CardPile extends AbstractList<Card> implements RandomAccess {
+    private final int[] COUNTS = new int[Card.CODES];
+    private Card[] cards;
+    private int head;
+    private int size;
+
+    //--------------------------CONSTRUCTOR--------------------------
+
+    public CardPile() {
+        this.cards = new Card[128];
+    }
+
+    //--------------------------METHODS--------------------------
+
+    private int slot(int index) {
+        return (head + index) & (cards.length - 1);
+    }
+
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= cards.length) {
+            return;
+        }
+        Card[] grown = new Card[Math.max(cards.length * 2, Integer.highestOneBit(needed - 1) << 1)];
+        for (int i = 0; i < size; i++) {
+            grown[i] = cards[slot(i)];
+        }
+        this.cards = grown;
+        this.head = 0;
+    }
+
+    @Override
+    public Card get(int index) {
+        checkIndex(index, size);
+        return cards[slot(index)];
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        checkIndex(index, size);
+        int s = slot(index);
+        Card old = cards[s];
+        cards[s] = card;
+        track(old, -1);
+        track(card, 1);
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Counts the copies of a card in the pile.
+     *
+     * @param card the card
+     * @return the amount of cards with the same color and value
+     */
+    public int count(Card card) {
+        return COUNTS[card.getCode()];
+    }
+
+    private void track(Card card, int delta) {
+        if (card != null) {
+            COUNTS[card.getCode()] += delta;
+        }
+    }
+
+    /**
+     * Puts a card at the bottom of the pile.
+     */
+    @Override
+    public boolean add(Card card) {
+        ensureCapacity(size + 1);
+        cards[slot(size)] = card;
+        size++;
+        modCount++;
+        track(card, 1);
+        return true;
+    }
+
+    /**
+     * Inserts a card, inserting on top or at the bottom takes constant time.
+     */
+    @Override
+    public void add(int index, Card card) {
+        checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        if (index == 0) {
+            head = (head - 1) & (cards.length - 1);
+            cards[head] = card;
+        } else {
+            for (int i = size; i > index; i--) {
+                cards[slot(i)] = cards[slot(i - 1)];
+            }
+            cards[slot(index)] = card;
+        }
+        size++;
+        modCount++;
+        track(card, 1);
+    }
+
+    /**
+     * Removes a card, removing the top or the bottom card takes constant time.
+     */
+    @Override
+    public Card remove(int index) {
+        checkIndex(index, size);
+        Card removed = cards[slot(index)];
+        if (index == 0) {
+            cards[head] = null;
+            head = slot(1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                cards[slot(i)] = cards[slot(i + 1)];
+            }
+            cards[slot(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        track(removed, -1);
+        return removed;
+    }
+
+    /**
+     * Takes the top card from the pile.
+     *
+     * @return the top card
+     * @throws IndexOutOfBoundsException if the pile is empty
+     */
+    public Card draw() {
+        return remove(0);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(cards, null);
+        Arrays.fill(COUNTS, 0);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Shuffles the cards from index from (inclusive) to index to (exclusive) in place, using Fisher-Yates.
+     *
+     * @param from   the first position to shuffle
+     * @param to     the position after the last one to shuffle
+     * @param random the source of randomness
+     */
+    public void shuffle(int from, int to, SplittableRandom random) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range: " + from + "-" + to + ", Size: " + size);
+        }
+        for (int i = to - 1; i > from; i--) {
+            int a = slot(i);
+            int b = slot(from + random.nextInt(i - from + 1));
+            Card tmp = cards[a];
+            cards[a] = cards[b];
+            cards[b] = tmp;
+        }
+    }
+
+    /**
+     * Shuffles the whole pile in place.
+     *
+     * @param random the source of randomness
+     */
+    public void shuffle(SplittableRandom random) {
+        shuffle(0, size, random);
+    }
+}
@@ -2,13 +2,13 @@ package server.model.deck;
 
 import server.model.card.Card;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.EnumSet;
+import java.util.SplittableRandom;
 
 public class Deck {
-    private ArrayList<Card> playingCards;
-    private ArrayList<Card> usedCards;
+    private CardPile playingCards;
+    private CardPile usedCards;
+    private final SplittableRandom RANDOM;
 
     private final int NUMERICAL_CARDS_EACH = 2;
     private final int WILD_CARDS_EACH = 4;
@@ -16,8 +16,18 @@ public class Deck {
     //--------------------------CONSTRUCTOR--------------------------
 
     public Deck() {
-        this.playingCards = new ArrayList<>();
-        this.usedCards = new ArrayList<>();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a shuffled deck, a deck created with an equally seeded random source always has the same order.
+     *
+     * @param random the random source used for every shuffle of this deck
+     */
+    public Deck(SplittableRandom random) {
+        this.RANDOM = random;
+        this.playingCards = new CardPile();
+        this.usedCards = new CardPile();
         generateCards();
     }
 
@@ -34,16 +44,14 @@ public class Deck {
     }
 
     /**
-     * Method shuffles the first deck until it's valid
+     * Method shuffles the first deck, one Fisher-Yates pass already gives every order the same chance
      */
     public void shuffleFirstDeck() {
-        for (int i = 0; i < 4; i++) {
-            Collections.shuffle(playingCards);
-        }
+        playingCards.shuffle(RANDOM);
     }
 
     /**
-     * Generates numerical cards
+     * Generates numerical cards, all cards are shared flyweight instances
      */
     public void generateNumericalCards() {
         EnumSet<Card.Color> colorsSet = EnumSet.of(Card.Color.WILD);
@@ -51,7 +59,7 @@ public class Deck {
         for (int i = 0; i < NUMERICAL_CARDS_EACH; i++) {
             for (Card.Color color : EnumSet.complementOf(colorsSet)) {
                 for (Card.Value value : EnumSet.complementOf(valueSet)) {
-                    playingCards.add(new Card(color, value));
+                    playingCards.add(Card.of(color, value));
                 }
             }
         }
@@ -61,10 +69,10 @@ public class Deck {
      * Generates zero cards, since there are only 4 of them
      */
     public void generateZeroCards() {
-        playingCards.add(new Card(Card.Color.BLUE, Card.Value.ZERO));
-        playingCards.add(new Card(Card.Color.RED, Card.Value.ZERO));
-        playingCards.add(new Card(Card.Color.YELLOW, Card.Value.ZERO));
-        playingCards.add(new Card(Card.Color.GREEN, Card.Value.ZERO));
+        playingCards.add(Card.of(Card.Color.BLUE, Card.Value.ZERO));
+        playingCards.add(Card.of(Card.Color.RED, Card.Value.ZERO));
+        playingCards.add(Card.of(Card.Color.YELLOW, Card.Value.ZERO));
+        playingCards.add(Card.of(Card.Color.GREEN, Card.Value.ZERO));
     }
 
     /**
@@ -72,42 +80,52 @@ public class Deck {
      */
     public void generateWildCards() {
         for (int i = 0; i < WILD_CARDS_EACH; i++) {
-            playingCards.add(new Card(Card.Color.WILD, Card.Value.DRAW_FOUR));
-            playingCards.add(new Card(Card.Color.WILD, Card.Value.PICK_COLOR));
+            playingCards.add(Card.of(Card.Color.WILD, Card.Value.DRAW_FOUR));
+            playingCards.add(Card.of(Card.Color.WILD, Card.Value.PICK_COLOR));
         }
     }
 
     /**
-     * Shuffles all used cards and puts it into playing cards
+     * Takes the top card of the playing cards (drawing pile).
+     *
+     * @return the drawn card
+     * @requires playing cards not to be empty
+     */
+    public Card draw() {
+        return playingCards.draw();
+    }
+
+    /**
+     * Shuffles all used cards except the two on top and puts them under the playing cards.
+     * Cards are moved between the piles one by one and only the moved cards are shuffled, in place.
+     * The cards that were still on the drawing pile stay on top in the same order.
      */
     public void reShuffle() {
-        Card card1 = this.usedCards.get(this.usedCards.size() - 1);
-        Card card2 = this.usedCards.get(this.usedCards.size() - 2);
-        ArrayList<Card> tempArr = this.usedCards;
-        tempArr.remove(card1);
-        tempArr.remove(card2);
-        this.playingCards = tempArr;
-        this.usedCards = new ArrayList<>();
-
-        this.usedCards.add(card2);
-        this.usedCards.add(card1);
-
-        Collections.shuffle(playingCards);
+        int keep = Math.min(2, usedCards.size());
+        int from = playingCards.size();
+        while (usedCards.size() > keep) {
+            playingCards.add(usedCards.draw());
+        }
+        playingCards.shuffle(from, playingCards.size(), RANDOM);
     }
 
     //--------------------------GETTERS--------------------------
 
-    public ArrayList<Card> getPlayingCards() {
+    public CardPile getPlayingCards() {
         return playingCards;
     }
 
-    public ArrayList<Card> getUsedCards() {
+    public CardPile getUsedCards() {
         return usedCards;
     }
 
+    public SplittableRandom getRandom() {
+        return RANDOM;
+    }
+
     //--------------------------SETTERS--------------------------
 
-    public void setPlayingCards(ArrayList<Card> cards) {
+    public void setPlayingCards(CardPile cards) {
         this.playingCards = cards;
     }
 
@@ -1,21 +1,42 @@
 package server.model.player;
 
 import server.model.card.Card;
+import server.model.player.contract.Strategy;
 import server.model.player.factory.Player;
+import server.model.player.strategy.GreedyStrategy;
+import server.model.player.strategy.OpponentModel;
+import server.model.table.gameModes.factory.PlayingMode;
+import server.view.Log;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class ComputerPlayer extends Player {
+    private final ArrayList<Integer> POSSIBLE_MOVES = new ArrayList<>();
+    private static final GreedyStrategy FALLBACK = new GreedyStrategy();
+    private final AtomicBoolean THINKING = new AtomicBoolean();
+    private final OpponentModel MODEL = new OpponentModel(this);
+    private Strategy strategy;
+
     public ComputerPlayer(String nickname) {
-        super(nickname);
+        this(nickname, new GreedyStrategy());
     }
 
-    private final ArrayList<Integer> POSSIBLE_MOVES = new ArrayList<>();
+    /**
+     * Creates a computer player that leaves its choice of card and color to a bot engine.
+     *
+     * @param nickname the nickname of the player
+     * @param strategy the bot engine, used by this player only
+     */
+    public ComputerPlayer(String nickname, Strategy strategy) {
+        super(nickname);
+        this.strategy = strategy;
+    }
 
     /**
      * The translator method returns the next move that the computer player should make.
      * It first calls the method getValidMoves() which determines the valid moves that the computer player can make.
-     * If there are no possible moves, the method returns "draw".
+     * If there are no possible moves, the method returns "draw", or "skip" to take the stacked cards in progressive mode.
      * If the player has only two cards in hand, it returns the best move along with "uno".
      * Otherwise, it returns the best move.
      *
@@ -23,26 +44,41 @@ public class ComputerPlayer extends Player {
      */
     public String translator() {
         getValidMoves();
-        String s = "";
-        if (POSSIBLE_MOVES.isEmpty()) {
-            s += "draw";
-        } else if (super.getHand().size() == 2) {
-            s += determineBestMove();
-            s += " uno";
-        } else {
-            s += determineBestMove();
-        }
+        String s = translate(POSSIBLE_MOVES, POSSIBLE_MOVES.isEmpty() ? -1 : determineBestMove());
         POSSIBLE_MOVES.clear();
         return s;
     }
 
+    /**
+     * Turns a chosen card into the move the game expects: the index of the card, with "uno" if it is the second last
+     * card, or "draw" or "skip" if no card is playable.
+     *
+     * @param validMoves the valid moves of the player
+     * @param move       the index of the chosen card, ignored if there are no valid moves
+     * @return the move
+     */
+    public String translate(List<Integer> validMoves, int move) {
+        if (validMoves.isEmpty()) {
+            return super.getTable().getPlayingMode().getForwardCount() > 0 ? "skip" : "draw";
+        }
+        return super.getHand().size() == 2 ? move + " uno" : String.valueOf(move);
+    }
+
     /**
      * This method is used to select the color of the card when a Wild card is played.
-     * The color is selected by counting the most frequent color in the computer's hand.
+     * The color is chosen by the strategy of the computer player, on the bot pool of the server if the game has one.
      */
     @Override
     public void pickColor() {
-        Card.Color color = cardColors();
+        super.getTable().getUno().pickBotColor(this);
+    }
+
+    /**
+     * Sets the color the computer player chose after playing a wild card.
+     *
+     * @param color the color, not WILD
+     */
+    public void applyColor(Card.Color color) {
         switch (color) {
             case BLUE:
                 super.getTable().getUno().getTUI().printCustomMessage("computer chose color blue");
@@ -61,80 +97,98 @@ public class ComputerPlayer extends Player {
                 super.getTable().setIndicatedColor(Card.Color.YELLOW);
                 break;
             default:
-                pickColor();
+                applyColor(FALLBACK.chooseColor(this));
         }
     }
 
     /**
      * This method is used to choose another player to switch hands with.
-     * The computer chooses the first player it finds that is not itself.
+     * The computer takes the hand of the opponent closest to going out, as told by its opponent model.
      */
     @Override
     public void chooseSwitchHands() {
-        for (Player p : super.getTable().getPlayers()) {
-            if (!p.getNickname().equals(super.getNickname())) {
-                super.swapHands(p);
-                break;
-            }
+        Player target = MODEL.chooseSwapTarget();
+        if (target != this) {
+            super.swapHands(target);
         }
     }
 
-    /**
-     * This method is used to determine the color of the cards in the computer's hand.
-     * It returns the color with the maximum number of cards in the hand.
-     *
-     * @return color The color with the most number of cards in the computer's hand.
-     */
-    public Card.Color cardColors() {
-        HashMap<Card.Color, Integer> map = new HashMap<>();
-        for (Card card : super.getHand()) {
-            if (map.containsKey(card.getColor())) {
-                int i = map.get(card.getColor()) + 1;
-                map.put(card.getColor(), i);
-            } else {
-                map.put(card.getColor(), 1);
-            }
-        }
-
-        map.remove(Card.Color.WILD);
-
-        int maxOccurances = 0;
-        Card.Color max = Card.Color.YELLOW;
-        for (Map.Entry<Card.Color, Integer> entry : map.entrySet()) {
-            if (entry.getValue() > maxOccurances) {
-                maxOccurances = entry.getValue();
-                max = entry.getKey();
-            }
-        }
-        System.out.println(max);
-        return max;
-    }
-
     /**
      * This method is used to get the valid moves in the computer's hand.
+     * The playable faces are looked up once, each card is then a bit test, and the hand is only scanned until all
+     * valid moves the counters of the hand announce are found, and not at all if there are none.
      */
     public void getValidMoves() {
-        for (int i = 0; i < super.getHand().size(); i++) {
-            if (super.getTable().getPlayingMode().validMove(super.getHand().get(i), super.getTable())) {
+        PlayingMode mode = super.getTable().getPlayingMode();
+        long playable = mode.playableFaces(super.getTable());
+        int count = mode.countPlayable(super.getHand(), super.getTable());
+        for (int i = 0; i < super.getHand().size() && POSSIBLE_MOVES.size() < count; i++) {
+            if (mode.validMove(super.getHand().get(i), playable, super.getTable())) {
                 POSSIBLE_MOVES.add(i);
             }
         }
-        System.out.println("VALID MOVES:" + POSSIBLE_MOVES);
+        if (Log.isEnabled(Log.Level.TRACE)) {
+            Log.trace(getNickname() + " valid moves: " + POSSIBLE_MOVES);
+        }
     }
 
     /**
-     * This method is used to determine the best move for the computer.
-     * It returns the index of the best card to be played.
+     * This method is used to determine the best move for the computer, it is chosen by the strategy of the computer
+     * player.
      *
      * @return index The index of the best card to be played.
      */
     public int determineBestMove() {
-        int best = 0;
-        for (int i = 0; i < POSSIBLE_MOVES.size(); i++) {
-            if (getHand().get(POSSIBLE_MOVES.get(i)).getValue() != Card.Value.DRAW_FOUR && getHand().get(POSSIBLE_MOVES.get(i)).getValue() != Card.Value.PICK_COLOR) {
-                best = i;
-            }
-        }
-        return POSSIBLE_MOVES.get(best);
+        return strategy.chooseMove(this, POSSIBLE_MOVES);
+    }
+
+    /**
+     * Looks up the valid moves into a list of their own, for a decision that is made on another thread.
+     *
+     * @return the indices of the playable cards in the hand
+     */
+    public ArrayList<Integer> validMoves() {
+        getValidMoves();
+        ArrayList<Integer> moves = new ArrayList<>(POSSIBLE_MOVES);
+        POSSIBLE_MOVES.clear();
+        return moves;
+    }
+
+    /**
+     * @return the move of the greedy engine, played when the strategy of the player misses its deadline
+     */
+    public int fallbackMove(List<Integer> validMoves) {
+        return FALLBACK.chooseMove(this, validMoves);
+    }
+
+    /**
+     * @return the color of the greedy engine, picked when the strategy of the player misses its deadline
+     */
+    public Card.Color fallbackColor() {
+        return FALLBACK.chooseColor(this);
+    }
+
+    //--------------------------GETTERS & SETTERS--------------------------
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return what this player can tell about the hands of its opponents
+     */
+    public OpponentModel getOpponentModel() {
+        return MODEL;
+    }
+
+    /**
+     * @return set while a decision of the strategy runs on another thread, a strategy makes one decision at a time
+     */
+    public AtomicBoolean getThinking() {
+        return THINKING;
+    }
+
+    public void setStrategy(Strategy strategy) {
+        this.strategy = strategy;
     }
 }
@@ -0,0 +1,289 @@
+package server.model.player;
+
+import server.model.card.Card;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * The hand of a player: the cards in the order they were drawn, plus a count per card face, per color and per value.
+ * <p>
+ * The counts and the set of faces in the hand are updated on every change of the hand, so asking whether a card, a
+ * color or a value is in the hand, or how many of its cards have one of a set of faces, costs a few array reads however
+ * large the hand grows. Looking up or removing a card that is not in the hand returns without scanning, and the scan
+ * for a card that is in the hand compares flyweight codes only.
+ * The order of the cards is kept because the moves of the players refer to cards by their index in the hand. The
+ * counts belong to the hand, so swapping or passing on hands moves them along in the same step.
+ * A hand also keeps what every player at the table can tell about it: the colors its holder failed to follow by drawing
+ * instead of playing, and how many cards came in since. That knowledge moves along with swapped hands as well.
+ */
+public class Hand extends ArrayList<Card> {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] COUNTS = new int[Card.CODES];
+    private final int[] COLORS = new int[Card.Color.values().length];
+    private final int[] VALUES = new int[Card.Value.values().length];
+    private final int[] VOIDS = {-1, -1, -1, -1};
+    private long faces;
+    private int nonDeckCards;
+    private int received;
+
+    //--------------------------CONSTRUCTORS--------------------------
+    public Hand() {
+        super();
+    }
+
+    public Hand(int capacity) {
+        super(capacity);
+    }
+
+    public Hand(Collection<? extends Card> cards) {
+        super(cards);
+        recount();
+    }
+
+    //--------------------------QUERIES--------------------------
+
+    /**
+     * Counts the copies of a card in the hand.
+     *
+     * @param card the card
+     * @return the amount of cards with the same color and value
+     */
+    public int count(Card card) {
+        return COUNTS[card.getCode()];
+    }
+
+    /**
+     * Counts the cards of a color in the hand.
+     *
+     * @param color the color, WILD counts the wild cards
+     * @return the amount of cards of the color
+     */
+    public int count(Card.Color color) {
+        return COLORS[color.ordinal()];
+    }
+
+    /**
+     * Counts the cards of a value in the hand.
+     *
+     * @param value the value
+     * @return the amount of cards of the value
+     */
+    public int count(Card.Value value) {
+        return VALUES[value.ordinal()];
+    }
+
+    public boolean hasColor(Card.Color color) {
+        return COLORS[color.ordinal()] > 0;
+    }
+
+    public boolean hasValue(Card.Value value) {
+        return VALUES[value.ordinal()] > 0;
+    }
+
+    /**
+     * @return the faces in the hand, bit n is set if a card with face number n is in the hand
+     */
+    public long faces() {
+        return faces;
+    }
+
+    /**
+     * Counts the cards whose face is in a set of faces, e.g. the playable faces of a mode.
+     *
+     * @param mask the faces, bit n stands for face number n
+     * @return the amount of cards in the hand with one of the faces
+     */
+    public int countFaces(long mask) {
+        int count = 0;
+        for (long m = mask & faces; m != 0; m &= m - 1) {
+            count += COUNTS[Card.ofFace(Long.numberOfTrailingZeros(m)).getCode()];
+        }
+        return count;
+    }
+
+    /**
+     * @return the amount of cards with a color and value that no deck holds, these have no face number
+     */
+    public int countNonDeckCards() {
+        return nonDeckCards;
+    }
+
+    /**
+     * Tells how many cards the holder of the hand got since it failed to follow a color, those are the only cards of
+     * that color it can hold.
+     *
+     * @param color a color other than WILD
+     * @return the amount of cards added since the holder drew instead of following the color, or -1 if it did not,
+     * or played the color since
+     */
+    public int receivedSinceVoid(Card.Color color) {
+        int since = VOIDS[color.ordinal()];
+        return since < 0 ? -1 : received - since;
+    }
+
+    /**
+     * Copies the count of every card face into an array, indexed by the code of the card.
+     *
+     * @param faces an array of at least {@link Card#CODES} entries
+     */
+    public void copyCounts(int[] faces) {
+        System.arraycopy(COUNTS, 0, faces, 0, Card.CODES);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Card && COUNTS[((Card) o).getCode()] > 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return contains(o) ? super.indexOf(o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return contains(o) ? super.lastIndexOf(o) : -1;
+    }
+
+    //--------------------------MUTATORS--------------------------
+
+    /**
+     * Records that the holder drew a card instead of playing on a card of the given color, so it is taken to hold no
+     * card of that color until it plays one.
+     *
+     * @param color the color to follow, WILD is ignored
+     */
+    public void failedToFollow(Card.Color color) {
+        if (color != Card.Color.WILD) {
+            VOIDS[color.ordinal()] = received;
+        }
+    }
+
+    @Override
+    public boolean add(Card card) {
+        super.add(card);
+        receive(card);
+        return true;
+    }
+
+    @Override
+    public void add(int index, Card card) {
+        super.add(index, card);
+        receive(card);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Card> cards) {
+        for (Card card : cards) {
+            receive(card);
+        }
+        return super.addAll(cards);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Card> cards) {
+        for (Card card : cards) {
+            receive(card);
+        }
+        return super.addAll(index, cards);
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        Card old = super.set(index, card);
+        track(old, -1);
+        receive(card);
+        return old;
+    }
+
+    @Override
+    public Card remove(int index) {
+        Card card = super.remove(index);
+        track(card, -1);
+        return card;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!contains(o)) {
+            return false;
+        }
+        super.remove(o);
+        track((Card) o, -1);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        recount();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Card> filter) {
+        return recountIf(super.removeIf(filter));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return recountIf(super.removeAll(c));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return recountIf(super.retainAll(c));
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        super.removeRange(fromIndex, toIndex);
+        recount();
+    }
+
+    private boolean recountIf(boolean changed) {
+        if (changed) {
+            recount();
+        }
+        return changed;
+    }
+
+    private void recount() {
+        Arrays.fill(COUNTS, 0);
+        Arrays.fill(COLORS, 0);
+        Arrays.fill(VALUES, 0);
+        faces = 0;
+        nonDeckCards = 0;
+        for (int i = 0; i < size(); i++) {
+            track(get(i), 1);
+        }
+    }
+
+    /**
+     * Tracks a card that came into the hand, only these count as received; a recount of the hand receives nothing.
+     */
+    private void receive(Card card) {
+        received++;
+        track(card, 1);
+    }
+
+    private void track(Card card, int delta) {
+        int count = COUNTS[card.getCode()] += delta;
+        int color = card.getColor().ordinal();
+        COLORS[color] += delta;
+        if (delta < 0 && color < VOIDS.length) {
+            VOIDS[color] = -1;
+        }
+        VALUES[card.getValue().ordinal()] += delta;
+        if (card.getFace() < 0) {
+            nonDeckCards += delta;
+        } else if (count == 0) {
+            faces &= ~(1L << card.getFace());
+        } else {
+            faces |= 1L << card.getFace();
+        }
+    }
+}
@@ -2,18 +2,27 @@ package server.model.player;
 
 import server.model.card.Card;
 import server.model.player.factory.Player;
+import server.model.table.Table;
 import server.controller.ServerHandler;
 
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.ArrayList;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 public class NetworkPlayer extends Player {
     private final ServerHandler SH;
-    private String translation = "";
-    private final ReentrantLock LOCK = new ReentrantLock();
-    private final Condition canGet = LOCK.newCondition();
-    private final Condition canSet = LOCK.newCondition();
+    private final AtomicReference<String> MAILBOX = new AtomicReference<>();
+    private volatile Thread consumer;
+    private volatile Thread producer;
     private boolean addUno = false;
+    private Table sentTable;
+    private Card sentTopCard;
+    private final int[] SENT_FACES = new int[Card.CODES];
+    private final int[] FACES = new int[Card.CODES];
+    private Player[] sentPlayers;
+    private int[] sentHandSizes;
+    private int[] sentScores;
 
     //________________________________CONSTRUCTOR__________________________________
     public NetworkPlayer(String nickname, ServerHandler serverHandler) {
@@ -25,65 +34,163 @@ public class NetworkPlayer extends Player {
     //________________________________METHODS__________________________________
 
     /**
-     * The `translate` method is a synchronized method that sets the translation of a given card.
-     * If the card is "draw", "skip", or "proceed", it sets the translation to be the same as the input.
-     * If the card is in the player's hand, the translation is set to the index of the card in the player's hand.
-     * If the player says "uno", the `addUno` flag is set to false.
+     * The `translate` method puts the translation of a given card in the mailbox of the player.
+     * The move is resolved by resolveMove, if the card is not in the player's hand nothing is set.
+     * A move that arrives while the previous move was not taken by the game yet is ignored, so a client that sends
+     * twice can never have its second move applied to a later turn.
      *
      * @param card the card to be translated
+     * @return true if the move was put in the mailbox
+     */
+    public boolean translate(String card) {
+        String move = resolveMove(card);
+        return move != null && offerTranslation(move);
+    }
+
+    /**
+     * The `resolveMove` method turns a card or command sent over the network into the input handleMove expects.
+     * If the card is "draw", "skip", or "proceed", the move is the same as the input.
+     * If the card is in the player's hand, the move is the index of the card in the player's hand.
+     * If the player said "uno" before, " uno" is added to the index and the `addUno` flag is set to false.
+     *
+     * @param card the card or command sent by the client
+     * @return the move, or null if the card is not in the player's hand
      */
-    public synchronized void translate(String card) {
+    public String resolveMove(String card) {
         switch (card) {
             case "draw":
-                this.setTranslation("draw");
-                break;
             case "skip":
-                this.setTranslation("skip");
-                break;
             case "proceed":
-                this.setTranslation("proceed");
-                break;
+                return card;
         }
 
-        int ind = 0;
-        String[] spl = card.split(" ");
-        for (Card c : super.getHand()) {
-            if (spl[0].equals(c.getColor().toString()) && spl[1].equals(c.getValue().toString())) {
-
-                String s = Integer.toString(ind);
-                if (addUno) {
-                    s += " uno";
-                    this.addUno = false;
-                }
-                this.setTranslation(s);
-                break;
-            }
-            ind++;
+        Card wanted = Card.fromWire(card);
+        if (wanted == null) {
+            return null;
+        }
+        int ind = super.getHand().indexOf(wanted);
+        if (ind == -1) {
+            return null;
         }
+        String s = Integer.toString(ind);
+        if (addUno) {
+            s += " uno";
+            this.addUno = false;
+        }
+        return s;
     }
 
     /**
-     * The `broadcastTurn` method broadcasts the game information to all players in the game.
+     * The `broadcastTurn` method broadcasts the game information to this player.
      * This includes the current top card, the player's hand, a list of all players in the game,
      * and a boolean indicating if it is the current player's turn.
      */
     public void broadcastTurn() {
-        String topCard = super.getTable().getCurrentCard().getColor().toString() + " " + super.getTable().getCurrentCard().getValue().toString();
-        String playerHand = "";
+        broadcastTurn(null);
+    }
+
+    /**
+     * Broadcasts the game information to this player, reusing a players list that was built once for all players.
+     * Clients that negotiated the delta feature get a full BGI the first time and for every new table or changed
+     * seating, otherwise only a BGD with what changed since their last update.
+     *
+     * @param playersList the players list of the table as built by {@link #playersList(Table)}, or null
+     */
+    public void broadcastTurn(String playersList) {
+        Table table = super.getTable();
+        String yourTurn = String.valueOf(table.getCurrentPlayer() == this);
+        if (SH.isDeltaUpdates() && table == sentTable && samePlayers(table.getPlayers())) {
+            broadcastDelta(table, yourTurn);
+            return;
+        }
+        StringBuilder playerHand = new StringBuilder();
         for (Card c : super.getHand()) {
-            playerHand += c.getColor().toString() + " " + c.getValue().toString();
-            playerHand += ";";
+            playerHand.append(c.toString()).append(';');
+        }
+        SH.doBroadcastGameInformation(table.getCurrentCard().toString(), playerHand.toString(),
+                playersList != null ? playersList : playersList(table), yourTurn);
+        if (SH.isDeltaUpdates()) {
+            rememberSent(table);
+        }
+    }
+
+    /**
+     * Builds the list of all players with their number of cards and score, as sent in BGI.
+     *
+     * @param table the table
+     * @return the players list
+     */
+    public static String playersList(Table table) {
+        StringBuilder playersList = new StringBuilder();
+        for (Player p : table.getPlayers()) {
+            playersList.append(p.getNickname()).append(':').append(p.getHand().size()).append(':')
+                    .append(table.getScoreBoard().get(p)).append(';');
+        }
+        return playersList.toString();
+    }
+
+    /**
+     * Sends the difference between the current state and the state this client was last informed about.
+     * The hands are compared as multisets of card codes, so the work is linear in the hand size.
+     */
+    private void broadcastDelta(Table table, String yourTurn) {
+        String topCard = table.getCurrentCard() == sentTopCard ? "" : table.getCurrentCard().toString();
+        countFaces(FACES);
+        StringBuilder added = new StringBuilder();
+        StringBuilder removed = new StringBuilder();
+        for (int code = 0; code < Card.CODES; code++) {
+            int diff = FACES[code] - SENT_FACES[code];
+            for (; diff > 0; diff--) {
+                added.append(Card.decode((byte) code).toString()).append(';');
+            }
+            for (; diff < 0; diff++) {
+                removed.append(Card.decode((byte) code).toString()).append(';');
+            }
+        }
+        StringBuilder changed = new StringBuilder();
+        for (int i = 0; i < sentPlayers.length; i++) {
+            Player p = sentPlayers[i];
+            int size = p.getHand().size();
+            int score = table.getScoreBoard().get(p);
+            if (size != sentHandSizes[i] || score != sentScores[i]) {
+                changed.append(p.getNickname()).append(':').append(size).append(':').append(score).append(';');
+            }
         }
-        String playersList = "";
-        boolean yourTurn = false;
-        for (Player p : super.getTable().getPlayers()) {
-            playersList += p.getNickname() + ":" + p.getHand().size() + ":" + p.getTable().getScoreBoard().get(p);
-            playersList += ";";
+        SH.doBroadcastGameDelta(topCard, added.toString(), removed.toString(), changed.toString(), yourTurn);
+        rememberSent(table);
+    }
+
+    private void rememberSent(Table table) {
+        sentTable = table;
+        sentTopCard = table.getCurrentCard();
+        countFaces(SENT_FACES);
+        ArrayList<Player> players = table.getPlayers();
+        if (sentPlayers == null || sentPlayers.length != players.size()) {
+            sentPlayers = new Player[players.size()];
+            sentHandSizes = new int[players.size()];
+            sentScores = new int[players.size()];
+        }
+        for (int i = 0; i < sentPlayers.length; i++) {
+            sentPlayers[i] = players.get(i);
+            sentHandSizes[i] = sentPlayers[i].getHand().size();
+            sentScores[i] = table.getScoreBoard().get(sentPlayers[i]);
+        }
+    }
+
+    private void countFaces(int[] faces) {
+        super.getHand().copyCounts(faces);
+    }
+
+    private boolean samePlayers(ArrayList<Player> players) {
+        if (sentPlayers == null || sentPlayers.length != players.size()) {
+            return false;
         }
-        if (super.getTable().getCurrentPlayer().getNickname().equals(this.getNickname())) {
-            yourTurn = true;
+        for (int i = 0; i < sentPlayers.length; i++) {
+            if (sentPlayers[i] != players.get(i)) {
+                return false;
+            }
         }
-        SH.doBroadcastGameInformation(topCard, playerHand, playersList, String.valueOf(yourTurn));
+        return true;
     }
 
     /**
@@ -109,8 +216,9 @@ public class NetworkPlayer extends Player {
      * If the input color is invalid, the `doAskColour` method in the `SH` object is invoked to ask the player to pick a color again.
      *
      * @param color the color to be set on the table
+     * @return true if the color was valid
      */
-    public void pickColor(String color) {
+    public boolean pickColor(String color) {
         switch (color) {
             case "BLUE":
                 super.getTable().setIndicatedColor(Card.Color.BLUE);
@@ -126,43 +234,103 @@ public class NetworkPlayer extends Player {
                 break;
             default:
                 this.SH.doAskColour();
+                return false;
         }
+        return true;
     }
 
 
+    /**
+     * Takes the move out of the mailbox, waiting until the client made one.
+     * Only the game loop of the table takes moves, so at most one thread waits here.
+     *
+     * @return the move, never null or empty
+     * @throws RuntimeException if the waiting thread is interrupted
+     */
     public String getTranslation() {
-        LOCK.lock();
+        String move = MAILBOX.getAndSet(null);
+        if (move != null) {
+            wake(producer);
+            return move;
+        }
+        Thread current = Thread.currentThread();
+        consumer = current;
         try {
-            while ((this.translation == null) || this.translation.isEmpty()) {
-                canGet.await();
+            while ((move = MAILBOX.getAndSet(null)) == null) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    throw new RuntimeException(new InterruptedException());
+                }
             }
-            canSet.signal();
-            LOCK.unlock();
-            return this.translation;
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+        } finally {
+            consumer = null;
+        }
+        wake(producer);
+        return move;
+    }
+
+    /**
+     * Takes the move out of the mailbox without waiting.
+     *
+     * @return the move, or null if the client did not make one
+     */
+    public String pollTranslation() {
+        String move = MAILBOX.getAndSet(null);
+        if (move != null) {
+            wake(producer);
         }
+        return move;
+    }
 
+    /**
+     * Puts a move in the mailbox if it is empty, never waits.
+     *
+     * @param move the move, empty moves are ignored
+     * @return true if the move was put in the mailbox, false if it still holds a move that was not taken
+     */
+    public boolean offerTranslation(String move) {
+        if (move == null || move.isEmpty() || !MAILBOX.compareAndSet(null, move)) {
+            return false;
+        }
+        wake(consumer);
+        return true;
     }
 
+    /**
+     * Puts a move in the mailbox, waiting until the previous move is taken.
+     * A waiting producer is woken by the consumer, the timed park only covers several producers waiting at once.
+     *
+     * @param translation the move
+     * @throws RuntimeException if the waiting thread is interrupted
+     */
     public void setTranslation(String translation) {
-        LOCK.lock();
-        try {
-            while (!(this.translation == null) && !this.translation.isEmpty()) {
-                canSet.await();
+        if (translation == null || translation.isEmpty()) {
+            return;
+        }
+        while (!offerTranslation(translation)) {
+            producer = Thread.currentThread();
+            if (offerTranslation(translation)) {
+                return;
+            }
+            LockSupport.parkNanos(this, 1_000_000);
+            if (Thread.interrupted()) {
+                throw new RuntimeException(new InterruptedException());
             }
-            this.translation = translation;
-
-            canGet.signal();
-            LOCK.unlock();
-
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Throws away a move that was not taken, e.g. a move of a previous game.
+     */
     public void resetTranslation() {
-        this.translation = null;
+        MAILBOX.set(null);
+        wake(producer);
+    }
+
+    private static void wake(Thread thread) {
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
     }
 
 
@@ -0,0 +1,68 @@
+package server.model.player.contract;
+
+import server.model.card.Card;
+import server.model.player.ComputerPlayer;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The decisions of a computer player that are left to a bot engine.
+ * A strategy belongs to one computer player and is called for one decision at a time on the thread that runs the game
+ * of that player. A decision that runs on a thread of the {@link server.controller.BotPool} is prepared on the thread
+ * of the game first: the strategy takes everything it reads of the table right there, so the game may go on, and even
+ * change the table, while the decision runs.
+ */
+public interface Strategy {
+
+    //-------------------------------------------INITIALIZERS----------------------------------------------
+
+    /**
+     * Chooses the card to play.
+     *
+     * @param player     the computer player whose turn it is
+     * @param validMoves the indices of the playable cards in the hand of the player, never empty
+     * @return the index in the hand of the card to play, one of validMoves
+     */
+    int chooseMove(ComputerPlayer player, List<Integer> validMoves);
+
+    /**
+     * Chooses the color after the player played a wild card, the card is already on top of the discard pile.
+     *
+     * @param player the computer player that played the wild card
+     * @return a color other than WILD
+     */
+    Card.Color chooseColor(ComputerPlayer player);
+
+    /**
+     * Prepares the choice of a card for a decision that runs on another thread. Strategies that decide in constant
+     * time decide right away, searching strategies take a snapshot of the table to search from.
+     *
+     * @param player     the computer player whose turn it is
+     * @param validMoves the indices of the playable cards in the hand of the player, never empty
+     * @return the decision, it returns the index in the hand of the card to play and reads nothing of the table
+     */
+    default Supplier<Integer> prepareMove(ComputerPlayer player, List<Integer> validMoves) {
+        int move = chooseMove(player, validMoves);
+        return () -> move;
+    }
+
+    /**
+     * Prepares the choice of a color for a decision that runs on another thread, like {@link #prepareMove}.
+     *
+     * @param player the computer player that played the wild card
+     * @return the decision, it returns a color other than WILD and reads nothing of the table
+     */
+    default Supplier<Card.Color> prepareColor(ComputerPlayer player) {
+        Card.Color color = chooseColor(player);
+        return () -> color;
+    }
+
+    /**
+     * @return the time a decision of this strategy takes at most, in nanoseconds, 0 for strategies that decide in
+     * constant time
+     */
+    default long getBudgetNanos() {
+        return 0;
+    }
+}
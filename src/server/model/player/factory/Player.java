@@ -2,6 +2,7 @@ package server.model.player.factory;
 
 import server.controller.UNO;
 import server.model.card.Card;
+import server.model.player.Hand;
 import server.model.player.contract.PlayerActions;
 import server.model.table.Table;
 
@@ -9,7 +10,7 @@ import java.util.ArrayList;
 
 public abstract class Player implements PlayerActions {
     private final String NICKNAME;
-    private ArrayList<Card> hand;
+    private Hand hand;
     private UNO UNO;
     private Table table;
 
@@ -25,8 +26,9 @@ public abstract class Player implements PlayerActions {
     public void draw(int amount) {
         if (checkDrawPossibility(amount)) {
             for (int i = 0; i < amount; i++) {
-                getHand().add(getTable().getDeck().getPlayingCards().get(0));
-                getTable().getDeck().getPlayingCards().remove(0);
+                Card card = getTable().getDeck().draw();
+                getHand().add(card);
+                getTable().getRecorder().draw(this, card);
             }
         }
     }
@@ -60,6 +62,7 @@ public abstract class Player implements PlayerActions {
     @Override
     public void placeCard(Card card) {
         getTable().setDrawFourPlayable(true);
+        getTable().getRecorder().play(this, card);
         getHand().remove(card);
         isWinner();
         getTable().setCurrentCard(card);
@@ -77,7 +80,9 @@ public abstract class Player implements PlayerActions {
     @Override
     public boolean checkDrawPossibility(int amount) {
         if (amount > getTable().getDeck().getPlayingCards().size()) {
+            int from = getTable().getDeck().getPlayingCards().size();
             getTable().getDeck().reShuffle();
+            getTable().getRecorder().reshuffle(getTable().getDeck().getPlayingCards(), from);
         }
 
         if (getTable().getDeck().getPlayingCards().size() >= amount) {
@@ -96,10 +101,11 @@ public abstract class Player implements PlayerActions {
      * @param other An instance of the Player class representing the other player.
      */
     public void swapHands(Player other) {
-        ArrayList<Card> tempHand1 = this.getHand();
-        ArrayList<Card> tempHand2 = other.getHand();
+        Hand tempHand1 = this.getHand();
+        Hand tempHand2 = other.getHand();
         this.setHand(tempHand2);
         other.setHand(tempHand1);
+        getTable().getRecorder().swap(this, other);
     }
 
     /**
@@ -125,6 +131,25 @@ public abstract class Player implements PlayerActions {
         return getNickname();
     }
 
+    /**
+     * This method is used to determine the color of the cards in the player's hand.
+     * It returns the color with the maximum number of cards in the hand, it is the color computer players pick and
+     * the color picked for a network player that does not answer in time.
+     *
+     * @return color The color with the most number of cards in the player's hand.
+     */
+    public Card.Color cardColors() {
+        int maxOccurances = 0;
+        Card.Color max = Card.Color.YELLOW;
+        for (Card.Color color : Card.Color.values()) {
+            if (color != Card.Color.WILD && getHand().count(color) > maxOccurances) {
+                maxOccurances = getHand().count(color);
+                max = color;
+            }
+        }
+        return max;
+    }
+
     //--------------------------CONSTRUCTOR--------------------------
 
     public Player(String nickname) {
@@ -137,7 +162,7 @@ public abstract class Player implements PlayerActions {
         return NICKNAME;
     }
 
-    public ArrayList<Card> getHand() {
+    public Hand getHand() {
         return hand;
     }
 
@@ -151,8 +176,13 @@ public abstract class Player implements PlayerActions {
 
 
     //--------------------------SETTERS--------------------------
+    /**
+     * Sets the hand of the player, a list that is no {@link Hand} yet is copied into one.
+     *
+     * @param hand the cards of the player
+     */
     public void setHand(ArrayList<Card> hand) {
-        this.hand = hand;
+        this.hand = hand == null || hand instanceof Hand ? (Hand) hand : new Hand(hand);
     }
 
     public void setUNO(UNO UNO) {
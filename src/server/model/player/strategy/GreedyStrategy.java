@@ -0,0 +1,35 @@
+package server.model.player.strategy;
+
+import server.model.card.Card;
+import server.model.player.ComputerPlayer;
+import server.model.player.contract.Strategy;
+
+import java.util.List;
+
+/**
+ * The original bot engine: it keeps its wild cards as long as it can and picks the color it holds most of, breaking
+ * ties by the color the next player is the least likely to hold, see {@link OpponentModel#chooseColor()}.
+ * It costs next to nothing and is the fallback of the searching strategies.
+ */
+public class GreedyStrategy implements Strategy {
+
+    /**
+     * Plays the last playable card that is not a wild card, or the first wild card if only wild cards are playable.
+     */
+    @Override
+    public int chooseMove(ComputerPlayer player, List<Integer> validMoves) {
+        int best = 0;
+        for (int i = 0; i < validMoves.size(); i++) {
+            Card.Value value = player.getHand().get(validMoves.get(i)).getValue();
+            if (value != Card.Value.DRAW_FOUR && value != Card.Value.PICK_COLOR) {
+                best = i;
+            }
+        }
+        return validMoves.get(best);
+    }
+
+    @Override
+    public Card.Color chooseColor(ComputerPlayer player) {
+        return player.getOpponentModel().chooseColor();
+    }
+}
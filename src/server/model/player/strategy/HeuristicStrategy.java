@@ -0,0 +1,97 @@
+package server.model.player.strategy;
+
+import server.model.card.Card;
+import server.model.player.ComputerPlayer;
+import server.model.player.Hand;
+import server.model.player.contract.Strategy;
+import server.model.player.factory.Player;
+
+import java.util.List;
+
+/**
+ * A bot engine that scores every playable card by a few rules of thumb, at the cost of a scan of the playable cards.
+ * <p>
+ * It sheds the cards that are worth the most points, stays in the color it holds most of, keeps its wild cards for
+ * when nothing else fits, and attacks with skips and draw cards when the next player is about to go out. The color
+ * after a wild card is the one whose cards in hand are worth the most points, plus up to the worth of a two for a color
+ * the next player is unlikely to hold.
+ */
+public class HeuristicStrategy implements Strategy {
+    private static final Card.Color[] COLORS = {Card.Color.BLUE, Card.Color.GREEN, Card.Color.YELLOW, Card.Color.RED};
+    private static final int THREAT = 2;
+    private static final int MISS_BONUS = 3;
+
+    @Override
+    public int chooseMove(ComputerPlayer player, List<Integer> validMoves) {
+        Hand hand = player.getHand();
+        Player next = player.getTable().getNextPlayer();
+        boolean threatened = next != player && next.getHand().size() <= THREAT;
+        int best = validMoves.get(0);
+        int bestScore = Integer.MIN_VALUE;
+        for (int move : validMoves) {
+            int score = score(hand.get(move), hand, threatened);
+            if (score > bestScore) {
+                best = move;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public Card.Color chooseColor(ComputerPlayer player) {
+        double[] points = new double[COLORS.length];
+        for (Card card : player.getHand()) {
+            if (card.getColor() != Card.Color.WILD) {
+                points[card.getColor().ordinal()] += 1 + points(card);
+            }
+        }
+        Player next = player.getTable().getNextPlayer();
+        if (next != player) {
+            for (Card.Color color : COLORS) {
+                points[color.ordinal()] += MISS_BONUS * (1 - player.getOpponentModel().holds(next, color));
+            }
+        }
+        int best = 0;
+        for (int i = 1; i < COLORS.length; i++) {
+            if (points[COLORS[i].ordinal()] > points[COLORS[best].ordinal()]) {
+                best = i;
+            }
+        }
+        return COLORS[best];
+    }
+
+    /**
+     * Scores a playable card, the highest score is played.
+     */
+    private static int score(Card card, Hand hand, boolean threatened) {
+        Card.Value value = card.getValue();
+        boolean attack = value == Card.Value.SKIP || value == Card.Value.DRAW_TWO || value == Card.Value.DRAW_FOUR
+                || value == Card.Value.CHANGE_DIRECTION;
+        if (card.getColor() == Card.Color.WILD) {
+            return threatened && value == Card.Value.DRAW_FOUR ? 200 : -100;
+        }
+        int score = points(card) + 2 * hand.count(card.getColor());
+        if (threatened && attack) {
+            score += 100;
+        }
+        return score;
+    }
+
+    /**
+     * @return the points a card is worth to the winner of a round
+     */
+    private static int points(Card card) {
+        switch (card.getValue()) {
+            case DRAW_FOUR:
+            case PICK_COLOR:
+                return 50;
+            case DRAW_TWO:
+            case SKIP:
+            case CHANGE_DIRECTION:
+                return 20;
+            default:
+                return card.getValue().ordinal() - Card.Value.ZERO.ordinal();
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package server.model.player.strategy;
+
+import server.model.card.Card;
+import server.model.player.ComputerPlayer;
+import server.model.player.contract.Strategy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * A bot engine that evaluates its options by determinized Monte Carlo search.
+ * <p>
+ * For every candidate, a playable card or a color, it repeatedly deals the unseen cards at random consistent with the
+ * discard pile and the hand sizes of the opponents, makes the candidate move and plays the game to its end with random
+ * moves, see {@link Playout}. The candidate that wins the largest share of its playouts is chosen.
+ * The position is taken on the game thread, see {@link #prepareMove}, the search only reads that snapshot. The thread
+ * that runs the search searches itself and hands the search to helper workers on an executor; all of them stop at the
+ * time budget of the move or when the playout budget is used up. A helper that did not start before that thread
+ * finished is called off, so a busy executor only costs playouts, never time. Workers and their playouts are created
+ * once per strategy, a search allocates only its bookkeeping.
+ * The strategy belongs to one computer player, moves of different players can be searched at the same time.
+ */
+public class MonteCarloStrategy implements Strategy {
+    private static final int READY = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+    private static final Card.Color[] COLORS = {Card.Color.BLUE, Card.Color.GREEN, Card.Color.YELLOW, Card.Color.RED};
+
+    private final long BUDGET_NANOS;
+    private final int MAX_PLAYOUTS;
+    private final Executor EXECUTOR;
+    private final Worker[] WORKERS;
+    private final GreedyStrategy FALLBACK = new GreedyStrategy();
+    private long lastPlayouts;
+
+    //--------------------------CONSTRUCTORS--------------------------
+
+    /**
+     * Creates a strategy that searches with half of the cores on the common fork/join pool.
+     *
+     * @param budget the time budget of a move
+     * @param unit   the unit of the budget
+     */
+    public MonteCarloStrategy(long budget, TimeUnit unit) {
+        this(budget, unit, Integer.MAX_VALUE, Math.max(1, Runtime.getRuntime().availableProcessors() / 2), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a strategy.
+     *
+     * @param budget   the time budget of a move
+     * @param unit     the unit of the budget
+     * @param playouts the most playouts of a move, over all workers
+     * @param workers  the number of threads that search a move, including the game thread
+     * @param executor runs the workers other than the game thread
+     */
+    public MonteCarloStrategy(long budget, TimeUnit unit, int playouts, int workers, Executor executor) {
+        this.BUDGET_NANOS = unit.toNanos(budget);
+        this.MAX_PLAYOUTS = playouts;
+        this.EXECUTOR = executor;
+        this.WORKERS = new Worker[Math.max(1, workers)];
+        for (int i = 0; i < WORKERS.length; i++) {
+            WORKERS[i] = new Worker();
+        }
+    }
+
+    //--------------------------METHODS--------------------------
+
+    @Override
+    public int chooseMove(ComputerPlayer player, List<Integer> validMoves) {
+        return prepareMove(player, validMoves).get();
+    }
+
+    @Override
+    public Card.Color chooseColor(ComputerPlayer player) {
+        return prepareColor(player).get();
+    }
+
+    /**
+     * Takes the position of the player and a random generator split from the table, so the search that is returned
+     * reads nothing of the table. The time budget of the move starts here.
+     */
+    @Override
+    public Supplier<Integer> prepareMove(ComputerPlayer player, List<Integer> validMoves) {
+        if (validMoves.size() == 1) {
+            int move = validMoves.get(0);
+            return () -> move;
+        }
+        int fallback = FALLBACK.chooseMove(player, validMoves);
+        Playout.Position position = new Playout.Position(player, player.getTable());
+        if (!position.isPlayable()) {
+            return () -> fallback;
+        }
+        int[] faces = new int[validMoves.size()];
+        int[] moves = new int[validMoves.size()];
+        int candidates = 0;
+        for (int move : validMoves) {
+            int face = player.getHand().get(move).getFace();
+            if (face < 0) {
+                return () -> fallback;
+            }
+            boolean seen = false;
+            for (int i = 0; i < candidates; i++) {
+                seen |= faces[i] == face;
+            }
+            if (!seen) {
+                faces[candidates] = face;
+                moves[candidates++] = move;
+            }
+        }
+        if (candidates == 1) {
+            int move = moves[0];
+            return () -> move;
+        }
+        Search search = new Search(position, faces, candidates, player.getTable().getRandom().split());
+        return () -> {
+            int best = search(search);
+            return best < 0 ? fallback : moves[best];
+        };
+    }
+
+    /**
+     * Takes the position of the player like {@link #prepareMove}.
+     */
+    @Override
+    public Supplier<Card.Color> prepareColor(ComputerPlayer player) {
+        Card.Color fallback = FALLBACK.chooseColor(player);
+        Playout.Position position = new Playout.Position(player, player.getTable());
+        if (!position.isPlayable()) {
+            return () -> fallback;
+        }
+        Search search = new Search(position, null, COLORS.length, player.getTable().getRandom().split());
+        return () -> {
+            int best = search(search);
+            return best < 0 ? fallback : COLORS[best];
+        };
+    }
+
+    /**
+     * Runs a search on the calling thread and the helper workers and combines their results.
+     *
+     * @return the index of the candidate with the highest share of wins, or -1 if no playout was made
+     */
+    private int search(Search search) {
+        SplittableRandom random = search.RANDOM;
+        Thread owner = Thread.currentThread();
+        for (int i = 1; i < WORKERS.length; i++) {
+            WORKERS[i].prepare(search, random.split(), owner, i);
+            try {
+                EXECUTOR.execute(WORKERS[i]);
+            } catch (RejectedExecutionException e) {
+                WORKERS[i].STATE.set(DONE);
+            }
+        }
+        WORKERS[0].prepare(search, random, owner, 0);
+        WORKERS[0].run();
+        for (int i = 1; i < WORKERS.length; i++) {
+            Worker worker = WORKERS[i];
+            if (!worker.STATE.compareAndSet(READY, DONE)) {
+                while (worker.STATE.get() != DONE) {
+                    LockSupport.parkNanos(this, 100_000);
+                }
+            }
+        }
+        long[] wins = new long[search.CANDIDATES];
+        long[] plays = new long[search.CANDIDATES];
+        for (Worker worker : WORKERS) {
+            for (int c = 0; c < search.CANDIDATES; c++) {
+                wins[c] += worker.wins[c];
+                plays[c] += worker.plays[c];
+            }
+        }
+        lastPlayouts = 0;
+        int best = -1;
+        double bestShare = -1;
+        for (int c = 0; c < search.CANDIDATES; c++) {
+            lastPlayouts += plays[c];
+            double share = plays[c] == 0 ? -1 : (double) wins[c] / plays[c];
+            if (share > bestShare) {
+                best = c;
+                bestShare = share;
+            }
+        }
+        return bestShare < 0 ? -1 : best;
+    }
+
+    //--------------------------GETTERS--------------------------
+
+    /**
+     * @return the number of playouts of the last search, only meaningful on the thread that ran it
+     */
+    public long getLastPlayouts() {
+        return lastPlayouts;
+    }
+
+    @Override
+    public long getBudgetNanos() {
+        return BUDGET_NANOS;
+    }
+
+    /**
+     * The input of the search of one move, shared by its workers.
+     */
+    private final class Search {
+        private final Playout.Position POSITION;
+        private final int[] FACES;
+        private final int CANDIDATES;
+        private final SplittableRandom RANDOM;
+        private final long DEADLINE;
+        private final AtomicLong REMAINING;
+
+        /**
+         * @param position   the position of the player
+         * @param faces      the faces of the candidate cards, or null if the candidates are the colors
+         * @param candidates the number of candidates
+         * @param random     the random generator of the search, split off the table on the game thread
+         */
+        Search(Playout.Position position, int[] faces, int candidates, SplittableRandom random) {
+            this.POSITION = position;
+            this.FACES = faces;
+            this.CANDIDATES = candidates;
+            this.RANDOM = random;
+            this.DEADLINE = System.nanoTime() + BUDGET_NANOS;
+            this.REMAINING = new AtomicLong(MAX_PLAYOUTS);
+        }
+    }
+
+    /**
+     * A searching thread with its own playout and results, reused for every move.
+     */
+    private static final class Worker implements Runnable {
+        private final Playout PLAYOUT = new Playout();
+        private final AtomicInteger STATE = new AtomicInteger(DONE);
+        private final long[] wins = new long[Card.FACES];
+        private final long[] plays = new long[Card.FACES];
+        private Search search;
+        private SplittableRandom random;
+        private Thread owner;
+        private int offset;
+
+        /**
+         * Sets up the worker for a search, the executor or the game thread that runs it afterwards sees these writes.
+         */
+        void prepare(Search search, SplittableRandom random, Thread owner, int offset) {
+            this.search = search;
+            this.random = random;
+            this.owner = owner;
+            this.offset = offset;
+            Arrays.fill(wins, 0);
+            Arrays.fill(plays, 0);
+            STATE.set(READY);
+        }
+
+        @Override
+        public void run() {
+            if (!STATE.compareAndSet(READY, RUNNING)) {
+                return;
+            }
+            try {
+                Search s = search;
+                for (int c = offset % s.CANDIDATES; System.nanoTime() < s.DEADLINE && s.REMAINING.getAndDecrement() > 0;
+                     c = c + 1 == s.CANDIDATES ? 0 : c + 1) {
+                    PLAYOUT.deal(s.POSITION, random);
+                    if (s.FACES != null) {
+                        PLAYOUT.play(s.FACES[c], null);
+                    } else {
+                        PLAYOUT.pick(COLORS[c]);
+                    }
+                    if (PLAYOUT.finish() == s.POSITION.getSelf()) {
+                        wins[c]++;
+                    }
+                    plays[c]++;
+                }
+            } finally {
+                STATE.set(DONE);
+                LockSupport.unpark(owner);
+            }
+        }
+    }
+}
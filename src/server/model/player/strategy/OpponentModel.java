@@ -0,0 +1,145 @@
+package server.model.player.strategy;
+
+import server.model.card.Card;
+import server.model.player.ComputerPlayer;
+import server.model.player.Hand;
+import server.model.player.factory.Player;
+
+/**
+ * What a computer player can tell about the hands of its opponents from the cards played so far.
+ * <p>
+ * The model keeps no state of its own, it reads counts that the game keeps up to date in constant time per event:
+ * the discard pile counts the copies of every card on it, and every hand records the colors its holder failed to
+ * follow, see {@link Hand#failedToFollow}. A card is unseen if it is neither in the own hand nor on the discard pile,
+ * so it lies in the drawing pile or in the hand of an opponent. The chance that an opponent holds a color follows from
+ * the share of that color among the unseen cards and the number of cards the opponent may hold it among: its whole
+ * hand, or only the cards it got since it failed to follow the color.
+ */
+public class OpponentModel {
+    private static final Card.Color[] COLORS = {Card.Color.BLUE, Card.Color.GREEN, Card.Color.YELLOW, Card.Color.RED};
+
+    private final ComputerPlayer SELF;
+
+    //--------------------------CONSTRUCTOR--------------------------
+
+    /**
+     * @param self the computer player that uses the model
+     */
+    public OpponentModel(ComputerPlayer self) {
+        this.SELF = self;
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Counts the unseen copies of a card.
+     *
+     * @param card the card
+     * @return the copies that are neither in the own hand nor on the discard pile
+     */
+    public int unseen(Card card) {
+        int seen = SELF.getHand().count(card) + SELF.getTable().getDeck().getUsedCards().count(card);
+        return Math.max(0, card.getCopies() - seen);
+    }
+
+    /**
+     * Counts the unseen cards of a color.
+     *
+     * @param color the color, WILD counts the unseen wild cards
+     * @return the cards of the color that are neither in the own hand nor on the discard pile
+     */
+    public int unseen(Card.Color color) {
+        int unseen = 0;
+        for (Card.Value value : Card.Value.values()) {
+            unseen += unseen(Card.of(color, value));
+        }
+        return unseen;
+    }
+
+    /**
+     * Estimates the chance that an opponent holds a card of a color, as if its cards were drawn at random from the
+     * unseen cards.
+     *
+     * @param opponent the opponent
+     * @param color    a color other than WILD
+     * @return the chance from 0 to 1
+     */
+    public double holds(Player opponent, Card.Color color) {
+        int[] unseen = unseenColors();
+        return holds(opponent.getHand(), color, unseen[color.ordinal()], unseen[unseen.length - 1]);
+    }
+
+    /**
+     * @return the unseen cards per color ordinal, followed by the unseen cards in total
+     */
+    private int[] unseenColors() {
+        int[] unseen = new int[Card.Color.values().length + 1];
+        for (Card.Color color : Card.Color.values()) {
+            unseen[color.ordinal()] = unseen(color);
+            unseen[unseen.length - 1] += unseen[color.ordinal()];
+        }
+        return unseen;
+    }
+
+    private static double holds(Hand hand, Card.Color color, int share, int total) {
+        int since = hand.receivedSinceVoid(color);
+        int cards = Math.min(since < 0 ? hand.size() : since, total);
+        if (total == 0 || share == 0 || cards == 0) {
+            return 0;
+        }
+        return 1 - Math.pow(1 - (double) share / total, cards);
+    }
+
+    /**
+     * Picks the color after a wild card: the color held most of, and among those the one the next player is the least
+     * likely to hold.
+     *
+     * @return a color other than WILD
+     */
+    public Card.Color chooseColor() {
+        Player next = SELF.getTable().getNextPlayer();
+        int[] unseen = unseenColors();
+        int total = unseen[unseen.length - 1];
+        Card.Color best = Card.Color.YELLOW;
+        int bestCount = 0;
+        double bestChance = 1;
+        for (Card.Color color : COLORS) {
+            int count = SELF.getHand().count(color);
+            double chance = next == SELF ? 1 : holds(next.getHand(), color, unseen[color.ordinal()], total);
+            if (count > bestCount || (count == bestCount && count > 0 && chance < bestChance)) {
+                best = color;
+                bestCount = count;
+                bestChance = chance;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Picks the opponent to swap hands with after a seven: the one closest to going out, and among those the one whose
+     * hand is the least likely to miss a color.
+     *
+     * @return an opponent, or the player itself if it plays alone
+     */
+    public Player chooseSwapTarget() {
+        int[] unseen = unseenColors();
+        int total = unseen[unseen.length - 1];
+        Player best = SELF;
+        double bestCover = -1;
+        for (Player p : SELF.getTable().getPlayers()) {
+            if (p == SELF) {
+                continue;
+            }
+            double cover = 0;
+            for (Card.Color color : COLORS) {
+                cover += holds(p.getHand(), color, unseen[color.ordinal()], total);
+            }
+            if (best == SELF || p.getHand().size() < best.getHand().size()
+                    || (p.getHand().size() == best.getHand().size() && cover > bestCover)) {
+                best = p;
+                bestCover = cover;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,347 @@
+package server.model.player.strategy;
+
+import server.model.card.Card;
+import server.model.deck.CardPile;
+import server.model.player.factory.Player;
+import server.model.table.Table;
+import server.model.table.gameModes.factory.PlayingMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * A game of UNO reduced to arrays of face counts, played on from a position to its end by random moves.
+ * <p>
+ * {@link #deal} fills in what a player cannot see: the unseen cards are shuffled and dealt to the opponents by their
+ * hand sizes, the rest becomes the drawing pile. {@link #play} or {@link #pick} then make the move that is evaluated
+ * and {@link #finish} plays on until a hand is empty. Legal moves come from the legality table of the playing mode.
+ * All state lives in arrays allocated once, so a playout allocates nothing and one playout object is reused for
+ * thousands of playouts. A playout belongs to a single thread.
+ * Rollouts use the card effects of the normal mode: draw twos are not stacked and sevens and zeros do not swap hands.
+ */
+public final class Playout {
+    private static final int MAX_TURNS = 500;
+    private static final int WILD = Card.Color.WILD.ordinal();
+    private static final int SKIP = Card.Value.SKIP.ordinal();
+    private static final int REVERSE = Card.Value.CHANGE_DIRECTION.ordinal();
+    private static final int DRAW_TWO = Card.Value.DRAW_TWO.ordinal();
+    private static final int DRAW_FOUR = Card.Value.DRAW_FOUR.ordinal();
+    private static final Card.Color[] COLORS = Card.Color.values();
+    private static final int[] VALUE = new int[Card.FACES];
+    private static final int[] COLOR = new int[Card.FACES];
+    private static final int[] DECK = new int[Card.FACES];
+    private static final int DECK_SIZE;
+
+    static {
+        int size = 0;
+        for (int face = 0; face < Card.FACES; face++) {
+            Card card = Card.ofFace(face);
+            VALUE[face] = card.getValue().ordinal();
+            COLOR[face] = card.getColor().ordinal();
+            DECK[face] = card.getCopies();
+            size += DECK[face];
+        }
+        DECK_SIZE = size;
+    }
+
+    private final int[] PILE = new int[DECK_SIZE];
+    private final int[] DISCARD = new int[Card.FACES];
+    private int[][] hands = new int[0][];
+    private int[][] colors = new int[0][];
+    private int[] sizes = new int[0];
+    private PlayingMode mode;
+    private SplittableRandom random;
+    private int pileSize;
+    private int seats;
+    private int turn;
+    private int direction;
+    private int top;
+    private Card.Color indicated;
+    private int winner;
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Starts a playout from a position: the hand of the player is known, the other hands and the drawing pile are
+     * drawn at random from the unseen cards.
+     *
+     * @param position the position seen by the player
+     * @param random   the random source of this playout, used until the next deal
+     */
+    public void deal(Position position, SplittableRandom random) {
+        this.random = random;
+        this.mode = position.MODE;
+        this.seats = position.SEATS;
+        this.turn = position.SELF;
+        this.direction = position.DIRECTION;
+        this.top = position.TOP;
+        this.indicated = position.INDICATED;
+        this.winner = -1;
+        if (hands.length < seats) {
+            hands = new int[seats][Card.FACES];
+            colors = new int[seats][WILD];
+            sizes = new int[seats];
+        }
+        for (int seat = 0; seat < seats; seat++) {
+            Arrays.fill(hands[seat], 0);
+            Arrays.fill(colors[seat], 0);
+            sizes[seat] = 0;
+        }
+        Arrays.fill(DISCARD, 0);
+        int n = 0;
+        for (int face = 0; face < Card.FACES; face++) {
+            add(position.SELF, face, position.OWN[face]);
+            for (int i = 0; i < position.UNSEEN[face]; i++) {
+                PILE[n++] = face;
+            }
+        }
+        shuffle(n);
+        pileSize = n;
+        for (int seat = 0; seat < seats; seat++) {
+            if (seat != position.SELF) {
+                draw(seat, position.SIZES[seat]);
+            }
+        }
+        System.arraycopy(position.DISCARD, 0, DISCARD, 0, Card.FACES);
+    }
+
+    /**
+     * The player whose turn it is plays a card.
+     *
+     * @param face  the face number of the card, it must be in the hand
+     * @param color the color picked if the card is wild, or null to pick the color held most
+     */
+    public void play(int face, Card.Color color) {
+        place(turn, face);
+        if (winner < 0) {
+            effect(color);
+        }
+    }
+
+    /**
+     * Picks the color of the wild card the player just played, the card is already on top.
+     *
+     * @param color the color
+     */
+    public void pick(Card.Color color) {
+        effect(color);
+    }
+
+    /**
+     * Plays on with random legal moves until a hand is empty.
+     *
+     * @return the seat of the winner, or -1 if the game did not end within the turn limit
+     */
+    public int finish() {
+        for (int turns = 0; winner < 0 && turns < MAX_TURNS; turns++) {
+            step();
+        }
+        return winner;
+    }
+
+    private void step() {
+        int seat = turn;
+        long playable = mode.playableFaces(top, indicated, false);
+        int face = choose(seat, playable);
+        if (face < 0) {
+            face = draw(seat, 1);
+            if (face < 0 || (playable >>> face & 1) == 0) {
+                advance(1);
+                return;
+            }
+        }
+        place(seat, face);
+        if (winner < 0) {
+            effect(null);
+        }
+    }
+
+    /**
+     * Picks a random playable card of a hand, every card has the same chance.
+     */
+    private int choose(int seat, long playable) {
+        int[] hand = hands[seat];
+        int total = 0;
+        for (long m = playable; m != 0; m &= m - 1) {
+            total += hand[Long.numberOfTrailingZeros(m)];
+        }
+        if (total == 0) {
+            return -1;
+        }
+        int pick = random.nextInt(total);
+        for (long m = playable; ; m &= m - 1) {
+            int face = Long.numberOfTrailingZeros(m);
+            pick -= hand[face];
+            if (pick < 0) {
+                return face;
+            }
+        }
+    }
+
+    private void place(int seat, int face) {
+        add(seat, face, -1);
+        DISCARD[top]++;
+        top = face;
+        if (sizes[seat] == 0) {
+            winner = seat;
+        }
+    }
+
+    private void effect(Card.Color color) {
+        int value = VALUE[top];
+        indicated = COLOR[top] == WILD ? (color != null ? color : favorite(turn)) : null;
+        if (value == SKIP) {
+            advance(2);
+        } else if (value == REVERSE) {
+            if (seats == 2) {
+                advance(2);
+            } else {
+                direction = -direction;
+                advance(1);
+            }
+        } else if (value == DRAW_TWO || value == DRAW_FOUR) {
+            draw(next(), value == DRAW_TWO ? 2 : 4);
+            advance(2);
+        } else {
+            advance(1);
+        }
+    }
+
+    /**
+     * @return the color a player holds most of
+     */
+    private Card.Color favorite(int seat) {
+        int best = 0;
+        for (int color = 1; color < WILD; color++) {
+            if (colors[seat][color] > colors[seat][best]) {
+                best = color;
+            }
+        }
+        return COLORS[best];
+    }
+
+    /**
+     * Draws cards, shuffling the discard pile into the drawing pile when it runs out.
+     *
+     * @return the face of the last card drawn, or -1 if no card was left
+     */
+    private int draw(int seat, int amount) {
+        int face = -1;
+        for (int i = 0; i < amount; i++) {
+            if (pileSize == 0 && !refill()) {
+                return -1;
+            }
+            face = PILE[--pileSize];
+            add(seat, face, 1);
+        }
+        return face;
+    }
+
+    private boolean refill() {
+        int n = 0;
+        for (int face = 0; face < Card.FACES; face++) {
+            for (; DISCARD[face] > 0; DISCARD[face]--) {
+                PILE[n++] = face;
+            }
+        }
+        shuffle(n);
+        pileSize = n;
+        return n > 0;
+    }
+
+    private void shuffle(int n) {
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int card = PILE[i];
+            PILE[i] = PILE[j];
+            PILE[j] = card;
+        }
+    }
+
+    private void add(int seat, int face, int amount) {
+        hands[seat][face] += amount;
+        sizes[seat] += amount;
+        if (COLOR[face] != WILD) {
+            colors[seat][COLOR[face]] += amount;
+        }
+    }
+
+    private int next() {
+        return Math.floorMod(turn + direction, seats);
+    }
+
+    private void advance(int steps) {
+        turn = Math.floorMod(turn + steps * direction, seats);
+    }
+
+    /**
+     * What a player sees of a game at the moment it has to decide: its own hand, the discard pile, the top card and
+     * the sizes of the other hands. Taken on the game thread and never changed, so searches on other threads can
+     * share it.
+     */
+    public static final class Position {
+        private final PlayingMode MODE;
+        private final int SEATS;
+        private final int SELF;
+        private final int DIRECTION;
+        private final int TOP;
+        private final Card.Color INDICATED;
+        private final int[] OWN = new int[Card.FACES];
+        private final int[] UNSEEN = new int[Card.FACES];
+        private final int[] DISCARD = new int[Card.FACES];
+        private final int[] SIZES;
+
+        /**
+         * Takes the position of a player.
+         *
+         * @param self  the player
+         * @param table the table the player sits at
+         */
+        public Position(Player self, Table table) {
+            ArrayList<Player> players = table.getPlayers();
+            this.MODE = table.getPlayingMode();
+            this.SEATS = players.size();
+            this.SELF = players.indexOf(self);
+            this.DIRECTION = table.isClockWise() ? 1 : -1;
+            this.TOP = table.getCurrentCard().getFace();
+            this.INDICATED = table.getIndicatedColor();
+            this.SIZES = new int[SEATS];
+            for (int seat = 0; seat < SEATS; seat++) {
+                SIZES[seat] = players.get(seat).getHand().size();
+            }
+            for (Card card : self.getHand()) {
+                if (card.getFace() >= 0) {
+                    OWN[card.getFace()]++;
+                }
+            }
+            CardPile used = table.getDeck().getUsedCards();
+            for (int i = 0; i < used.size(); i++) {
+                int face = used.get(i).getFace();
+                if (face >= 0) {
+                    DISCARD[face]++;
+                }
+            }
+            if (TOP >= 0 && DISCARD[TOP] > 0) {
+                DISCARD[TOP]--;
+            }
+            for (int face = 0; face < Card.FACES; face++) {
+                UNSEEN[face] = Math.max(0, DECK[face] - OWN[face] - DISCARD[face] - (face == TOP ? 1 : 0));
+            }
+        }
+
+        /**
+         * @return the seat of the player
+         */
+        public int getSelf() {
+            return SELF;
+        }
+
+        /**
+         * @return true if a playout can start from this position, false for tables with cards no deck holds
+         */
+        public boolean isPlayable() {
+            return SELF >= 0 && TOP >= 0;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package server.model.player.strategy;
+
+import server.model.card.Card;
+import server.model.player.ComputerPlayer;
+import server.model.player.contract.Strategy;
+
+import java.util.List;
+
+/**
+ * A bot engine that plays a random playable card and picks a random color.
+ * It costs less than any other engine and is meant for load tests, it draws from the random source of the table so
+ * seeded games stay reproducible.
+ */
+public class RandomStrategy implements Strategy {
+    private static final Card.Color[] COLORS = {Card.Color.BLUE, Card.Color.GREEN, Card.Color.YELLOW, Card.Color.RED};
+
+    @Override
+    public int chooseMove(ComputerPlayer player, List<Integer> validMoves) {
+        return validMoves.get(player.getTable().getRandom().nextInt(validMoves.size()));
+    }
+
+    @Override
+    public Card.Color chooseColor(ComputerPlayer player) {
+        return COLORS[player.getTable().getRandom().nextInt(COLORS.length)];
+    }
+}
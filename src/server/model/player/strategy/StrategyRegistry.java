@@ -0,0 +1,162 @@
+package server.model.player.strategy;
+
+import server.model.player.contract.Strategy;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * The bot engines a lobby can choose from when it adds a computer player, each with its own CPU budget.
+ * <p>
+ * An engine is registered under a name with a factory that builds a new strategy for every computer player, since
+ * strategies keep per-player state. The built-in engines are "greedy", "heuristic", "montecarlo" and "random".
+ * The budget of an engine bounds the time one move may take and the threads it may use. The defaults can be changed
+ * per engine through the system properties {@code uno.bot.<name>.moveMillis}, {@code uno.bot.<name>.playouts} and
+ * {@code uno.bot.<name>.workers}, and at runtime through {@link #setBudget}; computer players that are already seated
+ * keep the budget they were created with. The engine of a computer player added without a name is
+ * {@code uno.bot.default}, greedy if that is not set.
+ * The registry is shared by all handlers of a server and can be read and changed from any thread.
+ */
+public class StrategyRegistry {
+    public static final String GREEDY = "greedy";
+    public static final String HEURISTIC = "heuristic";
+    public static final String MONTE_CARLO = "montecarlo";
+    public static final String RANDOM = "random";
+
+    private final Map<String, BiFunction<Budget, Executor, Strategy>> FACTORIES = new ConcurrentHashMap<>();
+    private final Map<String, Budget> BUDGETS = new ConcurrentHashMap<>();
+    private final Executor EXECUTOR;
+    private final String DEFAULT;
+
+    //--------------------------CONSTRUCTOR--------------------------
+
+    /**
+     * Creates a registry with the built-in engines.
+     *
+     * @param executor runs the helper workers of searching engines
+     */
+    public StrategyRegistry(Executor executor) {
+        this.EXECUTOR = executor;
+        this.DEFAULT = System.getProperty("uno.bot.default", GREEDY);
+        register(GREEDY, Budget.NONE, (budget, pool) -> new GreedyStrategy());
+        register(HEURISTIC, Budget.NONE, (budget, pool) -> new HeuristicStrategy());
+        register(RANDOM, Budget.NONE, (budget, pool) -> new RandomStrategy());
+        register(MONTE_CARLO, new Budget(20, 2_000, 2), (budget, pool) -> new MonteCarloStrategy(budget.getMoveMillis(),
+                TimeUnit.MILLISECONDS, budget.getPlayouts(), budget.getWorkers(), pool));
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Registers an engine, replacing an engine with the same name. The budget is overridden by the system properties
+     * of the engine.
+     *
+     * @param name    the name a lobby chooses the engine by, case-insensitive
+     * @param budget  the default budget of the engine
+     * @param factory builds a strategy for one computer player from a budget and the executor of the registry
+     */
+    public void register(String name, Budget budget, BiFunction<Budget, Executor, Strategy> factory) {
+        String key = name.toLowerCase();
+        BUDGETS.put(key, Budget.fromProperties(key, budget));
+        FACTORIES.put(key, factory);
+    }
+
+    /**
+     * Builds a strategy for a new computer player.
+     *
+     * @param name the name of the engine, or null or blank for the default engine
+     * @return a new strategy within the budget of the engine, or null if no engine has that name
+     */
+    public Strategy create(String name) {
+        String key = name == null || name.isBlank() ? DEFAULT : name.trim().toLowerCase();
+        BiFunction<Budget, Executor, Strategy> factory = FACTORIES.get(key);
+        return factory == null ? null : factory.apply(BUDGETS.get(key), EXECUTOR);
+    }
+
+    /**
+     * @return the names of the registered engines, sorted
+     */
+    public Set<String> names() {
+        return new TreeSet<>(FACTORIES.keySet());
+    }
+
+    //--------------------------GETTERS & SETTERS--------------------------
+
+    /**
+     * @param name the name of an engine
+     * @return its budget, or null if no engine has that name
+     */
+    public Budget getBudget(String name) {
+        return BUDGETS.get(name.toLowerCase());
+    }
+
+    /**
+     * Changes the budget of an engine for the computer players added from now on.
+     *
+     * @param name   the name of a registered engine
+     * @param budget the new budget
+     * @return true if the engine exists
+     */
+    public boolean setBudget(String name, Budget budget) {
+        return BUDGETS.replace(name.toLowerCase(), budget) != null;
+    }
+
+    public String getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * The CPU budget of an engine: how long it may think about one move, how many playouts it may make and how many
+     * threads it may think with, the game thread included. Engines that decide in constant time ignore it.
+     */
+    public static final class Budget {
+        public static final Budget NONE = new Budget(0, 0, 1);
+
+        private final long MOVE_MILLIS;
+        private final int PLAYOUTS;
+        private final int WORKERS;
+
+        /**
+         * @param moveMillis the most milliseconds a move may take
+         * @param playouts   the most playouts of a move
+         * @param workers    the most threads that work on a move, at least 1
+         */
+        public Budget(long moveMillis, int playouts, int workers) {
+            if (moveMillis < 0 || playouts < 0 || workers < 1) {
+                throw new IllegalArgumentException("invalid budget: " + moveMillis + " ms, " + playouts + " playouts, " + workers + " workers");
+            }
+            this.MOVE_MILLIS = moveMillis;
+            this.PLAYOUTS = playouts;
+            this.WORKERS = workers;
+        }
+
+        private static Budget fromProperties(String name, Budget defaults) {
+            String prefix = "uno.bot." + name + ".";
+            return new Budget(Long.getLong(prefix + "moveMillis", defaults.MOVE_MILLIS),
+                    Integer.getInteger(prefix + "playouts", defaults.PLAYOUTS),
+                    Integer.getInteger(prefix + "workers", defaults.WORKERS));
+        }
+
+        public long getMoveMillis() {
+            return MOVE_MILLIS;
+        }
+
+        public int getPlayouts() {
+            return PLAYOUTS;
+        }
+
+        public int getWorkers() {
+            return WORKERS;
+        }
+
+        @Override
+        public String toString() {
+            return MOVE_MILLIS + " ms, " + PLAYOUTS + " playouts, " + WORKERS + " workers";
+        }
+    }
+}
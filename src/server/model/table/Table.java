@@ -1,13 +1,16 @@
 package server.model.table;
 
 import server.controller.UNO;
+import server.controller.events.GameRecorder;
 import server.model.card.Card;
 import server.model.deck.Deck;
+import server.model.player.Hand;
 import server.model.player.NetworkPlayer;
 import server.model.player.factory.Player;
 import server.model.table.gameModes.factory.PlayingMode;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.SplittableRandom;
 
 public class Table {
     private ArrayList<Player> players;
@@ -20,13 +23,28 @@ public class Table {
     private boolean drawFourPlayable;
     private boolean hasWinner;
     private boolean clockWise;
+    private GameRecorder recorder = GameRecorder.NONE;
     private final UNO UNO;
+    private final SplittableRandom RANDOM;
     private final int DISTRUBUTED_CARDS = 7;
 
     public Table(ArrayList<Player> players, PlayingMode playingMode, UNO uno) {
+        this(players, playingMode, uno, uno != null ? uno.getRandom() : new SplittableRandom());
+    }
+
+    /**
+     * Creates a table whose decks are shuffled with the given random source.
+     *
+     * @param players     the players at the table
+     * @param playingMode the mode of the game
+     * @param uno         the game the table belongs to
+     * @param random      the random source of the game
+     */
+    public Table(ArrayList<Player> players, PlayingMode playingMode, UNO uno, SplittableRandom random) {
         this.players = players;
         this.PLAYINGMODE = playingMode;
-        setUpRound(new Deck());
+        this.RANDOM = random;
+        setUpRound(new Deck(random));
         this.SCOREBOARD = new HashMap<>();
         for (Player player : this.players) {
             SCOREBOARD.put(player, 0);
@@ -37,8 +55,7 @@ public class Table {
 
     public void setUpRound(Deck deckArg) {
         this.deck = deckArg;
-        this.currentCard = this.deck.getPlayingCards().get(0);
-        this.deck.getPlayingCards().remove(0);
+        this.currentCard = this.deck.draw();
         this.deck.getUsedCards().add(this.currentCard);
         this.indicatedColor = null;
         this.distributeHands();
@@ -52,16 +69,13 @@ public class Table {
      * The number of cards to be distributed to each player is specified by the constant DISTRIBUTED_CARDS.
      */
     public void distributeHands() {
-        ArrayList<Card> tempDeck = deck.getPlayingCards();
         for (Player player : players) {
-            ArrayList<Card> tempHand = new ArrayList<>();
+            Hand tempHand = new Hand(DISTRUBUTED_CARDS);
             for (int i = 0; i < DISTRUBUTED_CARDS; i++) {
-                tempHand.add(tempDeck.get(0));
-                tempDeck.remove(0);
+                tempHand.add(deck.draw());
             }
             player.setHand(tempHand);
         }
-        deck.setPlayingCards(tempDeck);
     }
 
     /**
@@ -69,16 +83,25 @@ public class Table {
      */
     public void reversePlayers() {
         if (this.players.size() == 2) {
-            nextTurn();
+            advance();
         }
         clockWise = !clockWise;
+        recorder.reverse(currentTurnIndex, clockWise);
+    }
+
+    /**
+     * Ends the turn and gives it to the next player.
+     */
+    public void nextTurn() {
+        advance();
+        recorder.turn(currentTurnIndex);
     }
 
     /**
      * Determines the next player's turn.
      * The turn order is determined by the clockWise variable and the currentTurnIndex.
      */
-    public void nextTurn() {
+    private void advance() {
         if (clockWise) {
             if (currentTurnIndex < players.size() - 1) {
                 currentTurnIndex++;
@@ -94,6 +117,27 @@ public class Table {
         }
     }
 
+    /**
+     * Removes a player that left the game. The current player keeps the turn, if the removed player had it, it goes
+     * to the next player in the direction of play.
+     *
+     * @param player the player that left
+     */
+    public void removePlayer(Player player) {
+        int seat = players.indexOf(player);
+        if (seat < 0) {
+            return;
+        }
+        players.remove(seat);
+        if (players.isEmpty()) {
+            currentTurnIndex = 0;
+        } else if (seat < currentTurnIndex || (seat == currentTurnIndex && !clockWise)) {
+            currentTurnIndex = currentTurnIndex == 0 ? players.size() - 1 : currentTurnIndex - 1;
+        } else if (currentTurnIndex >= players.size()) {
+            currentTurnIndex = 0;
+        }
+    }
+
     /**
      * Sets indicatedcolor to null
      */
@@ -106,11 +150,9 @@ public class Table {
      * This is determined by checking the current player's hand against the last used card in the deck.
      */
     public void drawFourEligibility() {
-        for (Card card : this.getCurrentPlayer().getHand()) {
-            if (card.getColor().equals(this.getDeck().getUsedCards().get(this.getDeck().getUsedCards().size() - 2).getColor())) {
-                this.drawFourPlayable = false;
-                break;
-            }
+        Card previous = this.getDeck().getUsedCards().get(this.getDeck().getUsedCards().size() - 2);
+        if (this.getCurrentPlayer().getHand().hasColor(previous.getColor())) {
+            this.drawFourPlayable = false;
         }
     }
 
@@ -118,7 +160,8 @@ public class Table {
      * Skips the current turn to the next player.
      */
     public void skip() {
-        nextTurn();
+        advance();
+        recorder.skip(currentTurnIndex);
     }
 
     /**
@@ -144,6 +187,7 @@ public class Table {
         }
         int i = this.SCOREBOARD.get(winner) + score;
         this.SCOREBOARD.put(winner, i);
+        recorder.roundEnd(winner, score);
     }
 
 
@@ -157,6 +201,10 @@ public class Table {
         return deck;
     }
 
+    public SplittableRandom getRandom() {
+        return RANDOM;
+    }
+
     public Player getPreviousPlayer() {
         if (clockWise) {
             if (currentTurnIndex == 0) {
@@ -192,6 +240,10 @@ public class Table {
         return this.players.get(currentTurnIndex);
     }
 
+    public int getCurrentTurnIndex() {
+        return currentTurnIndex;
+    }
+
     public PlayingMode getPlayingMode() {
         return PLAYINGMODE;
     }
@@ -224,6 +276,14 @@ public class Table {
         return UNO;
     }
 
+    /**
+     * @return the recorder every change of this table is reported to, {@link GameRecorder#NONE} if the game is not
+     * logged
+     */
+    public GameRecorder getRecorder() {
+        return recorder;
+    }
+
     //--------------------------SETTERS--------------------------
 
     public void setPlayers(ArrayList<Player> players) {
@@ -237,6 +297,7 @@ public class Table {
     public void setIndicatedColor(Card.Color indicatedColor) {
         this.indicatedColor = indicatedColor;
         if (this.indicatedColor != null){
+            recorder.color(indicatedColor);
             for (Player p : this.players){
                 if (p instanceof NetworkPlayer){
                     ((NetworkPlayer)p).getSh().doBroadcastGameMessage("The color has been changed to " + indicatedColor);
@@ -256,4 +317,12 @@ public class Table {
     public void setHasWinner(boolean hasWinner) {
         this.hasWinner = hasWinner;
     }
+
+    public void setClockWise(boolean clockWise) {
+        this.clockWise = clockWise;
+    }
+
+    public void setRecorder(GameRecorder recorder) {
+        this.recorder = recorder;
+    }
 }
@@ -7,6 +7,12 @@ import server.model.table.gameModes.factory.PlayingMode;
 import server.model.player.factory.Player;
 
 public class Normal extends PlayingMode {
+    private static final long[] LEGALITY = legalityTable(Normal::isLegal);
+
+    public Normal() {
+        super(Normal::isLegal, LEGALITY);
+    }
+
 
     /**
      * Perform wild card action based on the card played by the player
@@ -67,17 +73,17 @@ public class Normal extends PlayingMode {
 
 
     /**
-     * Determines if the specified card is a valid move.
+     * Determines if the specified card may be played, the rule from which the legality table of the mode is computed.
      *
-     * @param cardToPlay the card to be played
-     * @param table      the current state of the table
+     * @param cardToPlay     the card to be played
+     * @param top            the top card of the discard pile
+     * @param indicatedColor the color picked for a wild top card, or null
+     * @param stacked        true if draw cards are stacked, not used in this mode
      * @return true if the card is a valid move, false otherwise
      */
-    @Override
-    public boolean validMove(Card cardToPlay, Table table) {
-        Card.Color color = table.getCurrentCard().getColor();
-        Card.Value value = table.getCurrentCard().getValue();
-        Card.Color indicatedColor = table.getIndicatedColor();
+    private static boolean isLegal(Card cardToPlay, Card top, Card.Color indicatedColor, boolean stacked) {
+        Card.Color color = top.getColor();
+        Card.Value value = top.getValue();
         if (indicatedColor == null) {
             if (cardToPlay.getColor() == Card.Color.WILD && color == Card.Color.WILD) {
                 return false;
@@ -112,8 +118,7 @@ public class Normal extends PlayingMode {
                 break;
             case DRAW_FOUR:
                 Card card = table.getCurrentCard();
-                table.setCurrentCard(table.getDeck().getPlayingCards().get(0));
-                table.getDeck().getPlayingCards().remove(0);
+                table.setCurrentCard(table.getDeck().draw());
                 table.getDeck().getPlayingCards().add(card);
                 table.getDeck().getUsedCards().add(table.getCurrentCard());
                 if (table.getCurrentCard().getColor() == Card.Color.WILD) {
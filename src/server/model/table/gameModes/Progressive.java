@@ -7,6 +7,12 @@ import server.model.table.Table;
 import server.model.table.gameModes.factory.PlayingMode;
 
 public class Progressive extends PlayingMode {
+    private static final long[] LEGALITY = legalityTable(Progressive::isLegal);
+
+    public Progressive() {
+        super(Progressive::isLegal, LEGALITY);
+    }
+
     /**
      * Overridden method from the PlayingMode interface.
      * This method performs the action to be taken when a wild card is played by a player.
@@ -26,7 +32,6 @@ public class Progressive extends PlayingMode {
                         np.getSh().doBroadcastGameMessage("You can forward drawing two cards, by placing your draw two card.");
                     } else {
                         player.getTable().getUno().getTUI().printCustomMessage("You can forward drawing two cards, by placing your draw two card.");
-                        System.out.println("You can forward drawing two cards, by placing your draw two card.");
                     }
                     super.setForwardCount(super.getForwardCount() + 2);
                 } else {
@@ -86,28 +91,24 @@ public class Progressive extends PlayingMode {
      * @return boolean - True if the player has a Draw Two card, False otherwise.
      */
     private boolean hasDrawTwo(Player p) {
-        for (Card c : p.getHand()) {
-            if (c.getValue() == Card.Value.DRAW_TWO) {
-                return true;
-            }
-        }
-        return false;
+        return p.getHand().hasValue(Card.Value.DRAW_TWO);
     }
 
     /**
-     * Determines if a move is valid according to the current card on the table and the indicated color.
+     * Determines if a card may be played according to the top card, the indicated color and the stacked draw cards,
+     * the rule from which the legality table of the mode is computed.
      *
-     * @param cardToPlay - The card the player is trying to play.
-     * @param table      - The current game table.
+     * @param cardToPlay     - The card the player is trying to play.
+     * @param top            - The top card of the discard pile.
+     * @param indicatedColor - The color picked for a wild top card, or null.
+     * @param stacked        - True if draw twos are stacked, then only a draw two may be played.
      * @return boolean - True if the move is valid, False otherwise.
      */
-    @Override
-    public boolean validMove(Card cardToPlay, Table table) {
-        Card.Color color = table.getCurrentCard().getColor();
-        Card.Value value = table.getCurrentCard().getValue();
-        Card.Color indicatedColor = table.getIndicatedColor();
+    private static boolean isLegal(Card cardToPlay, Card top, Card.Color indicatedColor, boolean stacked) {
+        Card.Color color = top.getColor();
+        Card.Value value = top.getValue();
 
-        if (indicatedColor == null && super.getForwardCount() == 0) {
+        if (indicatedColor == null && !stacked) {
             if (cardToPlay.getColor() == Card.Color.WILD && color == Card.Color.WILD) {
                 return false;
             } else if (cardToPlay.getColor() == Card.Color.WILD) {
@@ -119,7 +120,7 @@ public class Progressive extends PlayingMode {
             if (value == cardToPlay.getValue()) {
                 return true;
             }
-        } else if (indicatedColor != null && super.getForwardCount() == 0) {
+        } else if (indicatedColor != null && !stacked) {
             if (indicatedColor.equals(cardToPlay.getColor())) {
                 return true;
             }
@@ -145,7 +146,6 @@ public class Progressive extends PlayingMode {
                         np.getSh().doBroadcastGameMessage("You can forward drawing two cards, by placing your draw two card.");
                     } else {
                         table.getCurrentPlayer().getTable().getUno().getTUI().printCustomMessage("You can forward drawing two cards, by placing your draw two card.");
-                        System.out.println("You can forward drawing two cards, by placing your draw two card.");
                     }
                     super.setForwardCount(super.getForwardCount() + 2);
                 } else {
@@ -155,8 +155,7 @@ public class Progressive extends PlayingMode {
                 }
             case DRAW_FOUR:
                 Card card = table.getCurrentCard();
-                table.setCurrentCard(table.getDeck().getPlayingCards().get(0));
-                table.getDeck().getPlayingCards().remove(0);
+                table.setCurrentCard(table.getDeck().draw());
                 table.getDeck().getPlayingCards().add(card);
                 table.getDeck().getUsedCards().add(table.getCurrentCard());
                 if (table.getCurrentCard().getColor() == Card.Color.WILD) {
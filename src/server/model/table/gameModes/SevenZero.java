@@ -1,14 +1,19 @@
 package server.model.table.gameModes;
 
 import server.model.card.Card;
+import server.model.player.Hand;
 import server.model.player.NetworkPlayer;
 import server.model.player.factory.Player;
 import server.model.table.Table;
 import server.model.table.gameModes.factory.PlayingMode;
 
-import java.util.ArrayList;
-
 public class SevenZero extends PlayingMode {
+    private static final long[] LEGALITY = legalityTable(SevenZero::isLegal);
+
+    public SevenZero() {
+        super(SevenZero::isLegal, LEGALITY);
+    }
+
     /**
      * Overridden method from the PlayingMode interface.
      * This method performs the action to be taken when a wild card is played by a player.
@@ -93,33 +98,33 @@ public class SevenZero extends PlayingMode {
      */
     public void passDownHands(Table table) {
         if (!table.isClockWise()) {
-            ArrayList<Card> temp = table.getPlayers().get(0).getHand();
+            Hand temp = table.getPlayers().get(0).getHand();
             for (int i = 0; i < table.getPlayers().size() - 1; i++) {
                 table.getPlayers().get(i).setHand(table.getPlayers().get(i + 1).getHand());
             }
             table.getPlayers().get(table.getPlayers().size() - 1).setHand(temp);
         } else {
-            ArrayList<Card> temp = table.getPlayers().get(table.getPlayers().size() - 1).getHand();
+            Hand temp = table.getPlayers().get(table.getPlayers().size() - 1).getHand();
             for (int i = table.getPlayers().size() - 1; i > 0; i--) {
                 table.getPlayers().get(i).setHand(table.getPlayers().get(i - 1).getHand());
             }
             table.getPlayers().get(0).setHand(temp);
         }
+        table.getRecorder().pass();
     }
 
     /**
-     * Determines if the specified card is a valid move.
+     * Determines if the specified card may be played, the rule from which the legality table of the mode is computed.
      *
-     * @param cardToPlay the card to be played
-     * @param table      the current state of the table
+     * @param cardToPlay     the card to be played
+     * @param top            the top card of the discard pile
+     * @param indicatedColor the color picked for a wild top card, or null
+     * @param stacked        true if draw cards are stacked, not used in this mode
      * @return true if the card is a valid move, false otherwise
      */
-    @Override
-    public boolean validMove(Card cardToPlay, Table table) {
-        Card.Color color = table.getCurrentCard().getColor();
-        Card.Value value = table.getCurrentCard().getValue();
-        Card.Color indicatedColor = table.getIndicatedColor();
-
+    private static boolean isLegal(Card cardToPlay, Card top, Card.Color indicatedColor, boolean stacked) {
+        Card.Color color = top.getColor();
+        Card.Value value = top.getValue();
         if (indicatedColor == null) {
             if (cardToPlay.getColor() == Card.Color.WILD && color == Card.Color.WILD) {
                 return false;
@@ -133,9 +138,7 @@ public class SevenZero extends PlayingMode {
                 return true;
             }
         } else {
-            if (indicatedColor.equals(cardToPlay.getColor())) {
-                return true;
-            }
+            return indicatedColor.equals(cardToPlay.getColor());
         }
         return false;
     }
@@ -168,8 +171,7 @@ public class SevenZero extends PlayingMode {
                 break;
             case DRAW_FOUR:
                 Card card = table.getCurrentCard();
-                table.setCurrentCard(table.getDeck().getPlayingCards().get(0));
-                table.getDeck().getPlayingCards().remove(0);
+                table.setCurrentCard(table.getDeck().draw());
                 table.getDeck().getPlayingCards().add(card);
                 table.getDeck().getUsedCards().add(table.getCurrentCard());
                 if (table.getCurrentCard().getColor() == Card.Color.WILD) {
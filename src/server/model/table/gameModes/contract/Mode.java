@@ -1,6 +1,7 @@
 package server.model.table.gameModes.contract;
 
 import server.model.card.Card;
+import server.model.player.Hand;
 import server.model.player.factory.Player;
 import server.model.table.Table;
 
@@ -12,6 +13,10 @@ public interface Mode {
 
     boolean validMove(Card cardToPlay, Table table);
 
+    long playableFaces(Table table);
+
+    int countPlayable(Hand hand, Table table);
+
     void adjustToFirstCard(Table table);
 
 
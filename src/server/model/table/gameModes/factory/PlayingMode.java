@@ -1,11 +1,164 @@
 package server.model.table.gameModes.factory;
 
+import server.model.card.Card;
+import server.model.player.Hand;
+import server.model.table.Table;
 import server.model.table.gameModes.contract.Mode;
 
-
+/**
+ * The base of the playing modes.
+ * <p>
+ * Each mode states its rule for playing a card once, as a {@link Rule}. From the rule a legality table is computed when
+ * the mode class is loaded: for every top card, indicated color and whether draw cards are stacked, the set of
+ * playable faces as a bitmask over the {@link Card#FACES} faces. validMove is then a table read and a bit test, and
+ * the playable cards of a hand are the AND of that mask with the faces in the hand.
+ */
 public abstract class PlayingMode implements Mode {
+    private static final int INDICATED = Card.Color.values().length + 1;
+
+    private final Rule RULE;
+    private final long[] LEGALITY;
     private int forwardCount = 0;
 
+    /**
+     * The rule of a mode: whether a card may be played on a top card.
+     */
+    @FunctionalInterface
+    protected interface Rule {
+        /**
+         * @param card      the card to be played
+         * @param top       the top card of the discard pile
+         * @param indicated the color picked for a wild top card, or null
+         * @param stacked   true if draw cards are stacked on the top card
+         * @return true if the card may be played
+         */
+        boolean isLegal(Card card, Card top, Card.Color indicated, boolean stacked);
+    }
+
+    //--------------------------CONSTRUCTOR--------------------------
+
+    /**
+     * @param rule      the rule of the mode
+     * @param legality  the table computed from the rule by {@link #legalityTable(Rule)}, shared by all games
+     */
+    protected PlayingMode(Rule rule, long[] legality) {
+        this.RULE = rule;
+        this.LEGALITY = legality;
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Computes the legality table of a rule, only called once per mode.
+     *
+     * @param rule the rule of the mode
+     * @return the playable faces for every top face, indicated color and stacking
+     */
+    protected static long[] legalityTable(Rule rule) {
+        long[] table = new long[Card.FACES * INDICATED * 2];
+        for (int top = 0; top < Card.FACES; top++) {
+            for (int indicated = 0; indicated < INDICATED; indicated++) {
+                Card.Color color = indicated == 0 ? null : Card.Color.values()[indicated - 1];
+                table[index(top, color, false)] = playableFaces(rule, Card.ofFace(top), color, false);
+                table[index(top, color, true)] = playableFaces(rule, Card.ofFace(top), color, true);
+            }
+        }
+        return table;
+    }
+
+    private static long playableFaces(Rule rule, Card top, Card.Color indicated, boolean stacked) {
+        long faces = 0;
+        for (int face = 0; face < Card.FACES; face++) {
+            if (rule.isLegal(Card.ofFace(face), top, indicated, stacked)) {
+                faces |= 1L << face;
+            }
+        }
+        return faces;
+    }
+
+    private static int index(int top, Card.Color indicated, boolean stacked) {
+        return ((top * INDICATED + (indicated == null ? 0 : indicated.ordinal() + 1)) << 1) | (stacked ? 1 : 0);
+    }
+
+    /**
+     * Looks up the faces that may be played on the table, bit n is set if the card with face number n may be played.
+     *
+     * @param table the current state of the table
+     * @return the bitmask of playable faces
+     */
+    @Override
+    public long playableFaces(Table table) {
+        Card top = table.getCurrentCard();
+        boolean stacked = forwardCount > 0;
+        if (top.getFace() < 0) {
+            return playableFaces(RULE, top, table.getIndicatedColor(), stacked);
+        }
+        return LEGALITY[index(top.getFace(), table.getIndicatedColor(), stacked)];
+    }
+
+    /**
+     * Looks up the faces that may be played on a top card, used by searches that play on without a table.
+     *
+     * @param topFace   the face number of the top card
+     * @param indicated the color picked for a wild top card, or null
+     * @param stacked   true if draw cards are stacked on the top card
+     * @return the bitmask of playable faces
+     */
+    public long playableFaces(int topFace, Card.Color indicated, boolean stacked) {
+        return LEGALITY[index(topFace, indicated, stacked)];
+    }
+
+    /**
+     * Determines if the specified card is a valid move.
+     *
+     * @param cardToPlay the card to be played
+     * @param table      the current state of the table
+     * @return true if the card is a valid move, false otherwise
+     */
+    @Override
+    public boolean validMove(Card cardToPlay, Table table) {
+        return validMove(cardToPlay, playableFaces(table), table);
+    }
+
+    /**
+     * Determines if the specified card is a valid move, with the playable faces already looked up.
+     *
+     * @param cardToPlay the card to be played
+     * @param playable   the result of {@link #playableFaces(Table)} for the table
+     * @param table      the current state of the table
+     * @return true if the card is a valid move, false otherwise
+     */
+    public boolean validMove(Card cardToPlay, long playable, Table table) {
+        int face = cardToPlay.getFace();
+        if (face >= 0) {
+            return (playable >>> face & 1) != 0;
+        }
+        return RULE.isLegal(cardToPlay, table.getCurrentCard(), table.getIndicatedColor(), forwardCount > 0);
+    }
+
+    /**
+     * Counts the cards of a hand that are a valid move by an AND of the playable faces with the faces of the hand.
+     *
+     * @param hand  the hand
+     * @param table the current state of the table
+     * @return the amount of cards in the hand for which validMove is true
+     */
+    @Override
+    public int countPlayable(Hand hand, Table table) {
+        long playable = playableFaces(table);
+        int count = hand.countFaces(playable);
+        if (hand.countNonDeckCards() > 0) {
+            for (Card card : hand) {
+                if (card.getFace() < 0 && validMove(card, playable, table)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    //--------------------------GETTERS & SETTERS--------------------------
+
     public int getForwardCount() {
         return forwardCount;
     }
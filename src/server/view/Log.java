@@ -0,0 +1,164 @@
+package server.view;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Leveled, asynchronous log of the server.
+ * <p>
+ * Callers only put a record in a bounded queue; a single daemon thread formats the records and writes them to the
+ * console, so game and handler threads never wait for the console. If the queue is full, records are dropped and the
+ * number of dropped records is reported with the next record that gets through.
+ * The TRACE level logs every protocol message and is disabled by default, hot paths check
+ * {@link #isEnabled(Level)} before building a message so a disabled level costs a single volatile read.
+ * The level is set with the system property {@code uno.log}, e.g. {@code -Duno.log=trace}.
+ */
+public final class Log {
+    public enum Level {
+        TRACE, DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    private static final int CAPACITY = 65536;
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final BlockingQueue<Record> QUEUE = new ArrayBlockingQueue<>(CAPACITY);
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final PrintStream OUT = System.out;
+    private static volatile Level level = parse(System.getProperty("uno.log"), Level.INFO);
+
+    static {
+        Thread writer = new Thread(Log::write, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::flush, "log-flush"));
+    }
+
+    private Log() {
+    }
+
+    //--------------------------METHODS--------------------------
+
+    /**
+     * Parses the name of a level, ignoring case.
+     *
+     * @param name     the name, may be null
+     * @param fallback the level used if the name is no level
+     * @return the level
+     */
+    public static Level parse(String name, Level fallback) {
+        if (name != null) {
+            for (Level l : Level.values()) {
+                if (l.name().equalsIgnoreCase(name)) {
+                    return l;
+                }
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Determines if records of the given level are logged.
+     *
+     * @param l the level
+     * @return true if the level is enabled
+     */
+    public static boolean isEnabled(Level l) {
+        return l.compareTo(level) >= 0 && l != Level.OFF;
+    }
+
+    public static void trace(String message) {
+        log(Level.TRACE, message);
+    }
+
+    public static void debug(String message) {
+        log(Level.DEBUG, message);
+    }
+
+    public static void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    public static void warn(String message) {
+        log(Level.WARN, message);
+    }
+
+    public static void error(String message) {
+        log(Level.ERROR, message);
+    }
+
+    /**
+     * Queues a record if its level is enabled, never blocks.
+     *
+     * @param l       the level of the record
+     * @param message the message
+     */
+    public static void log(Level l, String message) {
+        if (!isEnabled(l)) {
+            return;
+        }
+        if (!QUEUE.offer(new Record(l, message, Thread.currentThread().getName(), System.currentTimeMillis()))) {
+            DROPPED.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until the queued records are written, used before the program exits.
+     */
+    public static void flush() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!QUEUE.isEmpty() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void write() {
+        while (true) {
+            try {
+                Record record = QUEUE.take();
+                long dropped = DROPPED.getAndSet(0);
+                if (dropped > 0) {
+                    OUT.println(TIME.format(Instant.now()) + " WARN  [log-writer] " + dropped + " log records were dropped");
+                }
+                OUT.println(record.format());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    //--------------------------GETTERS & SETTERS--------------------------
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    public static void setLevel(Level l) {
+        level = l;
+    }
+
+    /**
+     * A log record, formatted on the writer thread.
+     */
+    private static final class Record {
+        private final Level LEVEL;
+        private final String MESSAGE;
+        private final String THREAD;
+        private final long TIMESTAMP;
+
+        Record(Level level, String message, String thread, long timestamp) {
+            this.LEVEL = level;
+            this.MESSAGE = message;
+            this.THREAD = thread;
+            this.TIMESTAMP = timestamp;
+        }
+
+        String format() {
+            return TIME.format(Instant.ofEpochMilli(TIMESTAMP)) + " " + String.format("%-5s", LEVEL) + " [" + THREAD + "] " + MESSAGE;
+        }
+    }
+}
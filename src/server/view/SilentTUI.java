@@ -0,0 +1,74 @@
+package server.view;
+
+import server.model.card.Card;
+import server.model.player.factory.Player;
+
+/**
+ * A TUI that prints nothing, used for games nobody watches such as simulations between computer players.
+ * Only the output methods are silenced; the methods that ask for input must not be called on it.
+ */
+public class SilentTUI extends TUI {
+    @Override
+    public void announceWinner(String winner) {
+    }
+
+    @Override
+    public void findDealerPrinter(String playerName, String card) {
+    }
+
+    @Override
+    public void findDealerPrinter(String playerName) {
+    }
+
+    @Override
+    public void findDealerPrinter() {
+    }
+
+    @Override
+    public void announceStarter(String playerName) {
+    }
+
+    @Override
+    public void printInvalidInput() {
+    }
+
+    @Override
+    public void noUno() {
+    }
+
+    @Override
+    public void printChallenge(boolean b) {
+    }
+
+    @Override
+    public void printCardAdded(String playerName) {
+    }
+
+    @Override
+    public void printScoreboard(Player pl) {
+    }
+
+    @Override
+    public void printCustomMessage(String message) {
+    }
+
+    @Override
+    public void printMove(String playerName) {
+    }
+
+    @Override
+    public void printHand(Player player) {
+    }
+
+    @Override
+    public void printCurrentCard(Card card) {
+    }
+
+    @Override
+    public void printPlayerSkipped(String playername) {
+    }
+
+    @Override
+    public void printPlayerColorPick(String playername) {
+    }
+}
@@ -0,0 +1,147 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import server.controller.Server;
+import server.controller.contract.BinaryCodec;
+import server.controller.contract.ProtocolTokenizer;
+import server.controller.network.NetworkEngine;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryCodecTest {
+    private static final String BGI = "BGI|RED 7|RED 7;BLUE SKIP;WILD PICK;GREEN DRAW_2;YELLOW 0;|alice:5:0;bot1:7:120;bot2:1:0;|true";
+
+    /**
+     * tests that every kind of line decodes to exactly the text it was encoded from.
+     */
+    @Test
+    public void testRoundTrip() {
+        String[] lines = {BGI, "", "DC", "PC|RED 7", "MH|alice|human_player|delta,binary", "BGD||RED 7;||bob:6:0;|false",
+                "SM|hello|world", "XYZ|1|2", "PC|", "||", "BGI|RED 7|RED 7;PURPLE 3;|alice:07:0;|true",
+                "BM|alice:héllo ✓", "LOL|main:1;other:3;", "GE|alice", "RP|10"};
+        for (String line : lines) {
+            byte[] frame = BinaryCodec.encode(line);
+            assertEquals(BinaryCodec.MARKER, frame[0] & 0xFF);
+            int header = frame[1] < 0 ? 3 : 2;
+            assertEquals(line, BinaryCodec.decode(frame, header, frame.length - header), line);
+        }
+    }
+
+    /**
+     * tests that a frame decoded into a tokenizer has the same fields as its text line, trailing empty fields
+     * dropped, also when the tokenizer held a longer line before.
+     */
+    @Test
+    public void testDecodeIntoTokenizer() {
+        ProtocolTokenizer decoded = new ProtocolTokenizer();
+        for (String line : new String[]{BGI, "PC|RED 7", "BGD||RED 7;||bob:6:0;|false", "PC|", "||", "", "XYZ|1|2"}) {
+            byte[] frame = BinaryCodec.encode(line);
+            int header = frame[1] < 0 ? 3 : 2;
+            BinaryCodec.decode(frame, header, frame.length - header, decoded);
+            ProtocolTokenizer expected = new ProtocolTokenizer().reset(line);
+            assertEquals(line, decoded.getLine().toString());
+            assertEquals(expected.size(), decoded.size(), line);
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), decoded.get(i), line);
+            }
+        }
+    }
+
+    /**
+     * tests that a line too long for a frame is sent as a text line, which a reader of a binary stream still reads.
+     */
+    @Test
+    public void testLongLineIsSentAsText() throws IOException {
+        String chat = "BM|alice:" + "x".repeat(BinaryCodec.MAX_PAYLOAD);
+        assertThrows(IllegalArgumentException.class, () -> BinaryCodec.encode(chat));
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.write(BinaryCodec.frameOrLine(chat));
+        stream.write(BinaryCodec.frameOrLine("GE|alice"));
+        InputStream in = new ByteArrayInputStream(stream.toByteArray());
+        assertNotEquals(BinaryCodec.MARKER, stream.toByteArray()[0] & 0xFF);
+        assertEquals(chat, BinaryCodec.read(in));
+        assertEquals("GE|alice", BinaryCodec.read(in));
+    }
+
+    /**
+     * tests that the game information of a turn takes less than half of the bytes of its text line.
+     */
+    @Test
+    public void testFrameIsSmaller() {
+        int text = (BGI + "\n").getBytes(StandardCharsets.UTF_8).length;
+        assertTrue(BinaryCodec.encode(BGI).length * 2 < text);
+    }
+
+    /**
+     * tests that a stream with text lines and frames mixed is read message by message.
+     */
+    @Test
+    public void testReadMixedStream() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.write("AH|binary\r\n".getBytes(StandardCharsets.UTF_8));
+        stream.write(BinaryCodec.encode(BGI));
+        stream.write("ERR|E001\n".getBytes(StandardCharsets.UTF_8));
+        stream.write(BinaryCodec.encode("GE|alice"));
+        InputStream in = new ByteArrayInputStream(stream.toByteArray());
+        assertEquals("AH|binary", BinaryCodec.read(in));
+        assertEquals(BGI, BinaryCodec.read(in));
+        assertEquals("ERR|E001", BinaryCodec.read(in));
+        assertEquals("GE|alice", BinaryCodec.read(in));
+        assertNull(BinaryCodec.read(in));
+    }
+
+    /**
+     * tests the negotiation with a running server: the answer to the handshake is text, everything after it is a frame,
+     * and the server understands frames sent by the client.
+     */
+    @Test
+    public void testNegotiatedConnection() throws IOException, InterruptedException {
+        int port;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            port = probe.getLocalPort();
+        }
+        Thread engine = new Thread(new NetworkEngine(port, new Server(), Executors.newCachedThreadPool(), 1));
+        engine.setDaemon(true);
+        engine.start();
+        Socket client = null;
+        for (int attempt = 0; client == null; attempt++) {
+            try {
+                client = new Socket("localhost", port);
+            } catch (IOException e) {
+                if (attempt == 50) {
+                    throw e;
+                }
+                Thread.sleep(20);
+            }
+        }
+        try (Socket socket = client) {
+            socket.setSoTimeout(5000);
+            OutputStream out = socket.getOutputStream();
+            BufferedInputStream in = new BufferedInputStream(socket.getInputStream());
+            out.write("MH|carol|human_player|binary\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            assertEquals("AH|binary", BinaryCodec.read(in));
+            out.write(BinaryCodec.encode("LOL"));
+            out.flush();
+            in.mark(1);
+            assertEquals(BinaryCodec.MARKER, in.read());
+            in.reset();
+            assertTrue(BinaryCodec.read(in).startsWith("LOL|main:"));
+            out.write(BinaryCodec.encode("XX"));
+            out.flush();
+            String error = BinaryCodec.read(in);
+            assertTrue(error.startsWith("Protocol violated"), error);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import server.controller.BotPool;
+import server.controller.GameState;
+import server.controller.TableScheduler;
+import server.controller.UNO;
+import server.model.player.ComputerPlayer;
+import server.model.player.factory.Player;
+import server.model.player.strategy.HeuristicStrategy;
+import server.model.player.strategy.MonteCarloStrategy;
+import server.model.table.gameModes.Normal;
+import server.view.SilentTUI;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BotPoolTest {
+
+    /**
+     * tests that a decision that misses its deadline is answered by the fallback, that the busy strategy and a full
+     * queue get the fallback right away, and that a decision in time is answered by the strategy.
+     */
+    @Test
+    public void testFallbackOnDeadline() throws InterruptedException {
+        BotPool pool = new BotPool(1, 1, 20);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean slow = new AtomicBoolean();
+        long start = System.nanoTime();
+        assertEquals("greedy", pool.decide(slow, () -> {
+            await(release);
+            return "searched";
+        }, () -> "greedy", TimeUnit.MILLISECONDS.toNanos(10)));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertTrue(slow.get());
+
+        assertEquals("greedy", pool.decide(slow, () -> "searched", () -> "greedy", 0));
+        assertEquals("greedy", pool.decide(new AtomicBoolean(), () -> "searched", () -> "greedy", 0));
+        assertEquals(3, pool.getFallbacks());
+
+        release.countDown();
+        while (slow.get()) {
+            Thread.sleep(1);
+        }
+        assertEquals("searched", pool.decide(slow, () -> "searched", () -> "greedy", TimeUnit.SECONDS.toNanos(5)));
+        assertEquals(4, pool.getDecisions());
+        assertEquals(3, pool.getFallbacks());
+        pool.shutdown();
+    }
+
+    /**
+     * tests that an event driven game of searching computer players runs to its end with every choice between cards
+     * made on the bot pool, never on the scheduler thread, from a position taken on the scheduler thread.
+     */
+    @Test
+    public void testEventDrivenGameThinksOnPool() throws Exception {
+        BotPool pool = new BotPool(2, 16, 200);
+        TableScheduler scheduler = new TableScheduler();
+        scheduler.start();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        Set<String> prepared = ConcurrentHashMap.newKeySet();
+        ArrayList<Player> players = new ArrayList<>();
+        players.add(new ComputerPlayer("mc", new MonteCarloStrategy(2, TimeUnit.MILLISECONDS, 200, 2, pool.getExecutor()) {
+            @Override
+            public Supplier<Integer> prepareMove(ComputerPlayer player, List<Integer> validMoves) {
+                prepared.add(Thread.currentThread().getName());
+                Supplier<Integer> move = super.prepareMove(player, validMoves);
+                if (validMoves.size() == 1) {
+                    return move;
+                }
+                return () -> {
+                    threads.add(Thread.currentThread().getName());
+                    return move.get();
+                };
+            }
+        }));
+        players.add(new ComputerPlayer("heuristic", new HeuristicStrategy()));
+        players.add(new ComputerPlayer("greedy"));
+        UNO uno = new UNO(new SplittableRandom(23), new SilentTUI());
+        uno.setTurnLimit(300);
+        uno.enableBotPool(pool, scheduler::submit);
+        scheduler.submit(() -> uno.startEventDriven(players, new Normal()));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        GameState state;
+        do {
+            Thread.sleep(10);
+            CompletableFuture<GameState> read = new CompletableFuture<>();
+            scheduler.submit(() -> read.complete(uno.getState()));
+            state = read.get(5, TimeUnit.SECONDS);
+        } while (state != GameState.GAME_OVER && System.nanoTime() < deadline);
+
+        assertEquals(GameState.GAME_OVER, state);
+        assertTrue(pool.getDecisions() > 0);
+        assertFalse(threads.isEmpty());
+        assertFalse(threads.contains("table-scheduler"));
+        assertEquals(Set.of("table-scheduler"), prepared);
+        pool.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package test;
+import org.junit.jupiter.api.Test;
+import server.model.card.Card;
+import server.model.deck.Deck;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CardTest {
+    /**
+     * tests that every card survives encoding and decoding and that the wire text maps back to the same instance.
+     */
+    @Test
+    public void testEncodeDecode() {
+        for (Card.Color color : Card.Color.values()) {
+            for (Card.Value value : Card.Value.values()) {
+                Card card = Card.of(color, value);
+                assertSame(card, Card.decode(card.getCode()));
+                assertSame(card, Card.fromWire(card.toString()));
+                assertEquals(color, card.getColor());
+                assertEquals(value, card.getValue());
+            }
+        }
+        assertEquals("RED 7", Card.of(Card.Color.RED, Card.Value.SEVEN).toString());
+        assertNull(Card.fromWire("PURPLE 7"));
+    }
+
+    /**
+     * tests that a deck only holds the shared flyweight cards and that separately created cards are equal to them.
+     */
+    @Test
+    public void testDeckUsesFlyweights() {
+        Deck deck = new Deck();
+        for (Card card : deck.getPlayingCards()) {
+            assertSame(Card.of(card.getColor(), card.getValue()), card);
+        }
+        Card created = new Card(Card.Color.BLUE, Card.Value.SKIP);
+        assertEquals(Card.of(Card.Color.BLUE, Card.Value.SKIP), created);
+        assertEquals(Card.of(Card.Color.BLUE, Card.Value.SKIP).hashCode(), created.hashCode());
+    }
+
+    /**
+     * tests that the 54 faces of a deck are numbered densely and uniquely, and that colors and values no deck holds
+     * have no face number.
+     */
+    @Test
+    public void testFaces() {
+        boolean[] seen = new boolean[Card.FACES];
+        for (Card.Color color : Card.Color.values()) {
+            for (Card.Value value : Card.Value.values()) {
+                Card card = Card.of(color, value);
+                boolean wildValue = value == Card.Value.DRAW_FOUR || value == Card.Value.PICK_COLOR;
+                if (wildValue != (color == Card.Color.WILD)) {
+                    assertEquals(-1, card.getFace());
+                    continue;
+                }
+                assertFalse(seen[card.getFace()]);
+                seen[card.getFace()] = true;
+                assertSame(card, Card.ofFace(card.getFace()));
+            }
+        }
+        for (boolean s : seen) {
+            assertTrue(s);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package test;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import server.controller.Server;
+import server.controller.ServerHandler;
+import server.controller.network.Connection;
+import server.controller.network.NetworkEngine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConnectionBatchTest {
+    private Server server;
+    private Socket client;
+    private BufferedReader in;
+    private ServerHandler handler;
+
+    /**
+     * starts a network engine on a free port and connects a client that completed the handshake.
+     */
+    @BeforeEach
+    public void setUp() throws IOException, InterruptedException {
+        int port;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            port = probe.getLocalPort();
+        }
+        server = new Server();
+        Thread engine = new Thread(new NetworkEngine(port, server, Executors.newCachedThreadPool(), 1));
+        engine.setDaemon(true);
+        engine.start();
+        for (int attempt = 0; client == null; attempt++) {
+            try {
+                client = new Socket("localhost", port);
+            } catch (IOException e) {
+                if (attempt == 50) {
+                    throw e;
+                }
+                Thread.sleep(20);
+            }
+        }
+        client.setSoTimeout(5000);
+        in = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+        new PrintWriter(client.getOutputStream(), true).println("MH|alice|human_player");
+        assertEquals("AH", in.readLine());
+        handler = server.getHandlers().iterator().next();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        client.close();
+    }
+
+    /**
+     * tests that messages sent in a (nested) batch are held back until the outermost batch ends and then arrive
+     * complete and in order.
+     */
+    @Test
+    public void testBatchIsWrittenAtTheEnd() throws IOException, InterruptedException {
+        Connection.beginBatch();
+        try {
+            handler.sendMessage("BM|alice:one");
+            Connection.beginBatch();
+            try {
+                handler.sendMessage("BM|alice:two");
+            } finally {
+                Connection.endBatch();
+            }
+            handler.sendMessage("BM|alice:three");
+            Thread.sleep(100);
+            assertEquals(0, client.getInputStream().available());
+        } finally {
+            Connection.endBatch();
+        }
+        assertEquals("BM|alice:one", in.readLine());
+        assertEquals("BM|alice:two", in.readLine());
+        assertEquals("BM|alice:three", in.readLine());
+    }
+
+    /**
+     * tests that a batch that collects more than fits in one write is flushed early and nothing gets lost.
+     */
+    @Test
+    public void testLargeBatchIsFlushedEarly() throws IOException {
+        int messages = 5000;
+        Connection.beginBatch();
+        try {
+            for (int i = 0; i < messages; i++) {
+                handler.sendMessage("BM|alice:" + i);
+            }
+            assertEquals("BM|alice:0", in.readLine());
+        } finally {
+            Connection.endBatch();
+        }
+        for (int i = 1; i < messages; i++) {
+            assertEquals("BM|alice:" + i, in.readLine());
+        }
+    }
+
+    /**
+     * tests that messages outside of a batch are written right away.
+     */
+    @Test
+    public void testUnbatchedMessageIsWrittenImmediately() throws IOException {
+        handler.sendMessage("BM|alice:now");
+        assertEquals("BM|alice:now", in.readLine());
+    }
+}
@@ -2,9 +2,15 @@ package test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import server.model.card.Card;
+import server.model.deck.CardPile;
 import server.model.deck.Deck;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class DeckTest {
     /**
@@ -69,7 +75,6 @@ public class DeckTest {
 
     /**
      * tests the reshuffling method of the deck, the reshuffle method of the deck will only be called when there is no more cards on the drawing pile to draw from.
-     * The test was designed taking this into account, as when you reshuffle before the playingCards are 0, all remaining cards in the playingCards will be lost.
      * It also stores the size of the playingCards before looping through them, because inside the loop we remove from playingCards and would thereby change the size.
      */
     @Test
@@ -83,5 +88,60 @@ public class DeckTest {
         assertEquals(PLAYING_CARDS_AFTER_SHUFFLE, deck.getPlayingCards().size());
         assertEquals(USED_CARDS_AFTER_SHUFFLE, deck.getUsedCards().size());
     }
+    
+    /**
+     * tests that reshuffling before the drawing pile is empty keeps the remaining cards on top, in the same order,
+     * and that the top two cards of the discard pile stay where they are.
+     */
+    @Test
+    public void testReShuffleKeepsRemainingCards() {
+        for (int i = 0; i < 100; i++) {
+            deck.getUsedCards().add(deck.draw());
+        }
+        List<Card> remaining = new ArrayList<>(deck.getPlayingCards());
+        Card top = deck.getUsedCards().get(deck.getUsedCards().size() - 1);
+        Card second = deck.getUsedCards().get(deck.getUsedCards().size() - 2);
+        deck.reShuffle();
+        assertEquals(PLAYING_CARDS_AFTER_SHUFFLE, deck.getPlayingCards().size());
+        assertEquals(remaining, deck.getPlayingCards().subList(0, remaining.size()));
+        assertSame(second, deck.getUsedCards().get(0));
+        assertSame(top, deck.getUsedCards().get(1));
+    }
+
+    /**
+     * tests the circular pile: drawing from the top and adding to the bottom many times over keeps the order and size.
+     */
+    @Test
+    public void testCardPileWrapsAround() {
+        CardPile pile = deck.getPlayingCards();
+        List<Card> expected = new ArrayList<>(pile);
+        for (int i = 0; i < 1000; i++) {
+            Card c = pile.draw();
+            assertSame(expected.remove(0), c);
+            pile.add(c);
+            expected.add(c);
+        }
+        assertEquals(expected, pile);
+        pile.add(0, pile.remove(50));
+        expected.add(0, expected.remove(50));
+        assertEquals(expected, pile);
+    }
+
+    /**
+     * tests that decks created with equally seeded random sources are shuffled the same, also after reshuffling.
+     */
+    @Test
+    public void testSeededDecksAreReproducible() {
+        Deck a = new Deck(new SplittableRandom(42));
+        Deck b = new Deck(new SplittableRandom(42));
+        assertEquals(a.getPlayingCards(), b.getPlayingCards());
+        for (int i = 0; i < 108; i++) {
+            a.getUsedCards().add(a.draw());
+            b.getUsedCards().add(b.draw());
+        }
+        a.reShuffle();
+        b.reShuffle();
+        assertEquals(a.getPlayingCards(), b.getPlayingCards());
     }
+}
 
@@ -0,0 +1,73 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import server.controller.Server;
+import server.controller.UNO;
+import server.model.card.Card;
+import server.model.player.ComputerPlayer;
+import server.model.player.NetworkPlayer;
+import server.model.table.gameModes.Normal;
+import server.view.SilentTUI;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeltaBroadcastTest {
+    private Server server;
+
+    /**
+     * initializes the server the handlers register with.
+     */
+    @BeforeEach
+    public void setUp() {
+        server = new Server();
+    }
+
+    private static void seat(NetworkPlayer player) {
+        Tables.seat(new UNO(new SplittableRandom(3), new SilentTUI()), new Normal(), player, new ComputerPlayer("bot1"),
+                new ComputerPlayer("bot2"));
+    }
+
+    /**
+     * tests that the delta feature is accepted in the handshake and that only the first turn gets a full BGI,
+     * after which only the drawn card and the changed hand size are sent.
+     */
+    @Test
+    public void testDeltaAfterFirstSnapshot() {
+        RecordingHandler handler = new RecordingHandler(server);
+        handler.receiveMessage("MH|alice|human_player|delta");
+        assertEquals("AH|delta", handler.getSent().get(0));
+        NetworkPlayer alice = new NetworkPlayer("alice", handler);
+        seat(alice);
+
+        alice.broadcastTurn();
+        assertTrue(handler.last().startsWith("BGI|"));
+
+        alice.draw(1);
+        Card drawn = alice.getHand().get(alice.getHand().size() - 1);
+        alice.broadcastTurn();
+        assertEquals("BGD||" + drawn + ";||alice:8:0;|true", handler.last());
+
+        alice.broadcastTurn();
+        assertEquals("BGD|||||true", handler.last());
+    }
+
+    /**
+     * tests that clients on the current protocol keep getting full snapshots.
+     */
+    @Test
+    public void testLegacyClientGetsSnapshots() {
+        RecordingHandler handler = new RecordingHandler(server);
+        handler.receiveMessage("MH|bob|human_player");
+        assertEquals("AH", handler.getSent().get(0));
+        NetworkPlayer bob = new NetworkPlayer("bob", handler);
+        seat(bob);
+        bob.broadcastTurn();
+        bob.draw(1);
+        bob.broadcastTurn();
+        assertTrue(handler.last().startsWith("BGI|"));
+        assertTrue(handler.last().contains("bob:8:0;bot1:7:0;bot2:7:0;"));
+    }
+}
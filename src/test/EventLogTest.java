@@ -0,0 +1,132 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import server.controller.GameState;
+import server.controller.Simulator;
+import server.controller.UNO;
+import server.controller.events.EventLog;
+import server.controller.events.GameEvent;
+import server.controller.events.Replay;
+import server.model.player.ComputerPlayer;
+import server.model.player.factory.Player;
+import server.model.player.strategy.GreedyStrategy;
+import server.model.table.Table;
+import server.view.SilentTUI;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventLogTest {
+
+    /**
+     * tests that events are read back in the order they were appended, over several segments, and that events
+     * appended after closing the log are dropped.
+     */
+    @Test
+    public void testSegmentsRollOver(@TempDir Path directory) throws IOException {
+        EventLog log = new EventLog(directory, 1024, 4096, 10);
+        for (int i = 0; i < 600; i++) {
+            log.append(1 + i % 3, GameEvent.PLAY, new byte[]{(byte) i, (byte) (i >> 8)});
+        }
+        assertTrue(log.flush(5000));
+        log.close();
+        log.append(1, GameEvent.DRAW, new byte[2]);
+
+        assertTrue(log.getSegments().size() > 1);
+        assertEquals(log.getSegments(), EventLog.segments(directory));
+        List<GameEvent> events = new ArrayList<>();
+        for (Path segment : EventLog.segments(directory)) {
+            events.addAll(EventLog.read(segment));
+        }
+        assertEquals(600, events.size());
+        for (int i = 0; i < 600; i++) {
+            assertEquals(1 + i % 3, events.get(i).getGame());
+            assertEquals(GameEvent.PLAY, events.get(i).getType());
+            assertEquals((byte) i, events.get(i).getPayload()[0]);
+            assertEquals((byte) (i >> 8), events.get(i).getPayload()[1]);
+        }
+    }
+
+    /**
+     * tests that a log opened in a directory that holds the logs of earlier runs continues their game ids, so the
+     * replay keeps the games of different runs apart.
+     */
+    @Test
+    public void testGameIdsAreUniqueAcrossLogs(@TempDir Path directory) throws IOException, InterruptedException {
+        List<Integer> ids = new ArrayList<>();
+        for (int run = 0; run < 3; run++) {
+            EventLog log = new EventLog(directory, 1024, 64, 10);
+            for (int game = 0; game < 2; game++) {
+                int id = log.newGame();
+                ids.add(id);
+                log.append(id, GameEvent.GAME_OVER, new byte[]{-1});
+            }
+            assertTrue(log.flush(5000));
+            log.close();
+            Thread.sleep(2);
+        }
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), ids);
+        assertEquals(6, Replay.load(directory).size());
+    }
+
+    /**
+     * tests that the replay of a logged game rebuilds the table every player saw at the start of a turn, hands and
+     * piles in order, scores and winner included, in every mode.
+     */
+    @Test
+    public void testReplayRebuildsEveryTurn(@TempDir Path directory) throws IOException {
+        EventLog log = new EventLog(directory, 1 << 16, 1 << 16, 10);
+        List<Map<Integer, String>> seen = new ArrayList<>();
+        List<UNO> games = new ArrayList<>();
+        String[] modes = {"normal", "progressive", "sevenZero"};
+        for (int game = 0; game < 6; game++) {
+            UNO uno = new UNO(new SplittableRandom(game), new SilentTUI());
+            Map<Integer, String> tables = new HashMap<>();
+            ArrayList<Player> players = new ArrayList<>();
+            for (int seat = 0; seat < 3 + game % 2; seat++) {
+                players.add(new ComputerPlayer("bot" + seat, new GreedyStrategy() {
+                    @Override
+                    public int chooseMove(ComputerPlayer player, List<Integer> validMoves) {
+                        tables.putIfAbsent(uno.getTurnCount(), describe(player.getTable(), uno.getTurnCount()));
+                        return super.chooseMove(player, validMoves);
+                    }
+                }));
+            }
+            uno.setTurnLimit(2000);
+            uno.enableEventLog(log);
+            uno.startEventDriven(players, Simulator.modeFor(modes[game % 3]).get());
+            assertEquals(GameState.GAME_OVER, uno.getState());
+            tables.put(uno.getTurnCount(), describe(uno.getTable(), uno.getTurnCount()));
+            seen.add(tables);
+            games.add(uno);
+        }
+        assertTrue(log.flush(5000));
+        log.close();
+
+        Map<Integer, Replay> replays = Replay.load(directory);
+        assertEquals(6, replays.size());
+        int game = 0;
+        for (Replay replay : replays.values()) {
+            UNO uno = games.get(game);
+            assertEquals(modes[game % 3], replay.getMode());
+            assertEquals(uno.getTurnCount(), replay.getTurns());
+            assertEquals(uno.gameOver() == null ? null : uno.gameOver().getNickname(), replay.getWinner());
+            for (Map.Entry<Integer, String> table : seen.get(game).entrySet()) {
+                assertEquals(table.getValue(), describe(replay.tableAt(table.getKey()), table.getKey()));
+            }
+            game++;
+        }
+    }
+
+    private static String describe(Table table, int turn) {
+        return Replay.describe(table, turn) + table.getDeck().getPlayingCards() + table.getDeck().getUsedCards();
+    }
+}
@@ -0,0 +1,163 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import server.controller.ExecutionMode;
+import server.controller.UNO;
+import server.model.player.NetworkPlayer;
+import server.model.table.Table;
+import server.model.table.gameModes.Normal;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExecutionModeLoadTest {
+    /**
+     * Amount of games that are parked at the same time in the test case, small enough for any CI machine.
+     */
+    private final int GAMES = 2000;
+
+    /**
+     * Creates a game between two network players that is parked in the same place as a real game loop: the game
+     * thread waits in getTranslation() for the current player to make a move.
+     *
+     * @param id number of the game, used for unique nicknames
+     * @return the player the game loop waits for
+     */
+    private static NetworkPlayer blockedGame(int id) {
+        Table table = Tables.seat(new UNO(), new Normal(), new NetworkPlayer("a" + id, null),
+                new NetworkPlayer("b" + id, null));
+        return (NetworkPlayer) table.getCurrentPlayer();
+    }
+
+    /**
+     * Parks GAMES game loops on the executor of the given mode, then releases them all by making their move.
+     * Asserts that every loop was parked at the same time and received its own move.
+     *
+     * @return the thread each game loop ran on
+     */
+    private Set<Thread> parkAndRelease(ExecutionMode mode) throws InterruptedException {
+        ExecutorService executor = mode.createExecutor("load");
+        CountDownLatch parked = new CountDownLatch(GAMES);
+        CountDownLatch finished = new CountDownLatch(GAMES);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        AtomicInteger moves = new AtomicInteger();
+        ArrayList<NetworkPlayer> waiting = new ArrayList<>();
+        for (int i = 0; i < GAMES; i++) {
+            NetworkPlayer np = blockedGame(i);
+            waiting.add(np);
+            executor.execute(() -> {
+                threads.add(Thread.currentThread());
+                parked.countDown();
+                if (np.getTranslation().equals("draw " + np.getNickname())) {
+                    moves.incrementAndGet();
+                }
+                finished.countDown();
+            });
+        }
+        assertTrue(parked.await(30, TimeUnit.SECONDS));
+        for (NetworkPlayer np : waiting) {
+            np.setTranslation("draw " + np.getNickname());
+        }
+        assertTrue(finished.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(GAMES, moves.get());
+        assertEquals(GAMES, threads.size());
+        return threads;
+    }
+
+    /**
+     * @return true if the thread is a virtual thread, always false before Java 21
+     */
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * tests that GAMES blocked game loops are parked on as many platform threads of the load pool at the same time
+     * and all of them continue with their own move once it arrives.
+     */
+    @Test
+    public void testPlatformThreadsParkGames() throws InterruptedException {
+        for (Thread thread : parkAndRelease(ExecutionMode.PLATFORM)) {
+            assertFalse(isVirtual(thread));
+            assertTrue(thread.getName().startsWith("load-"));
+        }
+    }
+
+    /**
+     * tests the same for virtual threads: every game loop runs on its own virtual thread, on a JVM without virtual
+     * threads the mode falls back to the platform threads of the load pool.
+     */
+    @Test
+    public void testVirtualThreadsParkGames() throws InterruptedException {
+        boolean supported = ExecutionMode.VIRTUAL.isSupported();
+        for (Thread thread : parkAndRelease(ExecutionMode.VIRTUAL)) {
+            assertEquals(supported, isVirtual(thread));
+            assertEquals(!supported, thread.getName().startsWith("load-"));
+        }
+    }
+
+    /**
+     * tests parsing of the startup argument of the server.
+     */
+    @Test
+    public void testFromArgument() {
+        assertEquals(ExecutionMode.VIRTUAL, ExecutionMode.fromArgument("virtual"));
+        assertEquals(ExecutionMode.PLATFORM, ExecutionMode.fromArgument("platform"));
+        assertEquals(ExecutionMode.PLATFORM, ExecutionMode.fromArgument(null));
+    }
+
+    /**
+     * Load test that shows how many concurrent blocked games fit in a fixed heap in one execution mode.
+     * Games are parked until the heap or the threads run out, or the limit is reached. Run it once per mode, e.g.
+     * {@code java -Xmx256m -cp <classpath> test.ExecutionModeLoadTest virtual 1000000}.
+     *
+     * @param args the execution mode ("platform" or "virtual") and optionally the maximum amount of games
+     */
+    public static void main(String[] args) {
+        ExecutionMode mode = ExecutionMode.fromArgument(args.length > 0 ? args[0] : null);
+        int limit = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        ExecutorService executor = mode.createExecutor("load");
+        ArrayList<NetworkPlayer> waiting = new ArrayList<>();
+        Runtime runtime = Runtime.getRuntime();
+        String stop = "limit reached";
+        int games = 0;
+        try {
+            while (games < limit) {
+                NetworkPlayer np = blockedGame(games);
+                executor.execute(np::getTranslation);
+                waiting.add(np);
+                games++;
+                if (games % 10_000 == 0) {
+                    System.out.println(games + " games parked, heap used: " + (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024) + " MB");
+                }
+            }
+        } catch (OutOfMemoryError e) {
+            waiting.clear();
+            stop = "out of memory (" + e.getMessage() + ")";
+        }
+        System.gc();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        System.out.println("Mode: " + mode + (mode.isSupported() ? "" : " (not supported, fell back to platform threads)"));
+        System.out.println("Max heap: " + runtime.maxMemory() / (1024 * 1024) + " MB");
+        System.out.println("Concurrent blocked games: " + games + ", stopped because: " + stop);
+        if (games > 0 && !waiting.isEmpty()) {
+            System.out.println("Heap per game: " + used / games + " bytes");
+        }
+        System.exit(0);
+    }
+}
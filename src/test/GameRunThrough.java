@@ -7,6 +7,8 @@ import server.model.player.ComputerPlayer;
 import server.model.player.factory.Player;
 import server.model.table.Table;
 import server.model.table.gameModes.Normal;
+import server.model.table.gameModes.Progressive;
+import server.model.table.gameModes.SevenZero;
 
 
 import java.util.ArrayList;
@@ -45,8 +47,8 @@ public class GameRunThrough {
      */
     @Test
     public void testCPRunThroughNormal() {
-        table = new Table(players, new Normal());
         uno = new UNO();
+        table = new Table(players, new Normal(), uno);
         uno.setPlayers(players);
         uno.setTable(table);
         for (Player player: players) {
@@ -64,8 +66,8 @@ public class GameRunThrough {
      */
     @Test
     public void testCPRunThroughProgressive() {
-        table = new Table(players, new Progressive());
         uno = new UNO();
+        table = new Table(players, new Progressive(), uno);
         uno.setPlayers(players);
         uno.setTable(table);
         for (Player player: players) {
@@ -82,8 +84,8 @@ public class GameRunThrough {
      */
     @Test
     public void testCPRunThroughSevenZero() {
-        table = new Table(players, new SevenZero());
         uno = new UNO();
+        table = new Table(players, new SevenZero(), uno);
         uno.setPlayers(players);
         uno.setTable(table);
         for (Player player: players) {
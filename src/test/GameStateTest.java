@@ -0,0 +1,153 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import server.controller.ExecutionMode;
+import server.controller.GameState;
+import server.controller.Server;
+import server.controller.ServerHandler;
+import server.controller.UNO;
+import server.model.player.ComputerPlayer;
+import server.model.player.factory.Player;
+import server.model.table.gameModes.Normal;
+import server.model.table.gameModes.SevenZero;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameStateTest {
+    /**
+     * test variables
+     */
+    private ArrayList<Player> players;
+    private UNO uno;
+
+    /**
+     * initializes three computer players and an UNO object that will be driven by events instead of play().
+     */
+    @BeforeEach
+    public void setUp() {
+        players = new ArrayList<>();
+        players.add(new ComputerPlayer("Kyrie"));
+        players.add(new ComputerPlayer("Lebron"));
+        players.add(new ComputerPlayer("Luca"));
+        uno = new UNO();
+    }
+
+    /**
+     * tests that an event driven game between computer players needs no events at all: every bot moves as soon as its
+     * turn begins, so starting the game plays it to the end without a game thread.
+     */
+    @Test
+    public void testComputerGameRunsToGameOver() {
+        uno.startEventDriven(players, new Normal());
+        assertEquals(GameState.GAME_OVER, uno.getState());
+        assertNotNull(uno.gameOver());
+    }
+
+    /**
+     * tests the same for sevenZero, where sevens and zeros swap hands in the middle of a move.
+     */
+    @Test
+    public void testComputerSevenZeroGameRunsToGameOver() {
+        uno.startEventDriven(players, new SevenZero());
+        assertEquals(GameState.GAME_OVER, uno.getState());
+        assertNotNull(uno.gameOver());
+    }
+
+    /**
+     * tests that events are rejected when the game does not wait for them: moves after the game is over and prompt
+     * answers that were never asked for.
+     */
+    @Test
+    public void testEventsOutOfStateAreRejected() {
+        uno.startEventDriven(players, new Normal());
+        assertFalse(uno.onMove(players.get(0), "draw"));
+        assertFalse(uno.onColorChosen(players.get(0), "RED"));
+        assertFalse(uno.onSevenChoice(players.get(0), "Luca"));
+        assertFalse(uno.onRetainDecision(players.get(0), true));
+    }
+
+    /**
+     * tests that two games between the same bots with equally seeded random sources are played exactly the same.
+     */
+    @Test
+    public void testSeededGamesAreReproducible() {
+        assertEquals(playSeeded(7), playSeeded(7));
+    }
+
+    /**
+     * tests that network players can leave an event driven game: when the current player leaves, the next player gets
+     * the turn and their move is accepted, and when one player is left the game is over and they win.
+     */
+    @Test
+    public void testPlayerLeavesMidGame() throws Exception {
+        Server server = new Server(ExecutionMode.PLATFORM, true);
+        server.getScheduler().start();
+        Map<String, ServerHandler> handlers = new HashMap<>();
+        for (String name : new String[]{"alice", "bob", "carol"}) {
+            RecordingHandler handler = new RecordingHandler(server);
+            handler.joinMain(name);
+            handlers.put(name, handler);
+        }
+        handlers.get("alice").receiveMessage("SG|normal");
+        UNO game = server.getMainLobby().getGame();
+        Player leaver = onScheduler(server, () -> game.getTable().getCurrentPlayer());
+        Player next = onScheduler(server, () -> game.getTable().getNextPlayer());
+
+        handlers.get(leaver.getNickname()).receiveMessage("LG");
+        assertEquals(next, onScheduler(server, () -> game.getTable().getCurrentPlayer()));
+        assertEquals(2, onScheduler(server, () -> game.getTable().getPlayers().size()));
+        assertTrue(onScheduler(server, () -> game.onMove(next, "draw")));
+        if (onScheduler(server, game::getState) == GameState.AWAITING_RETAIN_DECISION) {
+            assertTrue(onScheduler(server, () -> game.onRetainDecision(next, false)));
+        }
+        assertEquals(1, onScheduler(server, game::getTurnCount));
+
+        Player other = onScheduler(server, () -> game.getTable().getCurrentPlayer());
+        assertNotEquals(next, other);
+        handlers.get(other.getNickname()).receiveMessage("LG");
+        assertEquals(GameState.GAME_OVER, onScheduler(server, game::getState));
+        assertEquals(next, onScheduler(server, game::gameOver));
+    }
+
+    /**
+     * Runs a task on the scheduler thread of the server and waits for its result.
+     */
+    private static <T> T onScheduler(Server server, Supplier<T> task) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        server.getScheduler().submit(() -> {
+            try {
+                result.complete(task.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    private static String playSeeded(long seed) {
+        ArrayList<Player> bots = new ArrayList<>();
+        bots.add(new ComputerPlayer("Kyrie"));
+        bots.add(new ComputerPlayer("Lebron"));
+        bots.add(new ComputerPlayer("Luca"));
+        UNO game = new UNO(new SplittableRandom(seed));
+        game.startEventDriven(bots, new Normal());
+        StringBuilder result = new StringBuilder(game.gameOver().getNickname());
+        for (Player p : bots) {
+            result.append(';').append(p.getNickname()).append(':').append(game.getTable().getScoreBoard().get(p));
+        }
+        return result.toString();
+    }
+}
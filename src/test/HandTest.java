@@ -0,0 +1,169 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import server.controller.UNO;
+import server.model.card.Card;
+import server.model.player.ComputerPlayer;
+import server.model.player.Hand;
+import server.model.player.NetworkPlayer;
+import server.model.player.factory.Player;
+import server.model.table.Table;
+import server.model.table.gameModes.Normal;
+import server.model.table.gameModes.Progressive;
+import server.model.table.gameModes.SevenZero;
+import server.model.table.gameModes.factory.PlayingMode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HandTest {
+    private static final Card RED_SEVEN = Card.of(Card.Color.RED, Card.Value.SEVEN);
+    private static final Card BLUE_SKIP = Card.of(Card.Color.BLUE, Card.Value.SKIP);
+    private static final Card WILD_PICK = Card.of(Card.Color.WILD, Card.Value.PICK_COLOR);
+
+    /**
+     * tests that the count per card follows every way of adding and removing cards, also through an iterator and
+     * with separately created cards that are equal to the flyweights.
+     */
+    @Test
+    public void testCountsFollowChanges() {
+        Hand hand = new Hand();
+        hand.add(RED_SEVEN);
+        hand.add(0, new Card(Card.Color.RED, Card.Value.SEVEN));
+        hand.add(BLUE_SKIP);
+        assertEquals(2, hand.count(RED_SEVEN));
+        assertEquals(1, hand.count(BLUE_SKIP));
+        assertFalse(hand.contains(WILD_PICK));
+        assertEquals(-1, hand.indexOf(WILD_PICK));
+        assertFalse(hand.remove(WILD_PICK));
+
+        assertTrue(hand.remove(RED_SEVEN));
+        assertEquals(1, hand.count(RED_SEVEN));
+        assertEquals(RED_SEVEN, hand.set(0, WILD_PICK));
+        assertEquals(0, hand.count(RED_SEVEN));
+        assertEquals(1, hand.count(WILD_PICK));
+
+        Iterator<Card> it = hand.iterator();
+        it.next();
+        it.remove();
+        assertEquals(0, hand.count(WILD_PICK));
+        hand.removeIf(c -> c.getColor() == Card.Color.BLUE);
+        assertEquals(0, hand.count(BLUE_SKIP));
+        assertTrue(hand.isEmpty());
+
+        ArrayList<Card> cards = new ArrayList<>();
+        cards.add(BLUE_SKIP);
+        cards.add(BLUE_SKIP);
+        hand.addAll(cards);
+        assertEquals(2, hand.count(BLUE_SKIP));
+        assertEquals(2, new Hand(cards).count(BLUE_SKIP));
+        hand.clear();
+        assertEquals(0, hand.count(BLUE_SKIP));
+    }
+
+    /**
+     * tests that only cards that came into the hand count as received after a failed follow, removing cards in bulk
+     * receives nothing.
+     */
+    @Test
+    public void testBulkRemovalReceivesNothing() {
+        Hand hand = new Hand();
+        hand.add(RED_SEVEN);
+        hand.add(BLUE_SKIP);
+        hand.add(WILD_PICK);
+        hand.failedToFollow(Card.Color.YELLOW);
+        assertEquals(0, hand.receivedSinceVoid(Card.Color.YELLOW));
+        hand.add(BLUE_SKIP);
+        hand.add(RED_SEVEN);
+        assertEquals(2, hand.receivedSinceVoid(Card.Color.YELLOW));
+
+        hand.removeIf(c -> c.getColor() == Card.Color.BLUE);
+        assertEquals(2, hand.receivedSinceVoid(Card.Color.YELLOW));
+        hand.removeAll(List.of(WILD_PICK));
+        hand.retainAll(List.of(RED_SEVEN));
+        hand.subList(0, 1).clear();
+        assertEquals(2, hand.receivedSinceVoid(Card.Color.YELLOW));
+        assertEquals(1, hand.count(RED_SEVEN));
+        assertEquals(-1, hand.receivedSinceVoid(Card.Color.RED));
+    }
+
+    /**
+     * tests that a player given a plain list gets a hand with counts, and that a network player resolves a played
+     * card to its index only if it is in the hand.
+     */
+    @Test
+    public void testPlayerResolvesCardsInHand() {
+        NetworkPlayer np = new NetworkPlayer("hand", null);
+        ArrayList<Card> cards = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            cards.add(Card.of(Card.Color.GREEN, Card.Value.values()[5 + i % 10]));
+        }
+        cards.add(RED_SEVEN);
+        np.setHand(cards);
+        assertEquals(1, np.getHand().count(RED_SEVEN));
+        assertEquals("30", np.resolveMove("RED 7"));
+        assertNull(np.resolveMove("BLUE SKIP"));
+        assertNull(np.resolveMove("NOT A CARD"));
+    }
+
+    /**
+     * tests that the counters of a hand answer color and value questions, and that the amount of playable cards they
+     * give equals the amount of cards validMove accepts, for random hands, top cards and indicated colors in every mode.
+     */
+    @Test
+    public void testCountPlayableMatchesValidMove() {
+        Hand hand = new Hand();
+        hand.add(RED_SEVEN);
+        hand.add(WILD_PICK);
+        assertTrue(hand.hasColor(Card.Color.RED));
+        assertFalse(hand.hasColor(Card.Color.BLUE));
+        assertTrue(hand.hasValue(Card.Value.SEVEN));
+        assertEquals(1, hand.count(Card.Color.WILD));
+        assertEquals(0, hand.count(Card.Value.SKIP));
+
+        SplittableRandom random = new SplittableRandom(18);
+        Card.Color[] colors = Card.Color.values();
+        Card.Value[] values = Card.Value.values();
+        for (PlayingMode mode : new PlayingMode[]{new Normal(), new Progressive(), new SevenZero()}) {
+            ArrayList<Player> players = new ArrayList<>();
+            players.add(new ComputerPlayer("a"));
+            players.add(new ComputerPlayer("b"));
+            Table table = new Table(players, mode, new UNO());
+            for (int round = 0; round < 2000; round++) {
+                hand.clear();
+                for (int i = random.nextInt(40); i > 0; i--) {
+                    hand.add(deckCard(random, colors, values));
+                }
+                table.setCurrentCard(deckCard(random, colors, values));
+                table.setIndicatedColor(table.getCurrentCard().getColor() == Card.Color.WILD && random.nextBoolean()
+                        ? colors[random.nextInt(4)] : null);
+                mode.setForwardCount(random.nextInt(4) == 0 ? 2 : 0);
+                int valid = 0;
+                for (Card card : hand) {
+                    if (mode.validMove(card, table)) {
+                        valid++;
+                    }
+                }
+                assertEquals(valid, mode.countPlayable(hand, table), mode.getClass().getSimpleName() + " on " + table.getCurrentCard() + " with " + hand);
+            }
+        }
+    }
+
+    /**
+     * Picks a random card that exists in a deck: wild cards only pick a color or draw four, colored cards never do.
+     */
+    private static Card deckCard(SplittableRandom random, Card.Color[] colors, Card.Value[] values) {
+        if (random.nextInt(9) == 0) {
+            return Card.of(Card.Color.WILD, random.nextBoolean() ? Card.Value.PICK_COLOR : Card.Value.DRAW_FOUR);
+        }
+        Card.Value value;
+        do {
+            value = values[random.nextInt(values.length)];
+        } while (value == Card.Value.PICK_COLOR || value == Card.Value.DRAW_FOUR);
+        return Card.of(colors[random.nextInt(4)], value);
+    }
+}
@@ -0,0 +1,42 @@
+package test;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import server.view.Log;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogTest {
+    /**
+     * restores the default level after each test.
+     */
+    @AfterEach
+    public void tearDown() {
+        Log.setLevel(Log.Level.INFO);
+    }
+
+    /**
+     * tests that trace is disabled by default and that a level enables itself and everything more severe.
+     */
+    @Test
+    public void testLevels() {
+        assertFalse(Log.isEnabled(Log.Level.TRACE));
+        assertTrue(Log.isEnabled(Log.Level.INFO));
+        Log.setLevel(Log.Level.TRACE);
+        assertTrue(Log.isEnabled(Log.Level.TRACE));
+        Log.setLevel(Log.Level.OFF);
+        assertFalse(Log.isEnabled(Log.Level.ERROR));
+        assertFalse(Log.isEnabled(Log.Level.OFF));
+    }
+
+    /**
+     * tests parsing of level names from the command line.
+     */
+    @Test
+    public void testParse() {
+        assertEquals(Log.Level.TRACE, Log.parse("trace", null));
+        assertEquals(Log.Level.WARN, Log.parse("WARN", null));
+        assertNull(Log.parse("virtual", null));
+        assertEquals(Log.Level.INFO, Log.parse(null, Log.Level.INFO));
+    }
+}
@@ -0,0 +1,120 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import server.controller.SimulationResult;
+import server.controller.Simulator;
+import server.controller.UNO;
+import server.model.card.Card;
+import server.model.player.ComputerPlayer;
+import server.model.player.factory.Player;
+import server.model.player.strategy.GreedyStrategy;
+import server.model.player.strategy.MonteCarloStrategy;
+import server.model.table.Table;
+import server.model.table.gameModes.Normal;
+import server.view.SilentTUI;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonteCarloStrategyTest {
+    private static final Card RED_SKIP = Card.of(Card.Color.RED, Card.Value.SKIP);
+    private static final Card RED_THREE = Card.of(Card.Color.RED, Card.Value.THREE);
+
+    /**
+     * Creates a two player table where the computer player is on turn with the given hand, against an opponent with one
+     * card left.
+     */
+    private static Table table(ComputerPlayer self, Card top, Card... hand) {
+        Player opponent = new ComputerPlayer("opponent");
+        Table table = Tables.seat(new UNO(new SplittableRandom(21), new SilentTUI()), new Normal(), self, opponent);
+        self.setHand(new ArrayList<>(Arrays.asList(hand)));
+        ArrayList<Card> last = new ArrayList<>();
+        last.add(Card.of(Card.Color.BLUE, Card.Value.NINE));
+        opponent.setHand(last);
+        table.setCurrentCard(top);
+        table.getDeck().getUsedCards().add(top);
+        table.setCurrentTurnIndex(0);
+        return table;
+    }
+
+    /**
+     * tests that the search finds the skip that wins the game on the spot, where the greedy engine plays the three and
+     * gives the opponent a chance to go out.
+     */
+    @Test
+    public void testFindsWinningSkip() {
+        MonteCarloStrategy strategy = new MonteCarloStrategy(5, TimeUnit.SECONDS, 2000, 1, Runnable::run);
+        ComputerPlayer self = new ComputerPlayer("self", strategy);
+        table(self, Card.of(Card.Color.RED, Card.Value.FIVE), RED_SKIP, RED_THREE);
+        ArrayList<Integer> moves = new ArrayList<>(Arrays.asList(0, 1));
+        assertEquals(1, new GreedyStrategy().chooseMove(self, moves));
+        assertEquals(0, strategy.chooseMove(self, moves));
+        assertEquals(2000, strategy.getLastPlayouts());
+    }
+
+    /**
+     * tests that a prepared search reads only the position it took, so it finds the winning skip even after the table
+     * changed, and that its budget runs from the moment it was prepared.
+     */
+    @Test
+    public void testPreparedSearchKeepsItsPosition() throws InterruptedException {
+        MonteCarloStrategy strategy = new MonteCarloStrategy(5, TimeUnit.SECONDS, 2000, 1, Runnable::run);
+        ComputerPlayer self = new ComputerPlayer("self", strategy);
+        Table table = table(self, Card.of(Card.Color.RED, Card.Value.FIVE), RED_SKIP, RED_THREE);
+        ArrayList<Integer> moves = new ArrayList<>(Arrays.asList(0, 1));
+        Supplier<Integer> move = strategy.prepareMove(self, moves);
+        table.getPlayers().get(1).getHand().addAll(table.getDeck().getPlayingCards().subList(0, 20));
+        self.getHand().clear();
+        table.getDeck().getPlayingCards().shuffle(new SplittableRandom(3));
+        assertEquals(0, move.get());
+        assertEquals(2000, strategy.getLastPlayouts());
+
+        MonteCarloStrategy quick = new MonteCarloStrategy(1, TimeUnit.MILLISECONDS, Integer.MAX_VALUE, 1, Runnable::run);
+        ComputerPlayer other = new ComputerPlayer("self", quick);
+        table(other, Card.of(Card.Color.RED, Card.Value.FIVE), RED_SKIP, RED_THREE);
+        Supplier<Integer> late = quick.prepareMove(other, moves);
+        Thread.sleep(5);
+        assertTrue(moves.contains(late.get()));
+        assertEquals(0, quick.getLastPlayouts());
+    }
+
+    /**
+     * tests that after a wild card the search picks the only color in the hand, also when helpers search along.
+     */
+    @Test
+    public void testPicksColorOfHand() {
+        MonteCarloStrategy strategy = new MonteCarloStrategy(5, TimeUnit.SECONDS, 4000, 4, ForkJoinPool.commonPool());
+        ComputerPlayer self = new ComputerPlayer("self", strategy);
+        table(self, Card.of(Card.Color.WILD, Card.Value.PICK_COLOR), Card.of(Card.Color.GREEN, Card.Value.TWO),
+                Card.of(Card.Color.GREEN, Card.Value.SIX), Card.of(Card.Color.GREEN, Card.Value.EIGHT));
+        assertEquals(Card.Color.GREEN, strategy.chooseColor(self));
+        assertEquals(4000, strategy.getLastPlayouts());
+    }
+
+    /**
+     * tests that a search stops at its time budget and that simulated games between searching and greedy computer
+     * players all end.
+     */
+    @Test
+    public void testBudgetAndFullGames() {
+        MonteCarloStrategy strategy = new MonteCarloStrategy(20, TimeUnit.MILLISECONDS, Integer.MAX_VALUE, 2, ForkJoinPool.commonPool());
+        ComputerPlayer self = new ComputerPlayer("self", strategy);
+        table(self, Card.of(Card.Color.RED, Card.Value.FIVE), RED_SKIP, RED_THREE);
+        long start = System.nanoTime();
+        strategy.chooseMove(self, new ArrayList<>(Arrays.asList(0, 1)));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+        assertTrue(strategy.getLastPlayouts() > 0);
+
+        Simulator simulator = new Simulator(2, Simulator.modeFor("normal"), seat -> seat == 0
+                ? new ComputerPlayer("mc", new MonteCarloStrategy(1, TimeUnit.SECONDS, 64, 1, Runnable::run))
+                : new ComputerPlayer("greedy"), 5000);
+        SimulationResult result = simulator.run(20, 5);
+        assertEquals(20, result.getWins(0) + result.getWins(1) + result.getUnfinished());
+    }
+}
@@ -0,0 +1,59 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import server.model.player.NetworkPlayer;
+
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoveMailboxTest {
+    /**
+     * tests that the mailbox holds one move at a time: a second offer is rejected until the move is taken, polling an
+     * empty mailbox returns null and empty moves are never offered.
+     */
+    @Test
+    public void testSingleSlot() {
+        NetworkPlayer np = new NetworkPlayer("mailbox", null);
+        assertNull(np.pollTranslation());
+        assertFalse(np.offerTranslation(""));
+        assertTrue(np.offerTranslation("draw"));
+        assertFalse(np.offerTranslation("skip"));
+        assertEquals("draw", np.getTranslation());
+        assertNull(np.pollTranslation());
+        assertTrue(np.offerTranslation("skip"));
+        np.resetTranslation();
+        assertNull(np.pollTranslation());
+    }
+
+    /**
+     * tests that several producers racing for the mailbox of one waiting consumer neither lose nor duplicate a move.
+     */
+    @Test
+    public void testNoMoveLostOrDuplicated() throws InterruptedException {
+        NetworkPlayer np = new NetworkPlayer("mailbox", null);
+        int producers = 4;
+        int moves = 5000;
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            Thread t = new Thread(() -> {
+                for (int i = 0; i < moves; i++) {
+                    np.setTranslation(id + " " + i);
+                }
+                done.countDown();
+            });
+            t.setDaemon(true);
+            t.start();
+        }
+        HashSet<String> received = new HashSet<>();
+        for (int i = 0; i < producers * moves; i++) {
+            assertTrue(received.add(np.getTranslation()));
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertNull(np.pollTranslation());
+        assertEquals(producers * moves, received.size());
+    }
+}
@@ -0,0 +1,130 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import server.controller.UNO;
+import server.model.card.Card;
+import server.model.deck.Deck;
+import server.model.player.ComputerPlayer;
+import server.model.player.Hand;
+import server.model.player.factory.Player;
+import server.model.player.strategy.OpponentModel;
+import server.model.table.Table;
+import server.model.table.gameModes.Normal;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OpponentModelTest {
+    /**
+     * test variables
+     */
+    private Table table;
+    private ArrayList<Player> players;
+    private ComputerPlayer bot;
+
+    /**
+     * initializes a table with three computer players, the first of which is on turn.
+     */
+    @BeforeEach
+    public void setUp() {
+        players = new ArrayList<>();
+        players.add(new ComputerPlayer("bot"));
+        players.add(new ComputerPlayer("next"));
+        players.add(new ComputerPlayer("last"));
+        table = new Table(players, new Normal(), new UNO(), new SplittableRandom(24));
+        for (Player player : players) {
+            player.setTable(table);
+        }
+        bot = (ComputerPlayer) players.get(0);
+    }
+
+    /**
+     * tests that the piles count the copies of every card they hold while cards are drawn, discarded and reshuffled,
+     * so that every copy of the deck is found exactly once among the piles and the hands.
+     */
+    @Test
+    public void testPilesCountTheirCards() {
+        Deck deck = table.getDeck();
+        for (int i = 0; i < 60; i++) {
+            deck.getUsedCards().add(deck.draw());
+        }
+        assertCountsMatchDeck(deck);
+        deck.reShuffle();
+        assertEquals(2, deck.getUsedCards().size());
+        assertCountsMatchDeck(deck);
+        deck.getUsedCards().clear();
+        assertEquals(0, deck.getUsedCards().count(Card.of(Card.Color.WILD, Card.Value.PICK_COLOR)));
+    }
+
+    private void assertCountsMatchDeck(Deck deck) {
+        for (int face = 0; face < Card.FACES; face++) {
+            Card card = Card.ofFace(face);
+            int found = deck.getPlayingCards().count(card) + deck.getUsedCards().count(card);
+            for (Player player : players) {
+                found += player.getHand().count(card);
+            }
+            assertEquals(card.getCopies(), found, card.toString());
+        }
+    }
+
+    /**
+     * tests that a hand remembers the color its holder failed to follow, counts the cards it got since, keeps that
+     * knowledge when it is swapped, and forgets it once a card of the color is played.
+     */
+    @Test
+    public void testHandRemembersVoids() {
+        Hand hand = players.get(1).getHand();
+        assertEquals(-1, hand.receivedSinceVoid(Card.Color.RED));
+        hand.failedToFollow(Card.Color.WILD);
+        hand.failedToFollow(Card.Color.RED);
+        assertEquals(0, hand.receivedSinceVoid(Card.Color.RED));
+        Card red = Card.of(Card.Color.RED, Card.Value.FIVE);
+        hand.add(red);
+        assertEquals(1, hand.receivedSinceVoid(Card.Color.RED));
+        assertEquals(-1, hand.receivedSinceVoid(Card.Color.BLUE));
+
+        players.get(1).swapHands(players.get(2));
+        assertEquals(1, players.get(2).getHand().receivedSinceVoid(Card.Color.RED));
+        assertEquals(-1, players.get(1).getHand().receivedSinceVoid(Card.Color.RED));
+
+        players.get(2).getHand().remove(red);
+        assertEquals(-1, players.get(2).getHand().receivedSinceVoid(Card.Color.RED));
+    }
+
+    /**
+     * tests that the model counts the cards it has not seen, rules out a color an opponent failed to follow, picks that
+     * color among equally held colors after a wild card, and swaps hands with the opponent closest to going out, or the
+     * one less likely to miss a color among those.
+     */
+    @Test
+    public void testModelUsesVoids() {
+        OpponentModel model = bot.getOpponentModel();
+        Card blueFive = Card.of(Card.Color.BLUE, Card.Value.FIVE);
+        bot.setHand(new ArrayList<>());
+        bot.getHand().add(blueFive);
+        bot.getHand().add(Card.of(Card.Color.BLUE, Card.Value.SIX));
+        bot.getHand().add(Card.of(Card.Color.GREEN, Card.Value.FIVE));
+        bot.getHand().add(Card.of(Card.Color.GREEN, Card.Value.SIX));
+        table.getDeck().getUsedCards().clear();
+        table.getDeck().getUsedCards().add(blueFive);
+        assertEquals(0, model.unseen(blueFive));
+        assertEquals(4, model.unseen(Card.of(Card.Color.WILD, Card.Value.PICK_COLOR)));
+        assertEquals(25 - 2 - 1, model.unseen(Card.Color.BLUE));
+
+        Player next = table.getNextPlayer();
+        assertSame(players.get(1), next);
+        assertTrue(model.holds(next, Card.Color.GREEN) > 0);
+        assertEquals(Card.Color.BLUE, model.chooseColor());
+        next.getHand().failedToFollow(Card.Color.GREEN);
+        assertEquals(0, model.holds(next, Card.Color.GREEN));
+        assertEquals(Card.Color.GREEN, model.chooseColor());
+
+        assertEquals(players.get(1).getHand().size(), players.get(2).getHand().size());
+        assertSame(players.get(2), model.chooseSwapTarget());
+        players.get(1).getHand().remove(0);
+        assertSame(players.get(1), model.chooseSwapTarget());
+    }
+}
@@ -0,0 +1,100 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import server.controller.ExecutionMode;
+import server.controller.GameState;
+import server.controller.Server;
+import server.controller.UNO;
+import server.model.card.Card;
+import server.model.player.ComputerPlayer;
+import server.model.player.NetworkPlayer;
+import server.model.player.factory.Player;
+import server.model.table.gameModes.Normal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PromptTimeoutTest {
+    private Server server;
+    private RecordingHandler handler;
+    private NetworkPlayer player;
+
+    /**
+     * Connects a handler to the main lobby and seats its player with two computer players.
+     *
+     * @param eventDriven true to run the game on the table scheduler
+     */
+    private void seat(boolean eventDriven) {
+        server = new Server(ExecutionMode.PLATFORM, eventDriven);
+        server.setPromptTimeout(100);
+        server.getScheduler().start();
+        handler = new RecordingHandler(server);
+        player = handler.joinMain("alice");
+        UNO uno = server.getMainLobby().getGame();
+        Player[] players = {player, new ComputerPlayer("bot1"), new ComputerPlayer("bot2")};
+        if (eventDriven) {
+            uno.startEventDriven(new ArrayList<>(Arrays.asList(players)), new Normal());
+            return;
+        }
+        Tables.seat(uno, new Normal(), players);
+    }
+
+    /**
+     * tests that a color prompt nobody answers ends after the timeout with the color the player holds most cards of.
+     */
+    @Test
+    public void testColorPromptTimesOut() {
+        seat(false);
+        Card.Color expected = player.cardColors();
+        long start = System.nanoTime();
+        handler.doAskColour();
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+        assertEquals(expected, player.getTable().getIndicatedColor());
+        assertTrue(handler.getSent().contains("BCC|" + expected));
+    }
+
+    /**
+     * tests that the answer of the client completes the prompt of a waiting game thread.
+     */
+    @Test
+    public void testColorPromptIsAnswered() throws InterruptedException {
+        seat(false);
+        server.setPromptTimeout(10_000);
+        Thread game = new Thread(handler::doAskColour);
+        game.start();
+        assertTrue(handler.waitFor("AC"));
+        handler.receiveMessage("CC|GREEN");
+        game.join(5000);
+        assertFalse(game.isAlive());
+        assertEquals(Card.Color.GREEN, player.getTable().getIndicatedColor());
+    }
+
+    /**
+     * tests that a seven swap prompt nobody answers swaps hands with the next player.
+     */
+    @Test
+    public void testSevenPromptTimesOut() {
+        seat(false);
+        Player next = player.getTable().getNextPlayer();
+        ArrayList<Card> ownHand = new ArrayList<>(player.getHand());
+        ArrayList<Card> nextHand = new ArrayList<>(next.getHand());
+        handler.doAskChoiceSeven();
+        assertEquals(nextHand, player.getHand());
+        assertEquals(ownHand, next.getHand());
+    }
+
+    /**
+     * tests that an event driven game that waits for a color is resumed by the timeout on the scheduler.
+     */
+    @Test
+    public void testEventDrivenColorPromptTimesOut() throws InterruptedException {
+        seat(true);
+        UNO uno = server.getMainLobby().getGame();
+        Card.Color expected = player.cardColors();
+        server.getScheduler().submit(handler::doAskColour);
+        assertTrue(handler.waitFor("BCC|" + expected));
+        assertNotEquals(GameState.AWAITING_COLOR, uno.getState());
+    }
+}
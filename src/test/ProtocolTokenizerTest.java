@@ -0,0 +1,51 @@
+package test;
+
+import client.controller.contract.ClientProtocol.ClientCommand;
+import org.junit.jupiter.api.Test;
+import server.controller.contract.ProtocolTokenizer;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProtocolTokenizerTest {
+    private final ProtocolTokenizer TOKENS = new ProtocolTokenizer();
+
+    /**
+     * tests that the fields are the same as the ones of the regular expression split the handlers used before,
+     * including empty fields in the middle and dropped trailing empty fields.
+     */
+    @Test
+    public void testSameFieldsAsSplit() {
+        String[] lines = {"", "DC", "PC|RED 7", "MH|alice|human_player|delta", "BGD||RED 7;||bob:6:0;|true",
+                "PC|", "|", "||", "|PC", "a||b||", "SM|hello|world|a|b|c|d|e|f|g|h"};
+        for (String line : lines) {
+            String[] expected = line.split("[|]");
+            TOKENS.reset(line);
+            assertEquals(expected.length, TOKENS.size(), line);
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], TOKENS.get(i), line);
+                assertTrue(TOKENS.is(i, expected[i]), line);
+            }
+            assertEquals(Arrays.toString(expected), TOKENS.toString());
+            assertThrows(IndexOutOfBoundsException.class, () -> TOKENS.get(expected.length));
+        }
+    }
+
+    /**
+     * tests matching the command and looking up an item in a comma separated field.
+     */
+    @Test
+    public void testMatchAndContains() {
+        ClientCommand[] commands = ClientCommand.values();
+        assertEquals(ClientCommand.PC, TOKENS.reset("PC|RED 7").match(commands));
+        assertEquals(ClientCommand.MC7, TOKENS.reset("MC7|bob").match(commands));
+        assertNull(TOKENS.reset("P|RED 7").match(commands));
+        assertNull(TOKENS.reset("PCX").match(commands));
+
+        assertTrue(TOKENS.reset("MH|alice|human_player|delta").contains(3, ',', "delta"));
+        assertTrue(TOKENS.reset("MH|alice|human_player|zip,delta").contains(3, ',', "delta"));
+        assertFalse(TOKENS.reset("MH|alice|human_player|deltas").contains(3, ',', "delta"));
+        assertFalse(TOKENS.reset("MH|alice|human_player").contains(3, ',', "delta"));
+    }
+}
@@ -0,0 +1,72 @@
+package test;
+
+import server.controller.Server;
+import server.controller.ServerHandler;
+import server.model.player.NetworkPlayer;
+import server.model.player.factory.Player;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A handler that keeps the sent messages instead of writing them to a connection, the messages may be sent from any
+ * thread.
+ */
+class RecordingHandler extends ServerHandler {
+    private final List<String> SENT = new CopyOnWriteArrayList<>();
+    private final Server SERVER;
+
+    RecordingHandler(Server server) {
+        super(null, server);
+        this.SERVER = server;
+    }
+
+    @Override
+    public void sendMessage(String message) {
+        SENT.add(message);
+    }
+
+    /**
+     * Connects a human player and joins the main lobby with it.
+     *
+     * @param nickname the nickname of the player
+     * @return the player of this handler
+     */
+    NetworkPlayer joinMain(String nickname) {
+        receiveMessage("MH|" + nickname + "|human_player");
+        receiveMessage("JL|main");
+        for (Player player : SERVER.getMainLobby().getPlayers()) {
+            if (player.getNickname().equals(nickname)) {
+                return (NetworkPlayer) player;
+            }
+        }
+        throw new IllegalStateException(nickname + " did not join the main lobby");
+    }
+
+    /**
+     * Waits up to two seconds for a message to be sent.
+     *
+     * @return true if the message was sent
+     */
+    boolean waitFor(String message) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            if (SENT.contains(message)) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    Server getServer() {
+        return SERVER;
+    }
+
+    List<String> getSent() {
+        return SENT;
+    }
+
+    String last() {
+        return SENT.get(SENT.size() - 1);
+    }
+}
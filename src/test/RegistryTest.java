@@ -0,0 +1,188 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import server.controller.ExecutionMode;
+import server.controller.Registry;
+import server.controller.Server;
+import server.model.Lobby;
+import server.model.player.ComputerPlayer;
+import server.model.player.NetworkPlayer;
+import server.model.player.factory.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegistryTest {
+    /**
+     * tests that a nickname can only be claimed once and is free again after the player is forgotten.
+     */
+    @Test
+    public void testClaimName() {
+        Registry registry = new Registry();
+        Player a = new ComputerPlayer("a");
+        assertTrue(registry.claimName(a));
+        assertFalse(registry.claimName(new ComputerPlayer("a")));
+        assertTrue(registry.isNameTaken("a"));
+        registry.forget(a);
+        assertFalse(registry.isNameTaken("a"));
+    }
+
+    /**
+     * tests that the lobby of a player is found after joining and forgotten after leaving.
+     */
+    @Test
+    public void testJoinAndLeave() {
+        Registry registry = new Registry();
+        Lobby lobby = new Lobby("l");
+        assertTrue(registry.addLobby(lobby));
+        assertFalse(registry.addLobby(new Lobby("l")));
+        Player a = new ComputerPlayer("a");
+        registry.join(a, lobby);
+        assertSame(lobby, registry.lobbyOf(a));
+        assertTrue(lobby.getPlayers().contains(a));
+        registry.leave(a);
+        assertNull(registry.lobbyOf(a));
+        assertFalse(lobby.getPlayers().contains(a));
+    }
+
+    /**
+     * tests that many threads can join the same lobby at once without losing players.
+     */
+    @Test
+    public void testConcurrentJoins() throws InterruptedException {
+        Registry registry = new Registry();
+        Lobby lobby = new Lobby("main");
+        registry.addLobby(lobby);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int id = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 250; i++) {
+                    Player p = new ComputerPlayer(id + "-" + i);
+                    assertTrue(registry.claimName(p));
+                    registry.join(p, lobby);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(2000, lobby.getPlayers().size());
+        assertSame(lobby, registry.lobbyOf(lobby.getPlayers().get(0)));
+    }
+
+    /**
+     * tests that a lobby never takes more players than its capacity, also when many threads join at the same time.
+     */
+    @Test
+    public void testJoinRespectsCapacity() throws InterruptedException {
+        Registry registry = new Registry();
+        Lobby lobby = new Lobby("main");
+        registry.addLobby(lobby);
+        AtomicInteger joined = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int id = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 50; i++) {
+                    if (registry.join(new ComputerPlayer(id + "-" + i), lobby, 10)) {
+                        joined.incrementAndGet();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(10, joined.get());
+        assertEquals(10, lobby.getPlayers().size());
+    }
+
+    /**
+     * tests that the nickname of a computer player is free again once it left its lobby, while a network player keeps
+     * its nickname until it is forgotten.
+     */
+    @Test
+    public void testLeavingFreesComputerNames() {
+        Registry registry = new Registry();
+        Lobby lobby = new Lobby("l");
+        Player bot = new ComputerPlayer("bot");
+        Player human = new NetworkPlayer("human", null);
+        for (Player p : List.of(bot, human)) {
+            assertTrue(registry.claimName(p));
+            registry.join(p, lobby);
+            registry.leave(p);
+        }
+        assertFalse(registry.isNameTaken("bot"));
+        assertTrue(registry.isNameTaken("human"));
+    }
+
+    /**
+     * tests that of several handlers that start the game of a lobby at the same time exactly one may start it, and that
+     * the lobby can start a game again once it ended.
+     */
+    @Test
+    public void testGameStartsOnce() throws InterruptedException {
+        Lobby lobby = new Lobby("race");
+        AtomicInteger started = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (lobby.startGame()) {
+                    started.incrementAndGet();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, started.get());
+        assertTrue(lobby.isGameInProgress());
+        lobby.setGameInProgress(false);
+        assertTrue(lobby.startGame());
+    }
+
+    /**
+     * tests that a client that does not connect as a human player is rejected without an answer to its handshake and
+     * without claiming its nickname.
+     */
+    @Test
+    public void testRejectedHandshakeClaimsNoName() {
+        Server server = new Server(ExecutionMode.PLATFORM, false);
+        RecordingHandler handler = new RecordingHandler(server);
+        handler.receiveMessage("MH|alice|computer_player");
+        assertEquals(List.of("ERR|E003"), handler.getSent());
+        assertFalse(server.getRegistry().isNameTaken("alice"));
+    }
+}
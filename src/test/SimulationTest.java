@@ -0,0 +1,44 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import server.controller.SimulationResult;
+import server.controller.Simulator;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SimulationTest {
+    /**
+     * tests that every simulated game is counted once, either as a win of a seat or as unfinished, in every mode.
+     */
+    @Test
+    public void testEveryGameIsRecorded() {
+        for (String mode : new String[]{"normal", "progressive", "sevenZero"}) {
+            SimulationResult result = new Simulator(3, Simulator.modeFor(mode)).run(200, 1);
+            long wins = 0;
+            for (int seat = 0; seat < result.getSeats(); seat++) {
+                wins += result.getWins(seat);
+            }
+            assertEquals(200, result.getGames());
+            assertEquals(200, wins + result.getUnfinished());
+            assertEquals(200, Arrays.stream(result.getLengthHistogram()).sum());
+        }
+    }
+
+    /**
+     * tests that a run with the same seed has the same outcome, no matter how many threads play the games.
+     */
+    @Test
+    public void testSeededRunIsReproducible() {
+        Simulator simulator = new Simulator(4, Simulator.modeFor("normal"));
+        SimulationResult single = simulator.run(300, 99, new ForkJoinPool(1));
+        SimulationResult parallel = simulator.run(300, 99, new ForkJoinPool(4));
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(single.getWins(seat), parallel.getWins(seat));
+        }
+        assertArrayEquals(single.getLengthHistogram(), parallel.getLengthHistogram());
+    }
+}
@@ -0,0 +1,87 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import server.controller.Server;
+import server.controller.SimulationResult;
+import server.controller.Simulator;
+import server.controller.contract.ServerProtocol;
+import server.model.player.ComputerPlayer;
+import server.model.player.factory.Player;
+import server.model.player.strategy.GreedyStrategy;
+import server.model.player.strategy.HeuristicStrategy;
+import server.model.player.strategy.MonteCarloStrategy;
+import server.model.player.strategy.RandomStrategy;
+import server.model.player.strategy.StrategyRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StrategyRegistryTest {
+    /**
+     * tests that every built-in engine is found by its name in any case, that a blank name gives the default engine,
+     * an unknown name none, and that a changed budget applies to the strategies created afterwards.
+     */
+    @Test
+    public void testCreatesEnginesWithinBudget() {
+        StrategyRegistry registry = new StrategyRegistry(Runnable::run);
+        assertEquals("[greedy, heuristic, montecarlo, random]", registry.names().toString());
+        assertTrue(registry.create("greedy") instanceof GreedyStrategy);
+        assertTrue(registry.create("Heuristic") instanceof HeuristicStrategy);
+        assertTrue(registry.create("random") instanceof RandomStrategy);
+        assertTrue(registry.create("") instanceof GreedyStrategy);
+        assertNull(registry.create("grandmaster"));
+        assertNotSame(registry.create("montecarlo"), registry.create("montecarlo"));
+
+        assertTrue(registry.setBudget("montecarlo", new StrategyRegistry.Budget(7, 100, 1)));
+        assertFalse(registry.setBudget("grandmaster", StrategyRegistry.Budget.NONE));
+        MonteCarloStrategy strategy = (MonteCarloStrategy) registry.create("montecarlo");
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(7), strategy.getBudgetNanos());
+        assertThrows(IllegalArgumentException.class, () -> new StrategyRegistry.Budget(10, 10, 0));
+    }
+
+    /**
+     * tests that ACP seats a computer player with the engine named in the command, and answers an unknown engine with
+     * an error without seating anyone.
+     */
+    @Test
+    public void testAddComputerPlayerWithStrategy() {
+        Server server = new Server();
+        RecordingHandler handler = new RecordingHandler(server);
+        handler.receiveMessage("MH|admin|human_player");
+        handler.receiveMessage("ACP|smart|heuristic");
+        handler.receiveMessage("ACP|plain");
+        handler.receiveMessage("ACP|wizard|grandmaster");
+
+        ComputerPlayer smart = null;
+        ComputerPlayer plain = null;
+        for (Player player : server.getMainLobby().getPlayers()) {
+            assertNotEquals("wizard", player.getNickname());
+            if (player.getNickname().equals("smart")) {
+                smart = (ComputerPlayer) player;
+            } else if (player.getNickname().equals("plain")) {
+                plain = (ComputerPlayer) player;
+            }
+        }
+        assertNotNull(smart);
+        assertNotNull(plain);
+        assertTrue(smart.getStrategy() instanceof HeuristicStrategy);
+        assertTrue(plain.getStrategy() instanceof GreedyStrategy);
+        assertEquals("ERR|" + ServerProtocol.Errors.E003, handler.last());
+    }
+
+    /**
+     * tests that the cheap engines finish simulated games in every mode, against each other and the greedy engine.
+     */
+    @Test
+    public void testCheapEnginesPlayFullGames() {
+        StrategyRegistry registry = new StrategyRegistry(Runnable::run);
+        String[] engines = {"heuristic", "random", "greedy"};
+        for (String mode : new String[]{"normal", "progressive", "sevenZero"}) {
+            Simulator simulator = new Simulator(3, Simulator.modeFor(mode),
+                    seat -> new ComputerPlayer("bot" + seat, registry.create(engines[seat])), 5000);
+            SimulationResult result = simulator.run(200, 22);
+            assertEquals(200, result.getWins(0) + result.getWins(1) + result.getWins(2) + result.getUnfinished());
+        }
+    }
+}
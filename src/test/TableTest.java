@@ -121,4 +121,22 @@ public class TableTest {
         assertEquals(FINAL_SCORE, score);
     }
 
+    /**
+     * tests that the turn stays with the current player when a player before them leaves, also when the last seat
+     * plays, and that the turn goes to the next player in the direction of play when the current player leaves.
+     */
+    @Test
+    public void testRemovePlayer() {
+        table.setCurrentTurnIndex(3);
+        table.removePlayer(players.get(0));
+        assertEquals("Luca", table.getCurrentPlayer().getNickname());
+        table.removePlayer(table.getCurrentPlayer());
+        assertEquals("MJ", table.getCurrentPlayer().getNickname());
+        table.setCurrentTurnIndex(0);
+        table.setClockWise(false);
+        table.removePlayer(table.getCurrentPlayer());
+        assertEquals("Lebron", table.getCurrentPlayer().getNickname());
+        assertEquals(1, table.getPlayers().size());
+    }
+
 }
@@ -0,0 +1,37 @@
+package test;
+
+import server.controller.UNO;
+import server.model.player.factory.Player;
+import server.model.table.Table;
+import server.model.table.gameModes.factory.PlayingMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Seats players at a table outside of a running game, so a test can set up the table it needs.
+ */
+final class Tables {
+    private Tables() {
+    }
+
+    /**
+     * Seats the players at a new table of a game.
+     *
+     * @param uno     the game the table belongs to
+     * @param mode    the playing mode of the table
+     * @param players the players in seating order
+     * @return the table, with the hands and the first card dealt
+     */
+    static Table seat(UNO uno, PlayingMode mode, Player... players) {
+        ArrayList<Player> seated = new ArrayList<>(Arrays.asList(players));
+        Table table = new Table(seated, mode, uno);
+        uno.setPlayers(seated);
+        uno.setTable(table);
+        for (Player player : seated) {
+            player.setTable(table);
+            player.setUNO(uno);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,146 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import server.controller.ExecutionMode;
+import server.controller.Server;
+import server.controller.TimerWheel;
+import server.controller.UNO;
+import server.model.player.ComputerPlayer;
+import server.model.player.factory.Player;
+import server.model.table.gameModes.Normal;
+import server.model.table.gameModes.Progressive;
+import server.model.table.gameModes.factory.PlayingMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimerWheelTest {
+    /**
+     * tests that timers fire after their delay, also when the delay is several revolutions of the wheel, and that
+     * cancelled timers never fire.
+     */
+    @Test
+    public void testTimersFireAndCancel() throws InterruptedException {
+        TimerWheel wheel = new TimerWheel(10, TimeUnit.MILLISECONDS, 8);
+        wheel.start();
+        CountDownLatch fired = new CountDownLatch(2);
+        AtomicInteger cancelledRuns = new AtomicInteger();
+        long start = System.nanoTime();
+        long[] firedAfter = new long[2];
+        wheel.schedule(30, TimeUnit.MILLISECONDS, () -> {
+            firedAfter[0] = System.nanoTime() - start;
+            fired.countDown();
+        });
+        wheel.schedule(250, TimeUnit.MILLISECONDS, () -> {
+            firedAfter[1] = System.nanoTime() - start;
+            fired.countDown();
+        });
+        TimerWheel.Timeout cancelled = wheel.schedule(50, TimeUnit.MILLISECONDS, cancelledRuns::incrementAndGet);
+        assertTrue(cancelled.cancel());
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertTrue(firedAfter[0] >= TimeUnit.MILLISECONDS.toNanos(30));
+        assertTrue(firedAfter[1] >= TimeUnit.MILLISECONDS.toNanos(250));
+        assertEquals(0, cancelledRuns.get());
+        assertTrue(cancelled.isCancelled());
+        assertFalse(cancelled.cancel());
+    }
+
+    /**
+     * tests that a large number of timers scheduled from several threads all fire exactly once.
+     */
+    @Test
+    public void testManyTimers() throws InterruptedException {
+        TimerWheel wheel = new TimerWheel(5, TimeUnit.MILLISECONDS, 64);
+        wheel.start();
+        int timers = 20_000;
+        CountDownLatch fired = new CountDownLatch(timers);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < timers / threads.length; i++) {
+                    wheel.schedule(i % 200, TimeUnit.MILLISECONDS, fired::countDown);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(fired.await(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * tests the turn timer of an event driven game: the network player is reminded twice and when the turn runs out a
+     * card is drawn for them, the lobby is told so and the game goes on.
+     */
+    @Test
+    public void testTurnTimerRemindsAndDraws() throws InterruptedException {
+        RecordingHandler handler = new RecordingHandler(new Server(ExecutionMode.PLATFORM, true));
+        List<String> sent = handler.getSent();
+        UNO uno = startTimedGame(handler, new Normal(), game -> {
+        });
+
+        String inactive = awaitInactive(sent, "BGM|alice was inactive, a card was drawn for them.", "BDC|alice");
+        assertTrue(sent.indexOf("RP|1") < sent.indexOf(inactive));
+        assertEquals(2, sent.subList(0, sent.indexOf(inactive)).stream().filter(m -> m.startsWith("RP|")).count());
+        assertTrue(uno.getTurnCount() > 0);
+    }
+
+    /**
+     * tests that a turn that runs out during a progressive stack makes the player take the stacked cards, drawing a
+     * single card is no valid move then, that the lobby is told the turn was skipped and that the game goes on.
+     */
+    @Test
+    public void testTurnTimerTakesProgressiveStack() throws InterruptedException {
+        RecordingHandler handler = new RecordingHandler(new Server(ExecutionMode.PLATFORM, true));
+        List<String> sent = handler.getSent();
+        UNO uno = startTimedGame(handler, new Progressive(), game -> game.getTable().getPlayingMode().setForwardCount(2));
+
+        awaitInactive(sent, "BGM|alice was inactive, they took the stacked cards and their turn was skipped.", "BTS|alice");
+        assertFalse(sent.contains("BDC|alice"));
+        for (int i = 0; i < 500 && uno.getTurnCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(uno.getTurnCount() > 0);
+    }
+
+    /**
+     * Starts an event driven game with a turn timer between the network player of a handler, alice, and a computer
+     * player on the server of the handler. When the game has started on the scheduler thread and waits for alice, it is
+     * handed to afterStart.
+     */
+    private static UNO startTimedGame(RecordingHandler handler, PlayingMode mode, Consumer<UNO> afterStart) {
+        Server server = handler.getServer();
+        server.getScheduler().start();
+        server.getTimers().start();
+        Player alice = handler.joinMain("alice");
+        ArrayList<Player> players = new ArrayList<>();
+        players.add(alice);
+        players.add(new ComputerPlayer("bot1"));
+        UNO uno = server.getMainLobby().getGame();
+        uno.enableTurnTimer(server.getTimers(), server.getScheduler()::submit, 600);
+        server.getScheduler().submit(() -> {
+            uno.startEventDriven(players, mode);
+            afterStart.accept(uno);
+        });
+        return uno;
+    }
+
+    /**
+     * Waits until the lobby was told that alice was inactive and then which move was made in the place of alice.
+     */
+    private static String awaitInactive(List<String> sent, String inactive, String move) throws InterruptedException {
+        for (int i = 0; i < 500 && !sent.contains(move); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(sent.contains(inactive));
+        assertTrue(sent.indexOf(inactive) < sent.indexOf(move));
+        return inactive;
+    }
+}